@@ -0,0 +1,68 @@
+package com.devtiro.ticket_platform.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files, e.g. from the parent and the head of a
+ * branch, and prints the change of every benchmark present in both.
+ * <pre>
+ * java -cp target/benchmarks.jar com.devtiro.ticket_platform.benchmarks.CompareResults base.json head.json
+ * </pre>
+ * A change is marked {@code *} when the two scores are further apart than the
+ * sum of their 99.9% error margins.
+ */
+public class CompareResults {
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("usage: CompareResults <base.json> <head.json>");
+            System.exit(2);
+        }
+        Map<String, JsonNode> base = read(Path.of(args[0]));
+        Map<String, JsonNode> head = read(Path.of(args[1]));
+        System.out.printf("%-72s %14s %14s %9s%n", "benchmark", "base", "head", "change");
+        head.forEach((name, headMetric) -> {
+            JsonNode baseMetric = base.get(name);
+            if (baseMetric == null) {
+                return;
+            }
+            double baseScore = baseMetric.path("score").asDouble();
+            double headScore = headMetric.path("score").asDouble();
+            double change = (headScore - baseScore) / baseScore * 100;
+            boolean significant = Math.abs(headScore - baseScore)
+                    > error(baseMetric) + error(headMetric);
+            System.out.printf("%-72s %14.3f %14.3f %+8.1f%%%s  %s%n", name, baseScore, headScore, change,
+                    significant ? "*" : " ", headMetric.path("scoreUnit").asText());
+        });
+    }
+
+    private static Map<String, JsonNode> read(Path file) throws IOException {
+        Map<String, JsonNode> metrics = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file.toFile())) {
+            metrics.put(key(run), run.path("primaryMetric"));
+        }
+        return metrics;
+    }
+
+    private static String key(JsonNode run) {
+        String benchmark = run.path("benchmark").asText().replaceFirst("^com\\.devtiro\\.ticket_platform\\.benchmarks\\.", "");
+        Map<String, String> params = new TreeMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> it = run.path("params").fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> param = it.next();
+            params.put(param.getKey(), param.getValue().asText());
+        }
+        return params.isEmpty() ? benchmark : benchmark + params;
+    }
+
+    private static double error(JsonNode metric) {
+        double error = metric.path("scoreError").asDouble();
+        return Double.isNaN(error) ? 0 : error;
+    }
+}
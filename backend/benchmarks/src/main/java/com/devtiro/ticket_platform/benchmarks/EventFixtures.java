@@ -0,0 +1,49 @@
+package com.devtiro.ticket_platform.benchmarks;
+
+import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.domain.entities.EventStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.TicketType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Detached entities shaped like a typical published event, for benchmarks
+ * that exercise code above the persistence layer.
+ */
+final class EventFixtures {
+    private EventFixtures() {
+    }
+
+    static Event event(int ticketTypes) {
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 12, 0);
+        Event event = new Event();
+        event.setId(UUID.randomUUID());
+        event.setName("Summer Festival " + event.getId().toString().substring(0, 8));
+        event.setVenue("Riverside Park Main Stage");
+        event.setStart(now.plusMonths(2));
+        event.setEnd(now.plusMonths(2).plusHours(8));
+        event.setSalesStart(now);
+        event.setSalesEnd(now.plusMonths(2));
+        event.setStatus(EventStatusEnum.PUBLISHED);
+        event.setCreatedAt(now);
+        event.setUpdatedAt(now);
+        List<TicketType> types = new ArrayList<>(ticketTypes);
+        for (int i = 0; i < ticketTypes; i++) {
+            TicketType ticketType = new TicketType();
+            ticketType.setId(UUID.randomUUID());
+            ticketType.setName("Tier " + i);
+            ticketType.setPrice(25.0 + i * 10);
+            ticketType.setDescription("Admission with tier " + i + " benefits and early entry");
+            ticketType.setTotalAvailable(1000);
+            ticketType.setEvent(event);
+            ticketType.setCreatedAt(now);
+            ticketType.setUpdatedAt(now);
+            types.add(ticketType);
+        }
+        event.setTicketTypes(types);
+        return event;
+    }
+}
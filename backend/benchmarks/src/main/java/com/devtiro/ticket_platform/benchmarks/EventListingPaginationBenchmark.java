@@ -0,0 +1,141 @@
+package com.devtiro.ticket_platform.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ID-page latency of an organizer's event listing on H2, comparing the offset
+ * queries behind {@code Page} (page of IDs plus {@code COUNT(*)}) with the
+ * keyset seek behind {@code Slice}. The SQL matches what Hibernate generates
+ * for the {@code EventRepository} queries, against the same composite index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class EventListingPaginationBenchmark {
+    private static final int PAGE_SIZE = 20;
+    private static final int EVENTS = 250_000;
+    private static final UUID ORGANIZER_ID = UUID.randomUUID();
+
+    @Param({"1", "10000"})
+    public int page;
+
+    private Connection connection;
+    private PreparedStatement offsetIds;
+    private PreparedStatement count;
+    private PreparedStatement seekIds;
+    private Timestamp cursorCreatedAt;
+    private UUID cursorId;
+
+    @Setup(Level.Trial)
+    public void seed() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:pagination;DB_CLOSE_DELAY=-1;QUERY_CACHE_SIZE=0;OPTIMIZE_REUSE_RESULTS=FALSE");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE events (id UUID PRIMARY KEY, organizer_id UUID NOT NULL, "
+                    + "name VARCHAR(255) NOT NULL, status VARCHAR(255) NOT NULL, created_at TIMESTAMP(6) NOT NULL)");
+            statement.execute("CREATE INDEX idx_events_organizer_created ON events (organizer_id DESC, created_at DESC, id DESC)");
+        }
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO events (id, organizer_id, name, status, created_at) VALUES (?, ?, ?, 'PUBLISHED', ?)")) {
+            for (int i = 0; i < EVENTS; i++) {
+                insert.setObject(1, UUID.randomUUID());
+                insert.setObject(2, ORGANIZER_ID);
+                insert.setString(3, "Event " + i);
+                // Several events per second so the id tie-breaker is exercised
+                insert.setTimestamp(4, Timestamp.valueOf(start.plusSeconds(i / 4)));
+                insert.addBatch();
+                if (i % 1000 == 999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        offsetIds = connection.prepareStatement("SELECT e.id FROM events e WHERE e.organizer_id = ? "
+                + "ORDER BY e.organizer_id DESC, e.created_at DESC, e.id DESC OFFSET ? ROWS FETCH FIRST ? ROWS ONLY");
+        count = connection.prepareStatement("SELECT COUNT(e.id) FROM events e WHERE e.organizer_id = ?");
+        seekIds = connection.prepareStatement(page == 1
+                ? "SELECT e.id FROM events e WHERE e.organizer_id = ? "
+                        + "ORDER BY e.organizer_id DESC, e.created_at DESC, e.id DESC FETCH FIRST ? ROWS ONLY"
+                : "SELECT e.id FROM events e WHERE e.organizer_id = ? AND (e.created_at, e.id) < (?, ?) "
+                        + "ORDER BY e.organizer_id DESC, e.created_at DESC, e.id DESC FETCH FIRST ? ROWS ONLY");
+        if (page > 1) {
+            // The cursor a client would hold after walking to the previous page
+            try (PreparedStatement last = connection.prepareStatement("SELECT e.created_at, e.id FROM events e "
+                    + "WHERE e.organizer_id = ? ORDER BY e.organizer_id DESC, e.created_at DESC, e.id DESC OFFSET ? ROWS FETCH FIRST 1 ROWS ONLY")) {
+                last.setObject(1, ORGANIZER_ID);
+                last.setInt(2, (page - 1) * PAGE_SIZE - 1);
+                try (ResultSet rs = last.executeQuery()) {
+                    rs.next();
+                    cursorCreatedAt = rs.getTimestamp(1);
+                    cursorId = rs.getObject(2, UUID.class);
+                }
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void offsetWithCount(Blackhole blackhole) throws SQLException {
+        offsetIds.setObject(1, ORGANIZER_ID);
+        offsetIds.setInt(2, (page - 1) * PAGE_SIZE);
+        offsetIds.setInt(3, PAGE_SIZE);
+        consume(offsetIds, blackhole);
+        count.setObject(1, ORGANIZER_ID);
+        consume(count, blackhole);
+    }
+
+    @Benchmark
+    public void keyset(Blackhole blackhole) throws SQLException {
+        seekIds.setObject(1, ORGANIZER_ID);
+        if (page == 1) {
+            seekIds.setInt(2, PAGE_SIZE + 1);
+        } else {
+            seekIds.setTimestamp(2, cursorCreatedAt);
+            seekIds.setObject(3, cursorId);
+            seekIds.setInt(4, PAGE_SIZE + 1);
+        }
+        consume(seekIds, blackhole);
+    }
+
+    private static void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getObject(1));
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.devtiro.ticket_platform.benchmarks;
+
+import com.devtiro.ticket_platform.domain.dtos.GetEventDetailsResponseDto;
+import com.devtiro.ticket_platform.domain.dtos.ListEventResponseDto;
+import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.mappers.EventMapper;
+import com.devtiro.ticket_platform.mappers.EventMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the generated {@link EventMapper} conversions used by the listing
+ * and details endpoints, per event.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventMapperBenchmark {
+    @Param({"1", "10"})
+    public int ticketTypes;
+
+    private final EventMapper eventMapper = new EventMapperImpl();
+    private Event event;
+
+    @Setup(Level.Trial)
+    public void createEvent() {
+        event = EventFixtures.event(ticketTypes);
+    }
+
+    @Benchmark
+    public ListEventResponseDto toListEventResponseDto() {
+        return eventMapper.toListEventResponseDto(event);
+    }
+
+    @Benchmark
+    public GetEventDetailsResponseDto toGetEventDetailsResponseDto() {
+        return eventMapper.toGetEventDetailsResponseDto(event);
+    }
+}
@@ -0,0 +1,95 @@
+package com.devtiro.ticket_platform.benchmarks;
+
+import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.domain.entities.TicketType;
+import com.devtiro.ticket_platform.search.EventSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query latency of {@link EventSearchIndex} over a synthetic catalog. Run in
+ * sample-time mode so the report includes p99/p99.9.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class EventSearchBenchmark {
+    private static final String[] WORDS = {
+            "jazz", "rock", "opera", "comedy", "festival", "summer", "winter", "night", "gala", "tour",
+            "acoustic", "symphony", "indie", "classic", "live", "arena", "hall", "park", "club", "theatre",
+            "vip", "general", "balcony", "floor", "early", "bird", "student", "family", "premium", "lounge"
+    };
+    private static final String[] QUERIES = {"jazz", "summer festival", "rock arena", "vip lounge", "opera gala night"};
+
+    @Param({"100000", "1000000"})
+    public int events;
+
+    private EventSearchIndex index;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void buildIndex() {
+        index = new EventSearchIndex();
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < events; i++) {
+            Event event = new Event();
+            event.setId(UUID.randomUUID());
+            event.setName(words(random, 3) + " " + i);
+            event.setVenue(words(random, 2));
+            TicketType ticketType = new TicketType();
+            ticketType.setName(words(random, 2));
+            ticketType.setDescription(words(random, 6));
+            event.setTicketTypes(List.of(ticketType));
+            index.index(event);
+        }
+        index.refresh();
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws IOException {
+        index.close();
+    }
+
+    @Benchmark
+    public Page<UUID> firstPage() {
+        return index.search(QUERIES[next++ % QUERIES.length], PageRequest.of(0, 20));
+    }
+
+    @Benchmark
+    public Page<UUID> deepPage() {
+        return index.search(QUERIES[next++ % QUERIES.length], PageRequest.of(50, 20));
+    }
+
+    private static String words(SplittableRandom random, int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,118 @@
+package com.devtiro.ticket_platform.benchmarks;
+
+import com.devtiro.ticket_platform.Repositories.EventRepository;
+import com.devtiro.ticket_platform.Repositories.TicketRepository;
+import com.devtiro.ticket_platform.Repositories.TicketTypeRepository;
+import com.devtiro.ticket_platform.domain.UpdateEventRequest;
+import com.devtiro.ticket_platform.domain.UpdateTicketTypeRequest;
+import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.inventory.TicketInventory;
+import com.devtiro.ticket_platform.services.impl.EventServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The in-memory part of {@code EventServiceImpl.updateEventForOrganizer}: the
+ * ticket-type reconciliation that matches request entries to existing ticket
+ * types, applies changes and collects resized and removed types. The
+ * repositories are stubs that hand back the loaded event, so no SQL or
+ * dirty-checking is measured. Calls alternate between two requests that
+ * differ in every {@code totalAvailable}, so each call resizes every type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventUpdateReconciliationBenchmark {
+    private static final UUID ORGANIZER_ID = UUID.randomUUID();
+
+    @Param({"5", "50"})
+    public int ticketTypes;
+
+    private EventServiceImpl eventService;
+    private Event event;
+    private UpdateEventRequest[] requests;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void createEvent() {
+        event = EventFixtures.event(ticketTypes);
+        EventRepository eventRepository = stub(EventRepository.class, (method, args) -> switch (method) {
+            case "findByIdAndOrganizerId" -> Optional.of(event);
+            case "save" -> args[0];
+            default -> throw new UnsupportedOperationException(method);
+        });
+        TicketInventory ticketInventory = new TicketInventory(
+                stub(TicketTypeRepository.class, (method, args) -> switch (method) {
+                    // Resizing moves the difference into the shared pool
+                    case "addUnallocated" -> 1;
+                    default -> throw new UnsupportedOperationException(method);
+                }),
+                stub(TicketRepository.class, (method, args) -> {
+                    throw new UnsupportedOperationException(method);
+                }),
+                stub(PlatformTransactionManager.class, (method, args) -> {
+                    throw new UnsupportedOperationException(method);
+                }),
+                new SimpleMeterRegistry(),
+                16,
+                100,
+                Duration.ofSeconds(30));
+        eventService = new EventServiceImpl(null, eventRepository, ticketInventory, change -> {
+        }, null, null);
+        requests = new UpdateEventRequest[]{request(1000), request(1200)};
+    }
+
+    @Benchmark
+    public Event updateEventForOrganizer() {
+        UpdateEventRequest request = requests[next];
+        next ^= 1;
+        return eventService.updateEventForOrganizer(ORGANIZER_ID, event.getId(), request);
+    }
+
+    private UpdateEventRequest request(int totalAvailable) {
+        UpdateEventRequest request = new UpdateEventRequest();
+        request.setId(event.getId());
+        request.setName(event.getName());
+        request.setStart(event.getStart());
+        request.setEnd(event.getEnd());
+        request.setVenue(event.getVenue());
+        request.setSalesStart(event.getSalesStart());
+        request.setSalesEnd(event.getSalesEnd());
+        request.setStatus(event.getStatus());
+        request.setTicketTypes(event.getTicketTypes().stream()
+                .map(ticketType -> new UpdateTicketTypeRequest(ticketType.getId(), ticketType.getName(),
+                        ticketType.getPrice(), ticketType.getDescription(), totalAvailable))
+                .toList());
+        return request;
+    }
+
+    private interface Handler {
+        Object handle(String method, Object[] args);
+    }
+
+    private static <T> T stub(Class<T> type, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> handler.handle(method.getName(), args)));
+    }
+}
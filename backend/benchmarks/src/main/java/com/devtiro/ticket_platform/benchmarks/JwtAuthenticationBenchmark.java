@@ -0,0 +1,98 @@
+package com.devtiro.ticket_platform.benchmarks;
+
+import com.devtiro.ticket_platform.config.JwtDecoderConfig;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.server.resource.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What {@code BearerTokenAuthenticationFilter} spends turning a bearer token
+ * into an {@link Authentication}: decoding through the decoder that
+ * {@link JwtDecoderConfig} builds, then converting the {@code Jwt}. Tokens are
+ * RS256 with a 2048-bit key, like Keycloak's, and keys come from an in-memory
+ * JWKS so no HTTP is involved. Each call presents the next of {@code SESSIONS}
+ * tokens, so with the cache on every call after the first round is a hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class JwtAuthenticationBenchmark {
+    private static final int SESSIONS = 1_000;
+    private static final String ISSUER = "http://127.0.0.1:9090/realms/event-ticket-platform";
+
+    @Param({"0", "10000"})
+    public long cacheSize;
+
+    private JwtAuthenticationProvider provider;
+    private BearerTokenAuthenticationToken[] tokens;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JOSEException {
+        RSAKey key = new RSAKeyGenerator(2048)
+                .keyUse(KeyUse.SIGNATURE)
+                .keyID(UUID.randomUUID().toString())
+                .algorithm(JWSAlgorithm.RS256)
+                .generate();
+        RSASSASigner signer = new RSASSASigner(key);
+        tokens = new BearerTokenAuthenticationToken[SESSIONS];
+        Instant now = Instant.now();
+        for (int i = 0; i < SESSIONS; i++) {
+            SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(),
+                    new JWTClaimsSet.Builder()
+                            .issuer(ISSUER)
+                            .subject(UUID.randomUUID().toString())
+                            .issueTime(Date.from(now))
+                            .expirationTime(Date.from(now.plus(Duration.ofHours(1))))
+                            .claim("preferred_username", "user" + i)
+                            .claim("email", "user" + i + "@example.com")
+                            .claim("scope", "openid profile email")
+                            .build());
+            jwt.sign(signer);
+            tokens[i] = new BearerTokenAuthenticationToken(jwt.serialize());
+        }
+        provider = new JwtAuthenticationProvider(new JwtDecoderConfig().jwtDecoder(
+                new ImmutableJWKSet<>(new JWKSet(key.toPublicJWK())), new SimpleMeterRegistry(),
+                ISSUER, cacheSize, Duration.ofMinutes(5)));
+    }
+
+    @Benchmark
+    public Authentication authenticate() {
+        Authentication authentication = provider.authenticate(tokens[next]);
+        next = next + 1 == SESSIONS ? 0 : next + 1;
+        return authentication;
+    }
+}
@@ -0,0 +1,85 @@
+package com.devtiro.ticket_platform.benchmarks;
+
+import com.devtiro.ticket_platform.validation.QrCodeSigner;
+import com.devtiro.ticket_platform.validation.QrCodeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-threaded sign and verify throughput of {@link QrCodeSigner}, i.e. the
+ * operations per second one core can sustain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(1)
+public class QrCodeSignerBenchmark {
+    private QrCodeSigner signer;
+    private QrCodeToken token;
+    private String signed;
+    private KeyPair ed25519;
+    private byte[] payload;
+    private byte[] ed25519Signature;
+
+    @Setup(Level.Trial)
+    public void createKeys() throws GeneralSecurityException {
+        String key = Base64.getEncoder().encodeToString(new byte[32]);
+        signer = new QrCodeSigner("1:" + key, 1, Duration.ofDays(400));
+        token = signer.issue(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        signed = signer.sign(token);
+        ed25519 = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        payload = Arrays.copyOf(Base64.getUrlDecoder().decode(signed), 58);
+        ed25519Signature = ed25519Sign();
+    }
+
+    @Benchmark
+    public String sign() {
+        return signer.sign(token);
+    }
+
+    @Benchmark
+    public Optional<QrCodeToken> verify() {
+        return signer.verify(signed);
+    }
+
+    // Baseline for the choice of HMAC: an Ed25519 signature over the same 58-byte payload
+    @Benchmark
+    public byte[] ed25519Sign() throws GeneralSecurityException {
+        Signature signature = Signature.getInstance("Ed25519");
+        signature.initSign(ed25519.getPrivate());
+        signature.update(payload);
+        return signature.sign();
+    }
+
+    @Benchmark
+    public boolean ed25519Verify() throws GeneralSecurityException {
+        Signature signature = Signature.getInstance("Ed25519");
+        signature.initVerify(ed25519.getPublic());
+        signature.update(payload);
+        return signature.verify(ed25519Signature);
+    }
+}
@@ -0,0 +1,65 @@
+package com.devtiro.ticket_platform.benchmarks;
+
+import com.devtiro.ticket_platform.domain.entities.QrCodeStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.TicketStatusEnum;
+import com.devtiro.ticket_platform.validation.QrCodeValidity;
+import com.devtiro.ticket_platform.validation.QrCodeValidityIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scan latency of {@link QrCodeValidityIndex} with a 50,000-attendee gate open.
+ * After the first pass every scan is a double entry, which takes the same path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class QrCodeValidityIndexBenchmark {
+    private static final int ATTENDEES = 50_000;
+
+    private QrCodeValidityIndex index;
+    private String[] qrValues;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void openGate() {
+        index = new QrCodeValidityIndex();
+        List<QrCodeValidity> qrCodes = new ArrayList<>(ATTENDEES);
+        qrValues = new String[ATTENDEES];
+        for (int i = 0; i < ATTENDEES; i++) {
+            qrValues[i] = UUID.randomUUID().toString();
+            qrCodes.add(new QrCodeValidity(
+                    qrValues[i], UUID.randomUUID(), QrCodeStatusEnum.ACTIVE, TicketStatusEnum.PURCHASED));
+        }
+        index.open(UUID.randomUUID(), qrCodes, Set.of());
+    }
+
+    @Benchmark
+    public Optional<QrCodeValidityIndex.Admission> knownCode() {
+        return index.admit(qrValues[next++ % ATTENDEES]);
+    }
+
+    @Benchmark
+    public Optional<QrCodeValidityIndex.Admission> unknownCode() {
+        return index.admit("forged-" + (next++ & 1023));
+    }
+}
@@ -0,0 +1,101 @@
+package com.devtiro.ticket_platform.benchmarks;
+
+import com.devtiro.ticket_platform.metrics.ServiceTimingInterceptor;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.aopalliance.aop.Advice;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What {@link ServiceTimingInterceptor} adds to a service call: a trivial
+ * service called directly, through a class proxy with no advice, and through
+ * the same proxy with the timing interceptor recording into a Prometheus
+ * registry with the percentile histogram switched on, as the application
+ * configures {@code service.invocations}. The difference between the last two
+ * is the cost of the metric.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceTimingBenchmark {
+    public interface LookupService {
+        UUID find(UUID id);
+    }
+
+    public static class LookupServiceImpl implements LookupService {
+        @Override
+        public UUID find(UUID id) {
+            return id;
+        }
+    }
+
+    private UUID id;
+    private LookupService direct;
+    private LookupService proxied;
+    private LookupService timed;
+
+    @Setup(Level.Trial)
+    public void createServices() {
+        id = UUID.randomUUID();
+        direct = new LookupServiceImpl();
+        proxied = proxy();
+
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(
+                    Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder().percentilesHistogram(true).build().merge(config);
+            }
+        });
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", registry);
+        timed = proxy(new ServiceTimingInterceptor(beanFactory.getBeanProvider(MeterRegistry.class)));
+    }
+
+    @Benchmark
+    public UUID direct() {
+        return direct.find(id);
+    }
+
+    @Benchmark
+    public UUID proxied() {
+        return proxied.find(id);
+    }
+
+    @Benchmark
+    public UUID timed() {
+        return timed.find(id);
+    }
+
+    private static LookupService proxy(Advice... advice) {
+        ProxyFactory proxyFactory = new ProxyFactory(new LookupServiceImpl());
+        proxyFactory.setProxyTargetClass(true);
+        for (Advice each : advice) {
+            proxyFactory.addAdvice(each);
+        }
+        return (LookupService) proxyFactory.getProxy();
+    }
+}
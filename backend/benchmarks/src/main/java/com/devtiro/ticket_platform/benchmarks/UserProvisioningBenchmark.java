@@ -0,0 +1,121 @@
+package com.devtiro.ticket_platform.benchmarks;
+
+import com.devtiro.ticket_platform.Repositories.UserRepository;
+import com.devtiro.ticket_platform.domain.entities.User;
+import com.devtiro.ticket_platform.filters.UserProvisioner;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of {@link UserProvisioner} for users that already exist,
+ * which is every request but a user's first. With {@code cacheSize} 0 each
+ * call runs the primary-key lookup the filter used to issue on every request;
+ * otherwise the subject is found in the in-process set. The repository is a
+ * thin JDBC stand-in on in-memory H2, so the uncached figure is a lower bound:
+ * a networked database adds a round trip on top.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class UserProvisioningBenchmark {
+    private static final int USERS = 10_000;
+
+    @Param({"0", "100000"})
+    public long cacheSize;
+
+    private Connection connection;
+    private PreparedStatement exists;
+    private UserProvisioner provisioner;
+    private Jwt[] tokens;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void seed() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:users;DB_CLOSE_DELAY=-1;QUERY_CACHE_SIZE=0;OPTIMIZE_REUSE_RESULTS=FALSE");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE users (id UUID PRIMARY KEY, name VARCHAR(255) NOT NULL, email VARCHAR(255) NOT NULL)");
+        }
+        tokens = new Jwt[USERS];
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO users (id, name, email) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < USERS; i++) {
+                UUID id = UUID.randomUUID();
+                insert.setObject(1, id);
+                insert.setString(2, "user" + i);
+                insert.setString(3, "user" + i + "@example.com");
+                insert.addBatch();
+                tokens[i] = Jwt.withTokenValue("token")
+                        .header("alg", "none")
+                        .subject(id.toString())
+                        .claim("preferred_username", "user" + i)
+                        .claim("email", "user" + i + "@example.com")
+                        .issuedAt(Instant.now())
+                        .expiresAt(Instant.now().plusSeconds(3600))
+                        .build();
+            }
+            insert.executeBatch();
+        }
+        exists = connection.prepareStatement("SELECT 1 FROM users u WHERE u.id = ? FETCH FIRST 1 ROWS ONLY");
+        provisioner = new UserProvisioner(jdbcUserRepository(), new SimpleMeterRegistry(), cacheSize);
+        for (Jwt token : tokens) {
+            provisioner.provision(token);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void existingUser() {
+        provisioner.provision(tokens[next]);
+        next = next + 1 == USERS ? 0 : next + 1;
+    }
+
+    private UserRepository jdbcUserRepository() {
+        return (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(), new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "existsById" -> exists((UUID) args[0]);
+                    case "save" -> throw new IllegalStateException("Unexpected insert of " + ((User) args[0]).getId());
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private boolean exists(UUID id) throws SQLException {
+        exists.setObject(1, id);
+        try (ResultSet rs = exists.executeQuery()) {
+            return rs.next();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.devtiro.ticket_platform.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-request user id lookup done by the controllers' {@code parseUserId}:
+ * reading the {@code sub} claim of the authenticated {@link Jwt} and parsing it
+ * with {@link UUID#fromString}. {@code fromString} alone isolates the parse.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UuidParsingBenchmark {
+    private String subject;
+    private Jwt jwt;
+
+    @Setup(Level.Trial)
+    public void createToken() {
+        subject = UUID.randomUUID().toString();
+        jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject(subject)
+                .claim("preferred_username", "user")
+                .claim("email", "user@example.com")
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(300))
+                .build();
+    }
+
+    @Benchmark
+    public UUID fromString() {
+        return UUID.fromString(subject);
+    }
+
+    @Benchmark
+    public UUID parseUserId() {
+        return UUID.fromString(jwt.getSubject());
+    }
+}
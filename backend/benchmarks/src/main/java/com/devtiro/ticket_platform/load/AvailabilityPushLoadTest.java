@@ -0,0 +1,293 @@
+package com.devtiro.ticket_platform.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * How many idle availability streams one backend holds and how many messages
+ * a second it delivers to them. The harness launches the packaged backend on
+ * the dev profile, opens {@code --connections} streams to one published event
+ * from a single selector thread, then keeps buying tickets for that event at
+ * a steady rate so every tick has something to send. Each stream should get
+ * {@code --updates-per-second} messages a second, whatever the purchase rate.
+ * <pre>
+ * java -cp target/benchmarks.jar com.devtiro.ticket_platform.load.AvailabilityPushLoadTest \
+ *     [--connections=10000] [--updates-per-second=2] [--purchases-per-second=5] [--duration=30] \
+ *     [--backend-heap=3g] [--output=target/push-test]
+ * </pre>
+ * Both JVMs need a file limit above {@code --connections}. Connections are
+ * spread over 127.0.0.1, 127.0.0.2, ... so that no source address runs out of
+ * ephemeral ports.
+ */
+public class AvailabilityPushLoadTest {
+    private static final int CONNECTIONS_PER_SOURCE_ADDRESS = 25_000;
+    private static final byte[] MESSAGE_START = "\ndata: ".getBytes(StandardCharsets.US_ASCII);
+
+    private final Map<String, String> options;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LongAdder messages = new LongAdder();
+    private final LongAdder opened = new LongAdder();
+    private final LongAdder closed = new LongAdder();
+
+    private AvailabilityPushLoadTest(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        new AvailabilityPushLoadTest(options).run();
+    }
+
+    private void run() throws Exception {
+        int connections = intOption("connections", 10_000);
+        int updatesPerSecond = intOption("updates-per-second", 2);
+        Duration duration = Duration.ofSeconds(intOption("duration", 30));
+        Path output = Path.of(option("output", "target/push-test"));
+        Files.createDirectories(output);
+
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("server.tomcat.max-connections", Integer.toString(connections + 1_000));
+        properties.put("app.inventory.push.updates-per-second", Integer.toString(updatesPerSecond));
+        try (HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+             BackendProcess backend = BackendProcess.start(
+                     Path.of(option("backend-jar", "../target/ticket-platform-0.0.1-SNAPSHOT-exec.jar")),
+                     option("backend-heap", "3g"), freePort(), properties, output.resolve("backend.log"))) {
+            backend.awaitHealthy(client, Duration.ofMinutes(2));
+            URI baseUri = backend.baseUri();
+            String[] event = seed(client, baseUri);
+            long heapBefore = liveHeap(backend);
+
+            AtomicBoolean running = new AtomicBoolean(true);
+            Thread selector = Thread.ofPlatform().name("sse-clients").daemon().start(() -> readStreams(
+                    baseUri, "/api/v1/published-events/" + event[0] + "/availability", connections, running));
+            long start = System.nanoTime();
+            while (opened.sum() + closed.sum() < connections && System.nanoTime() - start < TimeUnit.MINUTES.toNanos(5)) {
+                Thread.sleep(200);
+            }
+            double openSeconds = (System.nanoTime() - start) / 1e9;
+            long held = opened.sum() - closed.sum();
+            long heapHeld = liveHeap(backend);
+            System.out.printf("Opened %,d of %,d streams in %.1f s, backend live heap %,d MB -> %,d MB (%.1f KB per stream)%n",
+                    held, connections, openSeconds, heapBefore >> 20, heapHeld >> 20,
+                    held == 0 ? 0.0 : (heapHeld - heapBefore) / 1024.0 / held);
+
+            LongAdder purchases = new LongAdder();
+            // Paced rather than flat out: one sale per tick is enough to make every tick send, and
+            // each sale also renders a QR code that would otherwise take the CPU from the streams
+            long purchaseInterval = TimeUnit.SECONDS.toNanos(1) / intOption("purchases-per-second", 5);
+            try (ExecutorService buyer = Executors.newVirtualThreadPerTaskExecutor()) {
+                HttpRequest purchase = HttpRequest.newBuilder(baseUri.resolve(
+                                "/api/v1/events/" + event[0] + "/ticket-types/" + event[1] + "/tickets"))
+                        .POST(HttpRequest.BodyPublishers.noBody())
+                        .build();
+                buyer.submit(() -> {
+                    long next = System.nanoTime();
+                    while (running.get()) {
+                        if (client.send(purchase, HttpResponse.BodyHandlers.discarding()).statusCode() / 100 == 2) {
+                            purchases.increment();
+                        }
+                        next += purchaseInterval;
+                        TimeUnit.NANOSECONDS.sleep(next - System.nanoTime());
+                    }
+                    return null;
+                });
+                Thread.sleep(2_000);
+                long messagesBefore = messages.sum();
+                long purchasesBefore = purchases.sum();
+                Thread.sleep(duration.toMillis());
+                long delivered = messages.sum() - messagesBefore;
+                long bought = purchases.sum() - purchasesBefore;
+                running.set(false);
+
+                double seconds = duration.toSeconds();
+                System.out.printf("%-12s %12s %14s %12s %12s %14s %14s%n", "streams", "purchases/s",
+                        "messages/s", "expected/s", "dropped", "fan-out mean", "fan-out max");
+                JsonNode fanOut = metric(client, baseUri, "inventory.push.fanout");
+                System.out.printf("%-12s %12.0f %14.0f %12d %12d %11.1f ms %11.1f ms%n",
+                        String.format("%,d", held), bought / seconds, delivered / seconds,
+                        held * updatesPerSecond, closed.sum(),
+                        statistic(fanOut, "TOTAL_TIME") * 1000 / Math.max(1, statistic(fanOut, "COUNT")),
+                        statistic(fanOut, "MAX") * 1000);
+            }
+            selector.join();
+        }
+    }
+
+    private String[] seed(HttpClient client, URI baseUri) throws IOException, InterruptedException {
+        String body = "{\"name\":\"On-sale\",\"venue\":\"Arena\",\"status\":\"PUBLISHED\","
+                + "\"ticketTypes\":[{\"name\":\"General\",\"price\":10,\"totalAvailable\":100000000}]}";
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(baseUri.resolve("/api/v1/events"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException("Seeding failed with " + response.statusCode() + ": " + response.body());
+        }
+        JsonNode created = objectMapper.readTree(response.body());
+        return new String[] {created.path("id").asText(), created.path("ticketTypes").path(0).path("id").asText()};
+    }
+
+    /**
+     * Opens every stream and then reads them all until {@code running} goes
+     * false, counting messages without keeping any of them.
+     */
+    private void readStreams(URI baseUri, String path, int connections, AtomicBoolean running) {
+        byte[] request = ("GET " + path + " HTTP/1.1\r\nHost: " + baseUri.getAuthority()
+                + "\r\nAccept: text/event-stream\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+        InetSocketAddress server = new InetSocketAddress(baseUri.getHost(), baseUri.getPort());
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+        try (Selector selector = Selector.open()) {
+            int started = 0;
+            while (running.get()) {
+                // Connect in batches so the backend's accept queue never overflows
+                for (int batch = 0; batch < 500 && started < connections
+                        && started - opened.sum() - closed.sum() < 2_000; batch++, started++) {
+                    SocketChannel channel = SocketChannel.open();
+                    channel.configureBlocking(false);
+                    channel.bind(new InetSocketAddress(InetAddress.getByAddress(
+                            new byte[] {127, 0, 0, (byte) (1 + started / CONNECTIONS_PER_SOURCE_ADDRESS)}), 0));
+                    channel.connect(server);
+                    channel.register(selector, SelectionKey.OP_CONNECT, new Stream());
+                }
+                selector.select(100);
+                for (SelectionKey key : selector.selectedKeys()) {
+                    SocketChannel channel = (SocketChannel) key.channel();
+                    Stream stream = (Stream) key.attachment();
+                    try {
+                        if (key.isConnectable()) {
+                            channel.finishConnect();
+                            channel.write(ByteBuffer.wrap(request));
+                            key.interestOps(SelectionKey.OP_READ);
+                        } else if (key.isReadable()) {
+                            buffer.clear();
+                            if (channel.read(buffer) < 0) {
+                                throw new IOException("closed by the backend");
+                            }
+                            buffer.flip();
+                            stream.count(buffer);
+                        }
+                    } catch (IOException ex) {
+                        key.cancel();
+                        channel.close();
+                        closed.increment();
+                    }
+                }
+                selector.selectedKeys().clear();
+            }
+            for (SelectionKey key : selector.keys()) {
+                key.channel().close();
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException("Stream client failed", ex);
+        }
+    }
+
+    private long liveHeap(BackendProcess backend) throws IOException, InterruptedException {
+        Path jcmd = Path.of(System.getProperty("java.home"), "bin", "jcmd");
+        new ProcessBuilder(jcmd.toString(), Long.toString(backend.pid()), "GC.run")
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD).start().waitFor();
+        Process info = new ProcessBuilder(jcmd.toString(), Long.toString(backend.pid()), "GC.heap_info").start();
+        String heap = new String(info.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        info.waitFor();
+        // One line for G1, one per generation for the serial collector picked on a single CPU
+        Matcher used = Pattern.compile("total \\d+K, used (\\d+)K").matcher(heap);
+        long kilobytes = 0;
+        while (used.find()) {
+            kilobytes += Long.parseLong(used.group(1));
+        }
+        return kilobytes * 1024;
+    }
+
+    private JsonNode metric(HttpClient client, URI baseUri, String name) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(baseUri.resolve("/actuator/metrics/" + name)).build(),
+                HttpResponse.BodyHandlers.ofString());
+        return objectMapper.readTree(response.body());
+    }
+
+    private static double statistic(JsonNode metric, String statistic) {
+        for (JsonNode measurement : metric.path("measurements")) {
+            if (statistic.equals(measurement.path("statistic").asText())) {
+                return measurement.path("value").asDouble();
+            }
+        }
+        return 0;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    private int intOption(String name, int defaultValue) {
+        return Integer.parseInt(option(name, Integer.toString(defaultValue)));
+    }
+
+    /**
+     * Finds message starts in the bytes of one stream, across reads.
+     */
+    private final class Stream {
+        private int matched;
+        private boolean first = true;
+
+        void count(ByteBuffer bytes) {
+            while (bytes.hasRemaining()) {
+                byte b = bytes.get();
+                if (b == MESSAGE_START[matched]) {
+                    if (++matched == MESSAGE_START.length) {
+                        matched = 0;
+                        if (first) {
+                            first = false;
+                            opened.increment();
+                        } else {
+                            messages.increment();
+                        }
+                    }
+                } else {
+                    matched = b == MESSAGE_START[0] ? 1 : 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.devtiro.ticket_platform.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The packaged backend running in its own JVM, so that the load generator
+ * neither shares its heap nor shows up in its profiles. Output goes to a log
+ * file next to the results.
+ */
+final class BackendProcess implements AutoCloseable {
+    private final Process process;
+    private final URI baseUri;
+    private final Path log;
+
+    private BackendProcess(Process process, URI baseUri, Path log) {
+        this.process = process;
+        this.baseUri = baseUri;
+        this.log = log;
+    }
+
+    static BackendProcess start(Path jar, String heap, int port, Map<String, String> properties, Path log)
+            throws IOException {
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalArgumentException("Backend jar not found at " + jar + ", build it with ./mvnw package");
+        }
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Xms" + heap, "-Xmx" + heap, "-jar", jar.toString(), "--server.port=" + port));
+        properties.forEach((name, value) -> command.add("--" + name + "=" + value));
+        Files.createDirectories(log.getParent());
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        return new BackendProcess(process, URI.create("http://127.0.0.1:" + port), log);
+    }
+
+    URI baseUri() {
+        return baseUri;
+    }
+
+    long pid() {
+        return process.pid();
+    }
+
+    void awaitHealthy(HttpClient client, Duration timeout) throws InterruptedException {
+        HttpRequest health = HttpRequest.newBuilder(baseUri.resolve("/actuator/health"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+        Instant deadline = Instant.now().plus(timeout);
+        while (Instant.now().isBefore(deadline)) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Backend exited with " + process.exitValue() + ", see " + log);
+            }
+            try {
+                // Open to probes, and UP once the context and its database are
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException notUpYet) {
+                // keep polling
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("Backend did not become healthy within " + timeout + ", see " + log);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+}
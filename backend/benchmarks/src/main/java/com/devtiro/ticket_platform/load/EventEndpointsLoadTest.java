@@ -0,0 +1,151 @@
+package com.devtiro.ticket_platform.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop load against the {@code EventController} read endpoints of a
+ * running backend started with the dev profile (no token needed). Each client
+ * is a virtual thread that alternates between listing the organizer's events
+ * and fetching one of them, sending its next request as soon as the previous
+ * one completes.
+ * <pre>
+ * java -cp target/benchmarks.jar com.devtiro.ticket_platform.load.EventEndpointsLoadTest \
+ *     [baseUrl] [clients,clients,...] [seconds]
+ * </pre>
+ */
+public class EventEndpointsLoadTest {
+    private static final Pattern ID = Pattern.compile("\"id\":\"([0-9a-f-]{36})\"");
+    private static final int EVENTS = 50;
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8081";
+        int[] levels = Arrays.stream((args.length > 1 ? args[1] : "1000,5000,10000").split(","))
+                .mapToInt(Integer::parseInt).toArray();
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+
+        try (HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(30))
+                .build()) {
+            List<String> eventIds = seed(client, baseUrl);
+            System.out.printf("%-8s %10s %8s %10s %10s %10s%n", "clients", "req/s", "errors", "p50 ms", "p99 ms", "p99.9 ms");
+            for (int clients : levels) {
+                run(client, baseUrl, eventIds, clients, duration.dividedBy(3));
+                Result result = run(client, baseUrl, eventIds, clients, duration);
+                System.out.printf("%-8d %10.0f %8d %10.1f %10.1f %10.1f%n", clients,
+                        result.latencies.length / (double) duration.toSeconds(), result.errors,
+                        result.percentile(50), result.percentile(99), result.percentile(99.9));
+            }
+        }
+    }
+
+    private static List<String> seed(HttpClient client, String baseUrl) throws IOException, InterruptedException {
+        String body = "{\"name\":\"Load test event\",\"venue\":\"Hall\",\"status\":\"PUBLISHED\","
+                + "\"ticketTypes\":[{\"name\":\"General\",\"price\":10,\"totalAvailable\":1000}]}";
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < EVENTS; i++) {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/events"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Seeding failed with " + response.statusCode() + ": " + response.body());
+            }
+            Matcher matcher = ID.matcher(response.body());
+            matcher.find();
+            ids.add(matcher.group(1));
+        }
+        return ids;
+    }
+
+    private static Result run(HttpClient client, String baseUrl, List<String> eventIds, int clients, Duration duration)
+            throws InterruptedException {
+        HttpRequest list = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/events?page=0&size=20"))
+                .timeout(Duration.ofSeconds(60)).build();
+        List<HttpRequest> gets = eventIds.stream()
+                .map(id -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/events/" + id))
+                        .timeout(Duration.ofSeconds(60)).build())
+                .toList();
+        AtomicBoolean running = new AtomicBoolean(true);
+        Recorder[] recorders = new Recorder[clients];
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                Recorder recorder = recorders[c] = new Recorder();
+                int offset = c;
+                executor.submit(() -> {
+                    for (int i = offset; running.get(); i++) {
+                        HttpRequest request = i % 2 == 0 ? list : gets.get(i % gets.size());
+                        long start = System.nanoTime();
+                        try {
+                            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            if (!running.get()) {
+                                break;
+                            }
+                            recorder.record(System.nanoTime() - start, status == 200);
+                        } catch (IOException ex) {
+                            recorder.record(System.nanoTime() - start, false);
+                        } catch (InterruptedException ex) {
+                            return;
+                        }
+                    }
+                });
+            }
+            Thread.sleep(duration.toMillis());
+            running.set(false);
+        }
+        return Result.merge(recorders);
+    }
+
+    private static final class Recorder {
+        private long[] latencies = new long[256];
+        private int count;
+        private int errors;
+
+        void record(long nanos, boolean ok) {
+            if (!ok) {
+                errors++;
+                return;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+    }
+
+    private record Result(long[] latencies, long errors) {
+        static Result merge(Recorder[] recorders) {
+            long[] all = new long[Arrays.stream(recorders).mapToInt(r -> r.count).sum()];
+            int position = 0;
+            long errors = 0;
+            for (Recorder recorder : recorders) {
+                System.arraycopy(recorder.latencies, 0, all, position, recorder.count);
+                position += recorder.count;
+                errors += recorder.errors;
+            }
+            Arrays.sort(all);
+            return new Result(all, errors);
+        }
+
+        double percentile(double percentile) {
+            if (latencies.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.ceil(percentile / 100 * latencies.length) - 1;
+            return latencies[Math.clamp(index, 0, latencies.length - 1)] / 1_000_000.0;
+        }
+    }
+}
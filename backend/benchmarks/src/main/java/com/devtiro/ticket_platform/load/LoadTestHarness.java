@@ -0,0 +1,445 @@
+package com.devtiro.ticket_platform.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * End-to-end load test of the packaged backend behind its real resource-server
+ * security. The harness starts a {@link StandInIdentityProvider}, launches the
+ * backend against it on H2 or Postgres, mints a signed token per synthetic
+ * user and then drives a weighted mix of organizer and attendee requests from
+ * closed-loop virtual-thread clients. Latency per operation is recorded in
+ * HdrHistograms and printed as a summary; full percentile distributions are
+ * written as {@code .hgrm} files.
+ * <pre>
+ * java -cp target/benchmarks.jar com.devtiro.ticket_platform.load.LoadTestHarness \
+ *     --db=h2|postgres [--postgres-url=jdbc:postgresql://...] [--users=2000] [--organizers=100] \
+ *     [--clients=200] [--warmup=15] [--duration=60] [--mix=purchase:15,...] [--output=target/load-test]
+ * </pre>
+ * Without {@code --postgres-url}, {@code --db=postgres} starts an embedded
+ * Postgres from the binaries bundled with the harness (this refuses to run
+ * as root).
+ */
+public class LoadTestHarness {
+    private static final String DEFAULT_MIX = "create-event:2,list-events:10,get-event:8,list-published:30,"
+            + "get-published:20,purchase:15,list-tickets:10,validate:5";
+    private static final int MAX_KNOWN_TICKETS = 10_000;
+
+    private final Map<String, String> options;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+    private final List<PublishedEvent> catalogue = new CopyOnWriteArrayList<>();
+    private final Map<String, Integer> organizerByTicketType = new ConcurrentHashMap<>();
+    private final Queue<KnownTicket> knownTickets = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger knownTicketCount = new AtomicInteger();
+    private HttpClient client;
+    private URI baseUri;
+    private String[] organizerTokens;
+    private String[] attendeeTokens;
+    private List<List<String>> eventsByOrganizer;
+
+    private LoadTestHarness(Map<String, String> options) {
+        this.options = options;
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new Stats());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        new LoadTestHarness(options).run();
+    }
+
+    private void run() throws Exception {
+        String db = option("db", "h2");
+        Path output = Path.of(option("output", "target/load-test"));
+        Files.createDirectories(output);
+        EmbeddedPostgres embeddedPostgres = null;
+        try (StandInIdentityProvider identityProvider = new StandInIdentityProvider()) {
+            Map<String, String> properties = new LinkedHashMap<>();
+            properties.put("spring.profiles.active", "load-test");
+            properties.put("app.dev.disable-security", "false");
+            properties.put("spring.security.oauth2.resourceserver.jwt.issuer-uri", identityProvider.issuer());
+            properties.put("spring.jpa.show-sql", "false");
+            properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+            switch (db) {
+                case "h2" -> {
+                    properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1");
+                    properties.put("spring.datasource.username", "sa");
+                    properties.put("spring.datasource.password", "");
+                    properties.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+                }
+                case "postgres" -> {
+                    String url = options.get("postgres-url");
+                    if (url == null) {
+                        embeddedPostgres = EmbeddedPostgres.builder().start();
+                        url = embeddedPostgres.getJdbcUrl("postgres", "postgres");
+                    }
+                    properties.put("spring.datasource.url", url);
+                    properties.put("spring.datasource.username", option("postgres-user", "postgres"));
+                    properties.put("spring.datasource.password", option("postgres-password", "postgres"));
+                }
+                default -> throw new IllegalArgumentException("Unknown --db=" + db + ", expected h2 or postgres");
+            }
+
+            client = HttpClient.newBuilder()
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            try (BackendProcess backend = BackendProcess.start(
+                    Path.of(option("backend-jar", "../target/ticket-platform-0.0.1-SNAPSHOT-exec.jar")),
+                    option("backend-heap", "1g"), freePort(), properties, output.resolve(db + "-backend.log"))) {
+                backend.awaitHealthy(client, Duration.ofMinutes(2));
+                baseUri = backend.baseUri();
+                mintTokens(identityProvider);
+                seed();
+                drive(output.resolve(db));
+            } finally {
+                client.close();
+            }
+        } finally {
+            if (embeddedPostgres != null) {
+                embeddedPostgres.close();
+            }
+        }
+    }
+
+    private void mintTokens(StandInIdentityProvider identityProvider) {
+        int users = intOption("users", 2000);
+        int organizers = Math.clamp(intOption("organizers", users / 20), 1, users - 1);
+        organizerTokens = new String[organizers];
+        attendeeTokens = new String[users - organizers];
+        Duration ttl = Duration.ofHours(2);
+        for (int i = 0; i < users; i++) {
+            String token = identityProvider.mint(UUID.randomUUID(), "load-user-" + i, ttl);
+            if (i < organizers) {
+                organizerTokens[i] = token;
+            } else {
+                attendeeTokens[i - organizers] = token;
+            }
+        }
+        eventsByOrganizer = new ArrayList<>(organizers);
+        for (int i = 0; i < organizers; i++) {
+            eventsByOrganizer.add(new CopyOnWriteArrayList<>());
+        }
+        System.out.printf("Minted %d tokens (%d organizers, %d attendees)%n", users, organizers, users - organizers);
+    }
+
+    private void seed() throws Exception {
+        int perOrganizer = intOption("events-per-organizer", 2);
+        // A few at a time: the backend is still cold and this is not what is being measured
+        try (ExecutorService executor = Executors.newFixedThreadPool(4, Thread.ofVirtual().factory())) {
+            for (int organizer = 0; organizer < organizerTokens.length; organizer++) {
+                int index = organizer;
+                executor.submit(() -> {
+                    for (int i = 0; i < perOrganizer; i++) {
+                        createEvent(index, new Stats());
+                    }
+                    return null;
+                });
+            }
+        }
+        if (catalogue.isEmpty()) {
+            throw new IllegalStateException("Seeding created no events, see the backend log");
+        }
+        System.out.printf("Seeded %d events%n", catalogue.size());
+    }
+
+    private void drive(Path outputPrefix) throws Exception {
+        Operation[] weighted = weightedOperations(option("mix", DEFAULT_MIX));
+        int clients = intOption("clients", 200);
+        Duration warmup = Duration.ofSeconds(intOption("warmup", 15));
+        Duration duration = Duration.ofSeconds(intOption("duration", 60));
+        AtomicBoolean running = new AtomicBoolean(true);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (running.get()) {
+                        execute(weighted[random.nextInt(weighted.length)]);
+                    }
+                    return null;
+                });
+            }
+            System.out.printf("Warming up %d clients for %ds%n", clients, warmup.toSeconds());
+            Thread.sleep(warmup.toMillis());
+            stats.values().forEach(Stats::reset);
+            System.out.printf("Measuring for %ds%n", duration.toSeconds());
+            Thread.sleep(duration.toMillis());
+            Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+            stats.forEach((operation, stat) -> histograms.put(operation, stat.latencies.getIntervalHistogram()));
+            Map<Operation, Long> errors = new EnumMap<>(Operation.class);
+            stats.forEach((operation, stat) -> errors.put(operation, stat.errors.sum()));
+            running.set(false);
+            report(histograms, errors, duration, outputPrefix);
+        }
+    }
+
+    private void execute(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Stats stat = stats.get(operation);
+        String attendee = attendeeTokens[random.nextInt(attendeeTokens.length)];
+        switch (operation) {
+            case CREATE_EVENT -> createEvent(random.nextInt(organizerTokens.length), stat);
+            case LIST_EVENTS -> send(stat, organizerTokens[random.nextInt(organizerTokens.length)],
+                    get("/api/v1/events?page=0&size=20"));
+            case GET_EVENT -> {
+                int organizer = random.nextInt(organizerTokens.length);
+                List<String> events = eventsByOrganizer.get(organizer);
+                if (!events.isEmpty()) {
+                    send(stat, organizerTokens[organizer], get("/api/v1/events/" + events.get(random.nextInt(events.size()))));
+                }
+            }
+            case UPDATE_EVENT -> {
+                int organizer = random.nextInt(organizerTokens.length);
+                List<String> events = eventsByOrganizer.get(organizer);
+                if (events.isEmpty()) {
+                    return;
+                }
+                String eventId = events.get(random.nextInt(events.size()));
+                // Read for the current version, as an editing client would; only the PATCH is measured
+                JsonNode event = send(new Stats(), organizerTokens[organizer], get("/api/v1/events/" + eventId));
+                if (event != null) {
+                    send(stat, organizerTokens[organizer], patch("/api/v1/events/" + eventId,
+                            "{\"version\":" + event.path("version").asLong() + ",\"ticketTypes\":[{\"id\":\""
+                                    + event.path("ticketTypes").path(0).path("id").asText() + "\",\"price\":"
+                                    + (20 + random.nextInt(10)) + "}]}"));
+                }
+            }
+            case LIST_PUBLISHED -> send(stat, attendee,
+                    get("/api/v1/published-events?page=" + random.nextInt(5) + "&size=20"));
+            case GET_PUBLISHED -> send(stat, attendee,
+                    get("/api/v1/published-events/" + randomEvent(random).eventId()));
+            case PURCHASE -> {
+                PublishedEvent event = randomEvent(random);
+                send(stat, attendee, post("/api/v1/events/" + event.eventId() + "/ticket-types/"
+                        + event.ticketTypeId() + "/tickets", ""));
+            }
+            case LIST_TICKETS -> {
+                JsonNode page = send(stat, attendee, get("/api/v1/tickets?page=0&size=10"));
+                if (page != null) {
+                    for (JsonNode ticket : page.path("content")) {
+                        if (knownTicketCount.get() < MAX_KNOWN_TICKETS) {
+                            // Only the event's organizer may check the ticket in
+                            Integer organizer = organizerByTicketType.get(ticket.path("ticketType").path("id").asText());
+                            if (organizer == null) {
+                                continue;
+                            }
+                            knownTickets.add(new KnownTicket(ticket.path("id").asText(), organizer));
+                            knownTicketCount.incrementAndGet();
+                        }
+                    }
+                }
+            }
+            case VALIDATE -> {
+                KnownTicket ticket = knownTickets.poll();
+                if (ticket == null) {
+                    execute(Operation.LIST_TICKETS);
+                    return;
+                }
+                knownTicketCount.decrementAndGet();
+                send(stat, organizerTokens[ticket.organizer()], post("/api/v1/ticket-validations",
+                        "{\"id\":\"" + ticket.ticketId() + "\",\"method\":\"MANUAL\"}"));
+            }
+        }
+    }
+
+    private void createEvent(int organizer, Stats stat) {
+        String body = "{\"name\":\"Load test event\",\"venue\":\"Hall " + organizer + "\",\"status\":\"PUBLISHED\","
+                + "\"ticketTypes\":[{\"name\":\"General\",\"price\":25.0,\"totalAvailable\":1000000}]}";
+        JsonNode created = send(stat, organizerTokens[organizer], post("/api/v1/events", body));
+        if (created != null) {
+            String eventId = created.path("id").asText();
+            eventsByOrganizer.get(organizer).add(eventId);
+            String ticketTypeId = created.path("ticketTypes").path(0).path("id").asText();
+            organizerByTicketType.put(ticketTypeId, organizer);
+            catalogue.add(new PublishedEvent(eventId, ticketTypeId));
+        }
+    }
+
+    private PublishedEvent randomEvent(ThreadLocalRandom random) {
+        return catalogue.get(random.nextInt(catalogue.size()));
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).GET();
+    }
+
+    private HttpRequest.Builder post(String path, String json) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    private HttpRequest.Builder patch(String path, String json) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    /**
+     * @return the parsed response body for a successful request with content, otherwise {@code null}
+     */
+    private JsonNode send(Stats stat, String token, HttpRequest.Builder request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = client.send(request
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(Duration.ofSeconds(60))
+                    .build(), HttpResponse.BodyHandlers.ofByteArray());
+            long micros = (System.nanoTime() - start) / 1000;
+            if (response.statusCode() / 100 != 2) {
+                stat.errors.increment();
+                stat.statuses.computeIfAbsent(response.statusCode(), status -> new LongAdder()).increment();
+                return null;
+            }
+            stat.latencies.recordValue(micros);
+            return response.body().length == 0 ? null : objectMapper.readTree(response.body());
+        } catch (IOException ex) {
+            stat.errors.increment();
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private void report(Map<Operation, Histogram> histograms, Map<Operation, Long> errors, Duration duration,
+                        Path outputPrefix) throws IOException {
+        System.out.printf("%n%-15s %9s %9s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = histograms.get(operation);
+            total.add(histogram);
+            totalErrors += errors.get(operation);
+            printRow(operation.label, histogram, errors.get(operation), duration);
+            try (PrintStream out = new PrintStream(Files.newOutputStream(
+                    Path.of(outputPrefix + "-" + operation.label + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+            if (!stats.get(operation).statuses.isEmpty()) {
+                System.out.printf("%-15s   error statuses: %s%n", "", stats.get(operation).statuses);
+            }
+        }
+        printRow("total", total, totalErrors, duration);
+        System.out.printf("%nPercentile distributions written to %s-*.hgrm%n", outputPrefix);
+    }
+
+    private static void printRow(String label, Histogram histogram, long errors, Duration duration) {
+        System.out.printf("%-15s %9d %9.1f %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n", label,
+                histogram.getTotalCount(), histogram.getTotalCount() / (double) duration.toSeconds(), errors,
+                millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                histogram.getMaxValue() / 1000.0);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static Operation[] weightedOperations(String mix) {
+        List<Operation> weighted = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] labelAndWeight = entry.split(":");
+            Operation operation = Arrays.stream(Operation.values())
+                    .filter(candidate -> candidate.label.equals(labelAndWeight[0].trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown operation in --mix: " + labelAndWeight[0]));
+            for (int i = 0; i < Integer.parseInt(labelAndWeight[1].trim()); i++) {
+                weighted.add(operation);
+            }
+        }
+        if (weighted.isEmpty()) {
+            throw new IllegalArgumentException("--mix has no weighted operations");
+        }
+        return weighted.toArray(Operation[]::new);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    private int intOption(String name, int defaultValue) {
+        return Integer.parseInt(option(name, Integer.toString(defaultValue)));
+    }
+
+    private enum Operation {
+        CREATE_EVENT("create-event"),
+        LIST_EVENTS("list-events"),
+        GET_EVENT("get-event"),
+        UPDATE_EVENT("update-event"),
+        LIST_PUBLISHED("list-published"),
+        GET_PUBLISHED("get-published"),
+        PURCHASE("purchase"),
+        LIST_TICKETS("list-tickets"),
+        VALIDATE("validate");
+
+        private final String label;
+
+        Operation(String label) {
+            this.label = label;
+        }
+    }
+
+    private static final class Stats {
+        private final Recorder latencies = new Recorder(3);
+        private final LongAdder errors = new LongAdder();
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+        void reset() {
+            latencies.reset();
+            errors.reset();
+            statuses.clear();
+        }
+    }
+
+    private record PublishedEvent(String eventId, String ticketTypeId) {
+    }
+
+    private record KnownTicket(String ticketId, int organizer) {
+    }
+}
@@ -0,0 +1,132 @@
+package com.devtiro.ticket_platform.services.impl;
+
+import com.devtiro.ticket_platform.Repositories.TicketRepository;
+import com.devtiro.ticket_platform.Repositories.TicketTypeRepository;
+import com.devtiro.ticket_platform.Repositories.UserRepository;
+import com.devtiro.ticket_platform.TicketPlatformApplication;
+import com.devtiro.ticket_platform.dashboard.SalesCounters;
+import com.devtiro.ticket_platform.domain.CreateEventRequest;
+import com.devtiro.ticket_platform.domain.CreateTicketTypeRequest;
+import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.domain.entities.EventStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.QrCode;
+import com.devtiro.ticket_platform.domain.entities.QrCodeStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.Ticket;
+import com.devtiro.ticket_platform.domain.entities.TicketStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.User;
+import com.devtiro.ticket_platform.domain.events.TicketPurchasedEvent;
+import com.devtiro.ticket_platform.services.EventService;
+import com.devtiro.ticket_platform.services.impl.TicketWriteBehindBuffer.PendingTicket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tickets stored per second by 64 buyers at once, each waiting until its
+ * ticket has committed, in the application itself on the dev profile
+ * (in-memory H2). {@code savePerTicket} is the write path the buffer
+ * replaced: a transaction per ticket that saves it and its QR code through
+ * the repository. {@code writeBehind} submits to the application's
+ * {@link TicketWriteBehindBuffer}. Both publish {@link TicketPurchasedEvent}
+ * inside the transaction, so the outbox and sales counters do their usual
+ * work. Stock is not reserved, so only the write is measured. The benchmark
+ * sits in the buffer's package because the buffer is package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Threads(64)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class TicketWriteBenchmark {
+    private ConfigurableApplicationContext context;
+    private TicketRepository ticketRepository;
+    private TicketTypeRepository ticketTypeRepository;
+    private UserRepository userRepository;
+    private TransactionTemplate transactionTemplate;
+    private TicketWriteBehindBuffer writer;
+    private UUID purchaserId;
+    private UUID eventId;
+    private UUID ticketTypeId;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        // Per-ticket transactions queue on the sales summary row; let them wait rather than time out
+        context = SpringApplication.run(TicketPlatformApplication.class,
+                "--server.port=0", "--spring.main.banner-mode=off", "--logging.level.root=WARN",
+                "--spring.datasource.url=jdbc:h2:mem:ticketdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;LOCK_TIMEOUT=60000",
+                "--spring.datasource.hikari.connection-timeout=60000");
+        ticketRepository = context.getBean(TicketRepository.class);
+        ticketTypeRepository = context.getBean(TicketTypeRepository.class);
+        userRepository = context.getBean(UserRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        writer = context.getBean(TicketWriteBehindBuffer.class);
+
+        User buyer = new User();
+        buyer.setId(UUID.randomUUID());
+        buyer.setName("buyer");
+        buyer.setEmail("buyer@example.com");
+        purchaserId = userRepository.save(buyer).getId();
+        Event event = context.getBean(EventService.class).createEvent(purchaserId, new CreateEventRequest(
+                "Write path", null, null, "Arena", null, null, EventStatusEnum.PUBLISHED,
+                List.of(new CreateTicketTypeRequest("General", 10.0, null, Integer.MAX_VALUE))));
+        eventId = event.getId();
+        ticketTypeId = event.getTicketTypes().getFirst().getId();
+        // Created up front, as 64 first purchases at once would each wait for a second connection
+        context.getBean(SalesCounters.class).createMissing(List.of(ticketTypeId));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public void savePerTicket() {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            Ticket ticket = new Ticket();
+            ticket.setStatus(TicketStatusEnum.PURCHASED);
+            ticket.setTicketType(ticketTypeRepository.getReferenceById(ticketTypeId));
+            ticket.setPurchaser(userRepository.getReferenceById(purchaserId));
+            QrCode qrCode = new QrCode();
+            qrCode.setId(UUID.randomUUID());
+            qrCode.setStatus(QrCodeStatusEnum.ACTIVE);
+            qrCode.setValue(UUID.randomUUID().toString());
+            qrCode.setTicket(ticket);
+            qrCode.setCreatedAt(now);
+            qrCode.setUpdatedAt(now);
+            ticket.setQrCodes(new ArrayList<>(List.of(qrCode)));
+            Ticket saved = ticketRepository.save(ticket);
+            context.publishEvent(new TicketPurchasedEvent(saved.getId(), eventId, ticketTypeId, purchaserId, now));
+        });
+    }
+
+    @Benchmark
+    public void writeBehind() {
+        writer.submit(new PendingTicket(UUID.randomUUID(), eventId, ticketTypeId, purchaserId, UUID.randomUUID(),
+                UUID.randomUUID().toString(), LocalDateTime.now(), null, new CompletableFuture<>())).join();
+    }
+}
@@ -0,0 +1,13 @@
+package com.devtiro.ticket_platform.Repositories;
+
+import com.devtiro.ticket_platform.domain.entities.EventCheckinHour;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EventCheckinHourRepository extends JpaRepository<EventCheckinHour, EventCheckinHour.Key> {
+    List<EventCheckinHour> findByEventIdOrderByHourAsc(UUID eventId);
+}
@@ -1,17 +1,57 @@
 package com.devtiro.ticket_platform.Repositories;
 
 import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.domain.entities.EventStatusEnum;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, UUID> {
-    Page<Event> findByOrganizerId(UUID organizerId, Pageable pageable);
+    @Query(value = "SELECT e.id FROM Event e WHERE e.organizer.id = :organizerId",
+            countQuery = "SELECT COUNT(e) FROM Event e WHERE e.organizer.id = :organizerId")
+    Page<UUID> findIdsByOrganizerId(@Param("organizerId") UUID organizerId, Pageable pageable);
     Optional<Event> findByIdAndOrganizerId(UUID id,UUID organizerId);
+    @Query("SELECT COUNT(e) > 0 FROM Event e LEFT JOIN e.staff s"
+            + " WHERE e.id = :id AND (e.organizer.id = :userId OR s.id = :userId)")
+    boolean existsByIdAndOrganizerOrStaffId(@Param("id") UUID id, @Param("userId") UUID userId);
+    @Query(value = "SELECT e.id FROM Event e WHERE e.status = :status",
+            countQuery = "SELECT COUNT(e) FROM Event e WHERE e.status = :status")
+    Page<UUID> findIdsByStatus(@Param("status") EventStatusEnum status, Pageable pageable);
+    // Keyset queries: the constant leading column is repeated in ORDER BY so that
+    // H2, like Postgres, walks the (.., created_at DESC, id DESC) index in order.
+    @Query("SELECT e.id FROM Event e WHERE e.organizer.id = :organizerId ORDER BY e.organizer.id DESC, e.createdAt DESC, e.id DESC")
+    List<UUID> findLatestIdsByOrganizerId(@Param("organizerId") UUID organizerId, Limit limit);
+    @Query("SELECT e.id FROM Event e WHERE e.organizer.id = :organizerId AND (e.createdAt, e.id) < (:createdAt, :id)"
+            + " ORDER BY e.organizer.id DESC, e.createdAt DESC, e.id DESC")
+    List<UUID> findIdsByOrganizerIdBefore(
+            @Param("organizerId") UUID organizerId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Limit limit);
+    @Query("SELECT e.id FROM Event e WHERE e.status = :status ORDER BY e.status DESC, e.createdAt DESC, e.id DESC")
+    List<UUID> findLatestIdsByStatus(@Param("status") EventStatusEnum status, Limit limit);
+    @Query("SELECT e.id FROM Event e WHERE e.status = :status AND (e.createdAt, e.id) < (:createdAt, :id)"
+            + " ORDER BY e.status DESC, e.createdAt DESC, e.id DESC")
+    List<UUID> findIdsByStatusBefore(
+            @Param("status") EventStatusEnum status,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Limit limit);
+    @EntityGraph(attributePaths = "ticketTypes")
+    Optional<Event> findByIdAndStatus(UUID id, EventStatusEnum status);
+    @EntityGraph(attributePaths = "ticketTypes")
+    List<Event> findByIdIn(Collection<UUID> ids);
 }
@@ -0,0 +1,24 @@
+package com.devtiro.ticket_platform.Repositories;
+
+import com.devtiro.ticket_platform.domain.entities.PurchaseIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface PurchaseIdempotencyKeyRepository extends JpaRepository<PurchaseIdempotencyKey, UUID> {
+    Optional<PurchaseIdempotencyKey> findByUserIdAndIdempotencyKey(UUID userId, String idempotencyKey);
+    // Finished keys past retention, and claims whose purchase never stored a ticket
+    @Modifying
+    @Query("DELETE FROM PurchaseIdempotencyKey k WHERE k.createdAt < :finishedBefore"
+            + " OR (k.ticketId IS NULL AND k.createdAt < :abandonedBefore)")
+    int deleteExpired(
+            @Param("finishedBefore") LocalDateTime finishedBefore,
+            @Param("abandonedBefore") LocalDateTime abandonedBefore);
+}
@@ -0,0 +1,26 @@
+package com.devtiro.ticket_platform.Repositories;
+
+import com.devtiro.ticket_platform.domain.entities.QrCode;
+import com.devtiro.ticket_platform.domain.entities.QrCodeStatusEnum;
+import com.devtiro.ticket_platform.validation.QrCodeValidity;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface QrCodeRepository extends JpaRepository<QrCode, UUID> {
+    @EntityGraph(attributePaths = "ticket")
+    Optional<QrCode> findByValue(String value);
+    List<QrCode> findByTicketId(UUID ticketId);
+    Optional<QrCode> findFirstByTicketIdAndTicketPurchaserIdAndStatus(
+            UUID ticketId, UUID purchaserId, QrCodeStatusEnum status);
+    @Query("SELECT new com.devtiro.ticket_platform.validation.QrCodeValidity(q.value, t.id, q.status, t.status)"
+            + " FROM QrCode q JOIN q.ticket t WHERE t.ticketType.event.id = :eventId")
+    List<QrCodeValidity> findValidityByEventId(@Param("eventId") UUID eventId);
+}
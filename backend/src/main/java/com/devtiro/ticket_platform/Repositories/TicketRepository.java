@@ -0,0 +1,57 @@
+package com.devtiro.ticket_platform.Repositories;
+
+import com.devtiro.ticket_platform.domain.AttendeeExportRow;
+import com.devtiro.ticket_platform.domain.entities.Ticket;
+import com.devtiro.ticket_platform.domain.entities.TicketStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.TicketValidationStatusEnum;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Repository
+public interface TicketRepository extends JpaRepository<Ticket, UUID> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Ticket t WHERE t.id = :id")
+    Optional<Ticket> findByIdForUpdate(@Param("id") UUID id);
+    long countByTicketTypeIdAndStatus(UUID ticketTypeId, TicketStatusEnum status);
+    @Query(value = "SELECT t.id FROM Ticket t WHERE t.purchaser.id = :purchaserId",
+            countQuery = "SELECT COUNT(t) FROM Ticket t WHERE t.purchaser.id = :purchaserId")
+    Page<UUID> findIdsByPurchaserId(@Param("purchaserId") UUID purchaserId, Pageable pageable);
+    @Query("SELECT t.id FROM Ticket t WHERE t.purchaser.id = :purchaserId ORDER BY t.purchaser.id DESC, t.createdAt DESC, t.id DESC")
+    List<UUID> findLatestIdsByPurchaserId(@Param("purchaserId") UUID purchaserId, Limit limit);
+    @Query("SELECT t.id FROM Ticket t WHERE t.purchaser.id = :purchaserId AND (t.createdAt, t.id) < (:createdAt, :id)"
+            + " ORDER BY t.purchaser.id DESC, t.createdAt DESC, t.id DESC")
+    List<UUID> findIdsByPurchaserIdBefore(
+            @Param("purchaserId") UUID purchaserId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Limit limit);
+    @EntityGraph(attributePaths = "ticketType")
+    List<Ticket> findByIdIn(Collection<UUID> ids);
+    // Forward-only cursor, rows are fetched from the database a batch at a time as the stream is read
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.devtiro.ticket_platform.domain.AttendeeExportRow(t.id, t.status, tt.name, tt.price,"
+            + " p.id, p.name, p.email, t.createdAt,"
+            + " (SELECT MIN(v.createdAt) FROM TicketValidation v WHERE v.ticket = t AND v.status = :checkedIn))"
+            + " FROM Ticket t JOIN t.ticketType tt LEFT JOIN t.purchaser p WHERE tt.event.id = :eventId")
+    Stream<AttendeeExportRow> streamAttendeesByEventId(
+            @Param("eventId") UUID eventId,
+            @Param("checkedIn") TicketValidationStatusEnum checkedIn);
+}
@@ -0,0 +1,39 @@
+package com.devtiro.ticket_platform.Repositories;
+
+import com.devtiro.ticket_platform.domain.entities.TicketType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface TicketTypeRepository extends JpaRepository<TicketType, UUID> {
+    Optional<TicketType> findByIdAndEventId(UUID id, UUID eventId);
+    List<TicketType> findByEventIdAndIdIn(UUID eventId, Collection<UUID> ids);
+    // Ticket types that have sold tickets are left in place, callers compare the count
+    @Modifying
+    @Query("DELETE FROM TicketType tt WHERE tt.event.id = :eventId AND tt.id IN :ids"
+            + " AND NOT EXISTS (SELECT 1 FROM Ticket t WHERE t.ticketType.id = tt.id)")
+    int deleteUnsoldByEventIdAndIdIn(@Param("eventId") UUID eventId, @Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT tt.unallocated FROM TicketType tt WHERE tt.id = :id")
+    Integer findUnallocatedById(@Param("id") UUID id);
+    @Modifying
+    @Query("UPDATE TicketType tt SET tt.unallocated = :unallocated WHERE tt.id = :id AND tt.unallocated IS NULL")
+    int initializeUnallocated(@Param("id") UUID id, @Param("unallocated") int unallocated);
+    // The guard makes concurrent leases from several nodes safe without locking the row first
+    @Modifying
+    @Query("UPDATE TicketType tt SET tt.unallocated = tt.unallocated - :quantity"
+            + " WHERE tt.id = :id AND tt.unallocated >= :quantity")
+    int leaseUnallocated(@Param("id") UUID id, @Param("quantity") int quantity);
+    @Modifying
+    @Query("UPDATE TicketType tt SET tt.unallocated = tt.unallocated + :quantity"
+            + " WHERE tt.id = :id AND tt.unallocated IS NOT NULL")
+    int addUnallocated(@Param("id") UUID id, @Param("quantity") int quantity);
+}
@@ -0,0 +1,20 @@
+package com.devtiro.ticket_platform.Repositories;
+
+import com.devtiro.ticket_platform.domain.TicketTypeSalesSummary;
+import com.devtiro.ticket_platform.domain.entities.TicketTypeSales;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TicketTypeSalesRepository extends JpaRepository<TicketTypeSales, UUID> {
+    @Query("SELECT new com.devtiro.ticket_platform.domain.TicketTypeSalesSummary("
+            + "tt.id, tt.name, tt.price, tt.totalAvailable, s.sold, s.held, s.validated, s.grossRevenue)"
+            + " FROM TicketType tt LEFT JOIN TicketTypeSales s ON s.ticketTypeId = tt.id"
+            + " WHERE tt.event.id = :eventId ORDER BY tt.name, tt.id")
+    List<TicketTypeSalesSummary> findSummariesByEventId(@Param("eventId") UUID eventId);
+}
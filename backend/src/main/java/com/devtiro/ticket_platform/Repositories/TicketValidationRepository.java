@@ -0,0 +1,22 @@
+package com.devtiro.ticket_platform.Repositories;
+
+import com.devtiro.ticket_platform.domain.entities.TicketValidation;
+import com.devtiro.ticket_platform.domain.entities.TicketValidationStatusEnum;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TicketValidationRepository extends JpaRepository<TicketValidation, UUID> {
+    boolean existsByTicketIdAndStatus(UUID ticketId, TicketValidationStatusEnum status);
+    long countByTicketId(UUID ticketId);
+    @Query("SELECT DISTINCT v.ticket.id FROM TicketValidation v"
+            + " WHERE v.status = :status AND v.ticket.ticketType.event.id = :eventId")
+    List<UUID> findTicketIdsByEventIdAndStatus(
+            @Param("eventId") UUID eventId,
+            @Param("status") TicketValidationStatusEnum status);
+}
@@ -0,0 +1,220 @@
+package com.devtiro.ticket_platform.admission;
+
+import com.devtiro.ticket_platform.admission.AdmissionTokenSigner.Kind;
+import com.devtiro.ticket_platform.admission.AdmissionTokenSigner.Token;
+import com.devtiro.ticket_platform.cache.PublishedEventCache;
+import com.devtiro.ticket_platform.domain.dtos.GetEventDetailsResponseDto;
+import com.devtiro.ticket_platform.domain.dtos.QueueStatusDto;
+import com.devtiro.ticket_platform.exceptions.AdmissionRequiredException;
+import com.devtiro.ticket_platform.exceptions.EventNotFoundException;
+import com.devtiro.ticket_platform.exceptions.InvalidQueueTokenException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admission control for on-sale starts. From the moment an event is published
+ * with a {@code salesStart} until {@code window} after it, buying a ticket
+ * takes a pass. Buyers join the event's queue and get a signed token with
+ * their position. Once sales start, a ticker admits {@code rate} positions a
+ * second, in order, and a buyer whose position has been reached gets a pass
+ * valid for {@code pass-ttl}. Outside the window no pass is needed.
+ * <p>
+ * A queue is two counters, positions issued and positions admitted, so joins
+ * and status checks never touch the database and queued buyers cost nothing
+ * but their tokens. Queues live on one node: with several nodes, route each
+ * event's queue to one of them or every node admits at the full rate.
+ */
+@Component
+@Slf4j
+public class AdmissionQueue {
+    private final PublishedEventCache publishedEventCache;
+    private final AdmissionTokenSigner signer;
+    private final double rate;
+    private final Duration window;
+    private final Duration passTtl;
+    private final ConcurrentMap<UUID, EventQueue> queues = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService ticker;
+    private long lastTick = System.nanoTime();
+
+    public AdmissionQueue(
+            PublishedEventCache publishedEventCache,
+            AdmissionTokenSigner signer,
+            MeterRegistry meterRegistry,
+            @Value("${app.admission.rate:100}") double rate,
+            @Value("${app.admission.window:2h}") Duration window,
+            @Value("${app.admission.pass-ttl:10m}") Duration passTtl,
+            @Value("${app.admission.tick:100ms}") Duration tick) {
+        this.publishedEventCache = publishedEventCache;
+        this.signer = signer;
+        this.rate = rate;
+        this.window = window;
+        this.passTtl = passTtl;
+        Gauge.builder("admission.queue.waiting", queues,
+                        waiting -> waiting.values().stream().mapToLong(EventQueue::waiting).sum())
+                .description("Buyers queued and not yet admitted, across events")
+                .register(meterRegistry);
+        this.ticker = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("admission-queue").daemon().factory());
+        ticker.scheduleAtFixedRate(this::tick, tick.toNanos(), tick.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Puts the buyer at the back of the event's queue. Outside the on-sale
+     * window they are admitted straight away.
+     */
+    public QueueStatusDto join(UUID eventId, UUID userId) {
+        GetEventDetailsResponseDto event = publishedEvent(eventId);
+        LocalDateTime now = LocalDateTime.now();
+        if (!isGated(event, now)) {
+            return admitted(null, 0, eventId, userId);
+        }
+        long position = queues.computeIfAbsent(eventId, EventQueue::new).issued.incrementAndGet();
+        String token = signer.sign(new Token(Kind.POSITION, eventId, userId, position));
+        return status(token, position, event, userId, now);
+    }
+
+    /**
+     * Where the holder of {@code token} stands, with a fresh pass once their
+     * position has been admitted.
+     */
+    public QueueStatusDto status(UUID eventId, UUID userId, String token) {
+        Token position = signer.verify(token, Kind.POSITION)
+                .filter(verified -> verified.eventId().equals(eventId) && verified.userId().equals(userId))
+                .orElseThrow(() -> new InvalidQueueTokenException("Queue token is not valid for this event"));
+        GetEventDetailsResponseDto event = publishedEvent(eventId);
+        LocalDateTime now = LocalDateTime.now();
+        if (!isGated(event, now)) {
+            return admitted(token, position.value(), eventId, userId);
+        }
+        return status(token, position.value(), event, userId, now);
+    }
+
+    /**
+     * Lets a purchase through if the event is outside its on-sale window or
+     * {@code pass} admits this buyer to it.
+     *
+     * @throws AdmissionRequiredException otherwise
+     */
+    public void checkPass(UUID eventId, UUID userId, String pass) {
+        Optional<GetEventDetailsResponseDto> event = publishedEventCache.getPublishedEvent(eventId);
+        if (event.isEmpty() || !isGated(event.get(), LocalDateTime.now())) {
+            return;
+        }
+        boolean admitted = pass != null && signer.verify(pass, Kind.PASS)
+                .filter(verified -> verified.eventId().equals(eventId) && verified.userId().equals(userId))
+                .filter(verified -> verified.value() > Instant.now().getEpochSecond())
+                .isPresent();
+        if (!admitted) {
+            throw new AdmissionRequiredException(String.format(
+                    "A queue pass is required to buy tickets for event '%s'", eventId));
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        ticker.shutdownNow();
+    }
+
+    private void tick() {
+        try {
+            long now = System.nanoTime();
+            admit(Duration.ofNanos(now - lastTick));
+            lastTick = now;
+        } catch (RuntimeException ex) {
+            log.warn("Could not advance admission queues", ex);
+        }
+    }
+
+    /**
+     * Admits {@code elapsed} worth of positions from every queue whose sales
+     * have started, and drops queues whose window has closed.
+     */
+    void admit(Duration elapsed) {
+        LocalDateTime now = LocalDateTime.now();
+        for (EventQueue queue : queues.values()) {
+            Optional<GetEventDetailsResponseDto> event = publishedEventCache.getPublishedEvent(queue.eventId);
+            if (event.isEmpty() || !isGated(event.get(), now)) {
+                queues.remove(queue.eventId);
+            } else if (!now.isBefore(event.get().getSalesStart())) {
+                queue.admit(rate * elapsed.toNanos() / TimeUnit.SECONDS.toNanos(1));
+            }
+        }
+    }
+
+    private QueueStatusDto status(
+            String token, long position, GetEventDetailsResponseDto event, UUID userId, LocalDateTime now) {
+        EventQueue queue = queues.computeIfAbsent(event.getId(), EventQueue::new);
+        // A token from before a restart, or from another node, keeps its place ahead of later joiners
+        queue.issued.accumulateAndGet(position, Math::max);
+        long ahead = position - queue.admitted;
+        if (ahead <= 0) {
+            return admitted(token, position, event.getId(), userId);
+        }
+        long untilSalesStart = Math.max(0, Duration.between(now, event.getSalesStart()).toSeconds());
+        long estimatedWait = untilSalesStart + (long) Math.ceil(ahead / rate);
+        return new QueueStatusDto(token, position, ahead, estimatedWait, false, null, null);
+    }
+
+    private QueueStatusDto admitted(String token, long position, UUID eventId, UUID userId) {
+        Instant expiresAt = Instant.now().plus(passTtl);
+        String pass = signer.sign(new Token(Kind.PASS, eventId, userId, expiresAt.getEpochSecond()));
+        return new QueueStatusDto(token, position, 0, 0, true, pass,
+                LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()));
+    }
+
+    private GetEventDetailsResponseDto publishedEvent(UUID eventId) {
+        return publishedEventCache.getPublishedEvent(eventId)
+                .orElseThrow(() -> new EventNotFoundException(
+                        String.format("Event with ID '%s' does not exist", eventId)));
+    }
+
+    private boolean isGated(GetEventDetailsResponseDto event, LocalDateTime now) {
+        return event.getSalesStart() != null && now.isBefore(event.getSalesStart().plus(window));
+    }
+
+    private static final class EventQueue {
+        private final UUID eventId;
+        private final AtomicLong issued = new AtomicLong();
+        // Written by the ticker only
+        private volatile long admitted;
+        private double credit;
+
+        private EventQueue(UUID eventId) {
+            this.eventId = eventId;
+        }
+
+        private void admit(double positions) {
+            long waiting = waiting();
+            if (waiting <= 0) {
+                // Quiet spells do not bank admissions for the next surge
+                credit = 0;
+                return;
+            }
+            credit += positions;
+            long admitting = Math.min(waiting, (long) credit);
+            credit -= admitting;
+            admitted += admitting;
+        }
+
+        private long waiting() {
+            return issued.get() - admitted;
+        }
+    }
+}
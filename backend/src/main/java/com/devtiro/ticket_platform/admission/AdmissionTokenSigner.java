@@ -0,0 +1,117 @@
+package com.devtiro.ticket_platform.admission;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Signs the two tokens a queued buyer holds: their place in an event's queue
+ * and, once admitted, the pass the purchase path checks. Both are version,
+ * kind, event id, user id and a value (the position, or the pass expiry in
+ * epoch seconds) followed by a 128-bit HMAC-SHA256, base64url encoded. Nothing
+ * about a queued buyer is stored server-side, so a million of them cost no heap.
+ * <p>
+ * Every node that serves the queue must share {@code app.admission.signing-key}
+ * (base64, 256 bits or more) or it will reject the others' tokens.
+ */
+@Component
+@Slf4j
+class AdmissionTokenSigner {
+    private static final byte VERSION = 1;
+    private static final int MAC_BYTES = 16;
+    private static final int PAYLOAD_BYTES = 2 + 2 * 2 * Long.BYTES + Long.BYTES;
+    private static final int TOKEN_BYTES = PAYLOAD_BYTES + MAC_BYTES;
+    private static final String ALGORITHM = "HmacSHA256";
+
+    enum Kind { POSITION, PASS }
+
+    record Token(Kind kind, UUID eventId, UUID userId, long value) {
+    }
+
+    private final Mac key;
+
+    AdmissionTokenSigner(@Value("${app.admission.signing-key:}") String key) {
+        byte[] secret;
+        if (key.isBlank()) {
+            log.warn("No admission signing key configured, using a random key: queue tokens will not survive a restart");
+            secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+        } else {
+            secret = Base64.getDecoder().decode(key);
+        }
+        if (secret.length < 32) {
+            throw new IllegalArgumentException("The admission signing key must be at least 256 bits");
+        }
+        try {
+            this.key = Mac.getInstance(ALGORITHM);
+            this.key.init(new SecretKeySpec(secret, ALGORITHM));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Unable to initialise admission signing key", ex);
+        }
+    }
+
+    String sign(Token token) {
+        ByteBuffer buffer = ByteBuffer.allocate(TOKEN_BYTES);
+        buffer.put(VERSION);
+        buffer.put((byte) token.kind().ordinal());
+        putUuid(buffer, token.eventId());
+        putUuid(buffer, token.userId());
+        buffer.putLong(token.value());
+        byte[] bytes = buffer.array();
+        System.arraycopy(mac(bytes), 0, bytes, PAYLOAD_BYTES, MAC_BYTES);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * @return the token, or empty if {@code value} is not a token of that kind
+     * signed with this key
+     */
+    Optional<Token> verify(String value, Kind kind) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(value);
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+        if (bytes.length != TOKEN_BYTES || bytes[0] != VERSION || bytes[1] != kind.ordinal()) {
+            return Optional.empty();
+        }
+        byte[] expected = Arrays.copyOf(mac(bytes), MAC_BYTES);
+        if (!MessageDigest.isEqual(expected, Arrays.copyOfRange(bytes, PAYLOAD_BYTES, TOKEN_BYTES))) {
+            return Optional.empty();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 2, PAYLOAD_BYTES - 2);
+        return Optional.of(new Token(kind, getUuid(buffer), getUuid(buffer), buffer.getLong()));
+    }
+
+    private byte[] mac(byte[] bytes) {
+        try {
+            // Mac instances are not thread-safe; a clone of the keyed prototype skips the key setup
+            Mac mac = (Mac) key.clone();
+            mac.update(bytes, 0, PAYLOAD_BYTES);
+            return mac.doFinal();
+        } catch (CloneNotSupportedException ex) {
+            throw new IllegalStateException("HMAC implementation cannot be cloned", ex);
+        }
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID id) {
+        buffer.putLong(id.getMostSignificantBits());
+        buffer.putLong(id.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
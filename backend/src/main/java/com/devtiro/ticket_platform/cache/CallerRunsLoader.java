@@ -0,0 +1,45 @@
+package com.devtiro.ticket_platform.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Fills missing {@link AsyncCache} entries on the calling thread.
+ * <p>
+ * A synchronous Caffeine cache runs its loader inside
+ * {@code ConcurrentHashMap.compute}, holding the monitor of the hash bin. A
+ * loader that queries the database would keep a virtual thread pinned to its
+ * carrier for the whole query and stall other keys in the same bin. Here only
+ * an empty future is installed under that lock. The first caller then loads
+ * the value outside it, and concurrent callers for the same key wait on the
+ * future.
+ */
+public final class CallerRunsLoader {
+    private CallerRunsLoader() {
+    }
+
+    /**
+     * @return the cached value for {@code key}, loading it with {@code loader}
+     * if absent. A {@code null} result is returned but not cached.
+     */
+    public static <K, V> V get(AsyncCache<K, V> cache, K key, Function<? super K, ? extends V> loader) {
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> loading);
+        if (future == loading) {
+            try {
+                loading.complete(loader.apply(key));
+            } catch (RuntimeException | Error ex) {
+                loading.completeExceptionally(ex);
+                throw ex;
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.devtiro.ticket_platform.cache;
+
+import com.devtiro.ticket_platform.domain.dtos.GetEventDetailsResponseDto;
+import com.devtiro.ticket_platform.domain.dtos.ListEventResponseDto;
+import com.devtiro.ticket_platform.domain.events.EventChangedEvent;
+import com.devtiro.ticket_platform.domain.events.EventsImportedEvent;
+import com.devtiro.ticket_platform.mappers.EventMapper;
+import com.devtiro.ticket_platform.outbox.OutboxMessage;
+import com.devtiro.ticket_platform.outbox.OutboxSubscriber;
+import com.devtiro.ticket_platform.services.EventService;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read-through cache of mapped published-event responses. Entries are evicted
+ * as soon as a change to the event commits; the TTL only bounds how long an
+ * entry can live if an invalidation is ever missed. Changes committed on
+ * other nodes arrive through the outbox a moment later.
+ */
+@Component
+public class PublishedEventCache implements OutboxSubscriber {
+    private final EventService eventService;
+    private final EventMapper eventMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AsyncCache<UUID, GetEventDetailsResponseDto> details;
+    private final AsyncCache<Pageable, Page<ListEventResponseDto>> listings;
+
+    public PublishedEventCache(
+            EventService eventService,
+            EventMapper eventMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.published-events.max-size:10000}") long maxSize,
+            @Value("${app.cache.published-events.ttl:10m}") Duration ttl) {
+        this.eventService = eventService;
+        this.eventMapper = eventMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.details = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync(), "published-events.details");
+        this.listings = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(Math.max(1, maxSize / 10))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync(), "published-events.listings");
+    }
+
+    public Optional<GetEventDetailsResponseDto> getPublishedEvent(UUID eventId) {
+        return Optional.ofNullable(CallerRunsLoader.get(details, eventId, id -> readOnlyTransaction.execute(status ->
+                eventService.getPublishedEvent(id)
+                        .map(eventMapper::toGetEventDetailsResponseDto)
+                        .orElse(null))));
+    }
+
+    public Page<ListEventResponseDto> listPublishedEvents(Pageable pageable) {
+        return CallerRunsLoader.get(listings, pageable, page -> readOnlyTransaction.execute(status ->
+                eventService.listPublishedEvents(page).map(eventMapper::toListEventResponseDto)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEventChanged(EventChangedEvent change) {
+        details.synchronous().invalidate(change.eventId());
+        if (change.affectsPublishedEvents()) {
+            listings.synchronous().invalidateAll();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEventsImported(EventsImportedEvent imported) {
+        details.synchronous().invalidateAll(imported.eventIds());
+        listings.synchronous().invalidateAll();
+    }
+
+    @Override
+    public void onOutboxMessages(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            if (!message.local()) {
+                message.events(EventChangedEvent.class).forEach(this::onEventChanged);
+                message.events(EventsImportedEvent.class).forEach(this::onEventsImported);
+            }
+        }
+    }
+}
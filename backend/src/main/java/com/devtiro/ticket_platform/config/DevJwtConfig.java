@@ -1,6 +1,7 @@
 package com.devtiro.ticket_platform.config;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -12,6 +13,7 @@
 import java.util.Map;
 
 @Configuration
+@ConditionalOnProperty(prefix = "app.dev", name = "disable-security", havingValue = "true")
 public class DevJwtConfig {
 
     @Bean
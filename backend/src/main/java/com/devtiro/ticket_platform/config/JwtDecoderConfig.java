@@ -0,0 +1,131 @@
+package com.devtiro.ticket_platform.config;
+
+import com.devtiro.ticket_platform.security.CachingJwtDecoder;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSetCacheRefreshEvaluator;
+import com.nimbusds.jose.jwk.source.JWKSetSource;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.jwk.source.URLBasedJWKSetSource;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.DefaultResourceRetriever;
+import com.nimbusds.jose.util.JSONObjectUtils;
+import com.nimbusds.jose.util.ResourceRetriever;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Replaces Boot's issuer-uri decoder with one that keeps the issuer's JWKS
+ * fresh in the background and skips verification for tokens it has already
+ * seen. Keys are reloaded {@code refresh-ahead} before the cached set expires,
+ * so no request waits on the identity provider for a routine reload; a token
+ * signed with a key that is not in the set yet still triggers one immediate,
+ * rate-limited reload. Set {@code app.security.jwt-cache.max-size} to 0 to
+ * verify every request.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.dev", name = "disable-security", havingValue = "false", matchIfMissing = true)
+public class JwtDecoderConfig {
+
+    @Bean
+    public JWKSource<SecurityContext> issuerJwkSource(
+            @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri}") String issuerUri,
+            @Value("${app.security.jwks.ttl:10m}") Duration ttl,
+            @Value("${app.security.jwks.refresh-ahead:1m}") Duration refreshAhead) {
+        return JWKSourceBuilder.create(new DiscoveredJwkSetSource(issuerUri, new DefaultResourceRetriever(
+                        JWKSourceBuilder.DEFAULT_HTTP_CONNECT_TIMEOUT,
+                        JWKSourceBuilder.DEFAULT_HTTP_READ_TIMEOUT,
+                        JWKSourceBuilder.DEFAULT_HTTP_SIZE_LIMIT)))
+                .cache(ttl.toMillis(), JWKSourceBuilder.DEFAULT_CACHE_REFRESH_TIMEOUT)
+                .refreshAheadCache(refreshAhead.toMillis(), true)
+                .retrying(true)
+                .build();
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(
+            JWKSource<SecurityContext> issuerJwkSource,
+            MeterRegistry meterRegistry,
+            @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri}") String issuerUri,
+            @Value("${app.security.jwt-cache.max-size:10000}") long maxSize,
+            @Value("${app.security.jwt-cache.max-ttl:5m}") Duration maxTtl) {
+        Set<JWSAlgorithm> algorithms = new HashSet<>(JWSAlgorithm.Family.RSA);
+        algorithms.addAll(JWSAlgorithm.Family.EC);
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(algorithms, issuerJwkSource));
+        // Claims are checked by the Spring validators below, as in NimbusJwtDecoder's own builders
+        processor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+        NimbusJwtDecoder verifying = new NimbusJwtDecoder(processor);
+        verifying.setJwtValidator(JwtValidators.createDefaultWithIssuer(issuerUri));
+        return maxSize > 0 ? new CachingJwtDecoder(verifying, maxSize, maxTtl, meterRegistry) : verifying;
+    }
+
+    /**
+     * Reads the JWKS location from the issuer's discovery document on first
+     * use, like Boot's issuer-uri support, so the application starts even when
+     * the identity provider is not reachable yet.
+     */
+    private static final class DiscoveredJwkSetSource implements JWKSetSource<SecurityContext> {
+        private final String issuerUri;
+        private final ResourceRetriever retriever;
+        private volatile URLBasedJWKSetSource<SecurityContext> jwks;
+
+        DiscoveredJwkSetSource(String issuerUri, ResourceRetriever retriever) {
+            this.issuerUri = issuerUri;
+            this.retriever = retriever;
+        }
+
+        @Override
+        public JWKSet getJWKSet(JWKSetCacheRefreshEvaluator refreshEvaluator, long currentTime, SecurityContext context)
+                throws KeySourceException {
+            URLBasedJWKSetSource<SecurityContext> source = jwks;
+            if (source == null) {
+                source = jwks = new URLBasedJWKSetSource<>(discoverJwkSetUrl(), retriever);
+            }
+            return source.getJWKSet(refreshEvaluator, currentTime, context);
+        }
+
+        private URL discoverJwkSetUrl() throws KeySourceException {
+            String trimmed = issuerUri.endsWith("/") ? issuerUri.substring(0, issuerUri.length() - 1) : issuerUri;
+            try {
+                Map<String, Object> configuration = JSONObjectUtils.parse(retriever
+                        .retrieveResource(URI.create(trimmed + "/.well-known/openid-configuration").toURL())
+                        .getContent());
+                if (!issuerUri.equals(JSONObjectUtils.getString(configuration, "issuer"))) {
+                    throw new KeySourceException("Discovery document of " + issuerUri + " names a different issuer");
+                }
+                URI jwksUri = JSONObjectUtils.getURI(configuration, "jwks_uri");
+                if (jwksUri == null) {
+                    throw new KeySourceException("Discovery document of " + issuerUri + " has no jwks_uri");
+                }
+                return jwksUri.toURL();
+            } catch (IOException | ParseException ex) {
+                throw new KeySourceException("Unable to discover the JWKS of " + issuerUri, ex);
+            }
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
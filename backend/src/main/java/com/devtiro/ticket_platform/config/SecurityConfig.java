@@ -1,22 +1,70 @@
 package com.devtiro.ticket_platform.config;
 
 import com.devtiro.ticket_platform.filters.UserProvisioningFilter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 
 @Configuration
 public class SecurityConfig {
 
+    /**
+     * Health is open to probes. The Prometheus scrape takes HTTP Basic with
+     * the configured scrape credentials rather than a Keycloak token, which a
+     * scraper cannot obtain; without a password nobody can scrape. The other
+     * endpoints stay behind {@link #filterChain}.
+     */
+    @Bean
+    @Order(1)
+    @ConditionalOnProperty(prefix = "app.dev", name = "disable-security", havingValue = "false", matchIfMissing = true)
+    public SecurityFilterChain actuatorFilterChain(
+            HttpSecurity http,
+            @Value("${app.metrics.scrape.username}") String scrapeUsername,
+            @Value("${app.metrics.scrape.password:}") String scrapePassword
+    ) throws Exception {
+        InMemoryUserDetailsManager scrapers = new InMemoryUserDetailsManager();
+        if (!scrapePassword.isBlank()) {
+            PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+            scrapers.createUser(User.withUsername(scrapeUsername)
+                    .password(passwordEncoder.encode(scrapePassword))
+                    .roles("METRICS")
+                    .build());
+        }
+
+        http
+                .securityMatcher(EndpointRequest.to("health", "prometheus"))
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(EndpointRequest.to("health")).permitAll()
+                        .anyRequest().hasRole("METRICS")
+                )
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session ->
+                        session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
+                .httpBasic(Customizer.withDefaults())
+                .userDetailsService(scrapers);
+
+        return http.build();
+    }
+
     @Bean
     public SecurityFilterChain filterChain(
             HttpSecurity http,
             UserProvisioningFilter userProvisioningFilter,
+            ObjectProvider<DevAuthenticationFilter> devAuthenticationFilter,
             @Value("${app.dev.disable-security:false}") boolean disableSecurity
     ) throws Exception {
 
@@ -29,7 +77,9 @@ public SecurityFilterChain filterChain(
                     .sessionManagement(session ->
                             session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                     )
-                    .addFilterAfter(userProvisioningFilter, BearerTokenAuthenticationFilter.class);
+                    .addFilterAfter(userProvisioningFilter, BearerTokenAuthenticationFilter.class)
+                    // The dev token has to be in place before users are provisioned from it
+                    .addFilterBefore(devAuthenticationFilter.getObject(), UserProvisioningFilter.class);
 
             return http.build();
         }
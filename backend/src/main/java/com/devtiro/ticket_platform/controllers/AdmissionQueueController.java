@@ -0,0 +1,51 @@
+package com.devtiro.ticket_platform.controllers;
+
+import com.devtiro.ticket_platform.admission.AdmissionQueue;
+import com.devtiro.ticket_platform.domain.dtos.QueueStatusDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * The waiting room in front of an event's on-sale start. Buyers join once,
+ * then poll with the returned token until the status carries a pass, which
+ * goes in the {@code X-Queue-Pass} header of their purchases.
+ */
+@RestController
+@RequestMapping(path = "/api/v1/events/{eventId}/queue")
+@RequiredArgsConstructor
+public class AdmissionQueueController {
+    private static final String QUEUE_TOKEN_HEADER = "X-Queue-Token";
+
+    private final AdmissionQueue admissionQueue;
+
+    @PostMapping
+    public ResponseEntity<QueueStatusDto> joinQueue(
+            @AuthenticationPrincipal Jwt jwt,
+            @PathVariable UUID eventId
+    ){
+        return ResponseEntity.ok(admissionQueue.join(eventId, parseUserId(jwt)));
+    }
+
+    @GetMapping
+    public ResponseEntity<QueueStatusDto> getQueueStatus(
+            @AuthenticationPrincipal Jwt jwt,
+            @PathVariable UUID eventId,
+            @RequestHeader(QUEUE_TOKEN_HEADER) String token
+    ){
+        return ResponseEntity.ok(admissionQueue.status(eventId, parseUserId(jwt), token));
+    }
+
+    private UUID parseUserId(Jwt jwt){
+        return UUID.fromString(jwt.getSubject());
+    }
+}
@@ -1,31 +1,62 @@
 package com.devtiro.ticket_platform.controllers;
 
+import com.devtiro.ticket_platform.domain.AttendeeExportFormatEnum;
 import com.devtiro.ticket_platform.domain.CreateEventRequest;
+import com.devtiro.ticket_platform.domain.PageCursor;
+import com.devtiro.ticket_platform.domain.PatchEventRequest;
 import com.devtiro.ticket_platform.domain.dtos.CreateEventRequestDto;
 import com.devtiro.ticket_platform.domain.dtos.CreateEventResponseDto;
+import com.devtiro.ticket_platform.domain.dtos.CursorPageResponseDto;
+import com.devtiro.ticket_platform.domain.dtos.EventImportResultDto;
+import com.devtiro.ticket_platform.domain.dtos.EventSalesSummaryDto;
 import com.devtiro.ticket_platform.domain.dtos.GetEventDetailsResponseDto;
 import com.devtiro.ticket_platform.domain.dtos.ListEventResponseDto;
+import com.devtiro.ticket_platform.domain.dtos.OpenGateResponseDto;
+import com.devtiro.ticket_platform.domain.dtos.PatchEventRequestDto;
+import com.devtiro.ticket_platform.domain.dtos.UpdateEventResponseDto;
 import com.devtiro.ticket_platform.domain.entities.Event;
 import com.devtiro.ticket_platform.mappers.EventMapper;
+import com.devtiro.ticket_platform.services.AttendeeExportService;
+import com.devtiro.ticket_platform.services.EventImportService;
 import com.devtiro.ticket_platform.services.EventService;
+import com.devtiro.ticket_platform.services.SalesSummaryService;
+import com.devtiro.ticket_platform.services.TicketValidationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping(path="/api/v1/events")
 @RequiredArgsConstructor
 public class EventController {
+    private static final int MAX_SCROLL_SIZE = 100;
+
     private final EventMapper eventMapper;
     private final EventService eventService;
+    private final TicketValidationService ticketValidationService;
+    private final EventImportService eventImportService;
+    private final AttendeeExportService attendeeExportService;
+    private final SalesSummaryService salesSummaryService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<CreateEventResponseDto> createEvent(
@@ -39,6 +70,34 @@ public ResponseEntity<CreateEventResponseDto> createEvent(
 
         return new ResponseEntity<>(createEventResponseDto, HttpStatus.CREATED);
     }
+    /**
+     * Bulk create from NDJSON or a JSON array of {@link CreateEventRequestDto}.
+     * Results are streamed back as NDJSON, one line per input record, as each
+     * chunk commits, so neither side holds the whole import in memory.
+     */
+    @PostMapping(path="/import", consumes={MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public void importEvents(
+            @AuthenticationPrincipal Jwt jwt,
+            InputStream records,
+            HttpServletResponse response
+    ) throws IOException {
+        UUID userId=parseUserId(jwt);
+        eventImportService.importEvents(userId, records, results -> {
+            try {
+                // Set on first write, so failures before any result still render as a JSON error
+                response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+                OutputStream out=response.getOutputStream();
+                for (EventImportResultDto result : results) {
+                    out.write(objectMapper.writeValueAsBytes(result));
+                    out.write('\n');
+                }
+                out.flush();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
     @GetMapping
     public ResponseEntity<Page<ListEventResponseDto>> listEvents(
             @AuthenticationPrincipal Jwt jwt, Pageable pageable
@@ -48,6 +107,20 @@ public ResponseEntity<Page<ListEventResponseDto>> listEvents(
         return ResponseEntity.ok(events.map(eventMapper::toListEventResponseDto));
     }
 
+    @GetMapping(path="/scroll")
+    public ResponseEntity<CursorPageResponseDto<ListEventResponseDto>> scrollEvents(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ){
+        UUID userId=parseUserId(jwt);
+        Slice<Event> events=eventService.scrollEventsForOrganizer(
+                userId, PageCursor.decode(cursor), Math.clamp(size, 1, MAX_SCROLL_SIZE));
+        return ResponseEntity.ok(new CursorPageResponseDto<>(
+                events.map(eventMapper::toListEventResponseDto).getContent(),
+                PageCursor.next(events, event -> new PageCursor(event.getCreatedAt(), event.getId()))));
+    }
+
     @GetMapping(path="/{eventId}")
     public ResponseEntity<GetEventDetailsResponseDto> getEvent(
             @AuthenticationPrincipal Jwt jwt,
@@ -59,6 +132,79 @@ public ResponseEntity<GetEventDetailsResponseDto> getEvent(
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
+    @PatchMapping(path="/{eventId}")
+    public ResponseEntity<UpdateEventResponseDto> patchEvent(
+            @AuthenticationPrincipal Jwt jwt,
+            @PathVariable UUID eventId,
+            @Valid @RequestBody PatchEventRequestDto patchEventRequestDto
+    ){
+        PatchEventRequest patchEventRequest=eventMapper.fromDto(patchEventRequestDto);
+        UUID userId=parseUserId(jwt);
+        Event patchedEvent=eventService.patchEventForOrganizer(userId,eventId,patchEventRequest);
+        return ResponseEntity.ok(eventMapper.toUpdateEventResponseDto(patchedEvent));
+    }
+    /**
+     * Every ticket of the event with its purchaser and check-in time, streamed
+     * as it is read and gzipped on the fly when the client accepts it.
+     */
+    @GetMapping(path="/{eventId}/attendees")
+    public void exportAttendees(
+            @AuthenticationPrincipal Jwt jwt,
+            @PathVariable UUID eventId,
+            @RequestParam(defaultValue = "CSV") AttendeeExportFormatEnum format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response
+    ) throws IOException {
+        UUID userId=parseUserId(jwt);
+        boolean gzip=acceptEncoding!=null && acceptEncoding.contains("gzip");
+        attendeeExportService.exportAttendees(userId, eventId, format, () -> {
+            response.setContentType(format.getContentType());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename("attendees-" + eventId + "." + format.getExtension()).build().toString());
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            try {
+                if (!gzip) {
+                    return response.getOutputStream();
+                }
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                return new GZIPOutputStream(response.getOutputStream());
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+    /**
+     * Live dashboard figures: sold, held, checked in and gross revenue per
+     * ticket type, and check-ins per hour.
+     */
+    @GetMapping(path="/{eventId}/sales")
+    public ResponseEntity<EventSalesSummaryDto> getSalesSummary(
+            @AuthenticationPrincipal Jwt jwt,
+            @PathVariable UUID eventId
+    ){
+        UUID userId=parseUserId(jwt);
+        return ResponseEntity.ok(eventMapper.toEventSalesSummaryDto(
+                salesSummaryService.getSalesSummaryForOrganizer(userId,eventId)));
+    }
+    @PostMapping(path="/{eventId}/gate")
+    public ResponseEntity<OpenGateResponseDto> openGate(
+            @AuthenticationPrincipal Jwt jwt,
+            @PathVariable UUID eventId
+    ){
+        UUID userId=parseUserId(jwt);
+        int qrCodes=ticketValidationService.openGate(userId,eventId);
+        return ResponseEntity.ok(new OpenGateResponseDto(eventId,qrCodes));
+    }
+
+    @DeleteMapping(path="/{eventId}/gate")
+    public ResponseEntity<Void> closeGate(
+            @AuthenticationPrincipal Jwt jwt,
+            @PathVariable UUID eventId
+    ){
+        UUID userId=parseUserId(jwt);
+        ticketValidationService.closeGate(userId,eventId);
+        return ResponseEntity.noContent().build();
+    }
     private UUID parseUserId(Jwt jwt){
         return UUID.fromString(jwt.getSubject());
     }
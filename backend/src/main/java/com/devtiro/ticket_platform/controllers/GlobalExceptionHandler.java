@@ -1,12 +1,25 @@
 package com.devtiro.ticket_platform.controllers;
 
 import com.devtiro.ticket_platform.domain.dtos.ErrorDto;
+import com.devtiro.ticket_platform.exceptions.AdmissionRequiredException;
 import com.devtiro.ticket_platform.exceptions.EventNotFoundException;
 import com.devtiro.ticket_platform.exceptions.EventUpdateException;
+import com.devtiro.ticket_platform.exceptions.EventVersionConflictException;
+import com.devtiro.ticket_platform.exceptions.IdempotencyKeyInProgressException;
+import com.devtiro.ticket_platform.exceptions.IdempotencyKeyMismatchException;
+import com.devtiro.ticket_platform.exceptions.InvalidCursorException;
+import com.devtiro.ticket_platform.exceptions.InvalidIdempotencyKeyException;
+import com.devtiro.ticket_platform.exceptions.InvalidQueueTokenException;
+import com.devtiro.ticket_platform.exceptions.InvalidSearchPageException;
+import com.devtiro.ticket_platform.exceptions.TicketHoldNotFoundException;
+import com.devtiro.ticket_platform.exceptions.TicketSalesClosedException;
 import com.devtiro.ticket_platform.exceptions.TicketTypeNotFoundException;
+import com.devtiro.ticket_platform.exceptions.TicketWriteBacklogException;
+import com.devtiro.ticket_platform.exceptions.TicketsSoldOutException;
 import com.devtiro.ticket_platform.exceptions.UserNotFoundException;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -15,6 +28,7 @@
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.List;
 
@@ -28,6 +42,14 @@ public ResponseEntity<ErrorDto> handleEventUpdateException(EventUpdateException
         errorDto.setError("Unable to update event");
         return new ResponseEntity<>(errorDto, HttpStatus.BAD_REQUEST);
     }
+    // A stale version from the client and a concurrent write caught at flush mean the same to the caller
+    @ExceptionHandler({EventVersionConflictException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<ErrorDto> handleEventVersionConflict(RuntimeException ex){
+        log.error("Caught version conflict",ex);
+        ErrorDto errorDto=new ErrorDto();
+        errorDto.setError("Event was changed by someone else, reload it and try again");
+        return new ResponseEntity<>(errorDto, HttpStatus.CONFLICT);
+    }
     @ExceptionHandler(TicketTypeNotFoundException.class)
     public ResponseEntity<ErrorDto> handleTicketTypeNotFoundException(TicketTypeNotFoundException ex){
         log.error("Caught TicketTypeNotFoundException",ex);
@@ -35,6 +57,83 @@ public ResponseEntity<ErrorDto> handleTicketTypeNotFoundException(TicketTypeNotF
         errorDto.setError("Ticket type not found");
         return new ResponseEntity<>(errorDto, HttpStatus.BAD_REQUEST);
     }
+    @ExceptionHandler(TicketsSoldOutException.class)
+    public ResponseEntity<ErrorDto> handleTicketsSoldOutException(TicketsSoldOutException ex){
+        log.error("Caught TicketsSoldOutException",ex);
+        ErrorDto errorDto=new ErrorDto();
+        errorDto.setError("Tickets are sold out for this ticket type");
+        return new ResponseEntity<>(errorDto, HttpStatus.BAD_REQUEST);
+    }
+    @ExceptionHandler(TicketSalesClosedException.class)
+    public ResponseEntity<ErrorDto> handleTicketSalesClosedException(TicketSalesClosedException ex){
+        log.error("Caught TicketSalesClosedException",ex);
+        ErrorDto errorDto=new ErrorDto();
+        errorDto.setError("Tickets for this event are not on sale");
+        return new ResponseEntity<>(errorDto, HttpStatus.BAD_REQUEST);
+    }
+    @ExceptionHandler(TicketHoldNotFoundException.class)
+    public ResponseEntity<ErrorDto> handleTicketHoldNotFoundException(TicketHoldNotFoundException ex){
+        log.error("Caught TicketHoldNotFoundException",ex);
+        ErrorDto errorDto=new ErrorDto();
+        errorDto.setError("Hold not found, it may have expired");
+        return new ResponseEntity<>(errorDto, HttpStatus.NOT_FOUND);
+    }
+    @ExceptionHandler(InvalidIdempotencyKeyException.class)
+    public ResponseEntity<ErrorDto> handleInvalidIdempotencyKeyException(InvalidIdempotencyKeyException ex){
+        log.error("Caught InvalidIdempotencyKeyException",ex);
+        ErrorDto errorDto=new ErrorDto();
+        errorDto.setError("Idempotency key must be 1 to 255 characters");
+        return new ResponseEntity<>(errorDto, HttpStatus.BAD_REQUEST);
+    }
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<ErrorDto> handleIdempotencyKeyMismatchException(IdempotencyKeyMismatchException ex){
+        log.error("Caught IdempotencyKeyMismatchException",ex);
+        ErrorDto errorDto=new ErrorDto();
+        errorDto.setError("Idempotency key was already used for a different purchase");
+        return new ResponseEntity<>(errorDto, HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    public ResponseEntity<ErrorDto> handleIdempotencyKeyInProgressException(IdempotencyKeyInProgressException ex){
+        log.error("Caught IdempotencyKeyInProgressException",ex);
+        ErrorDto errorDto=new ErrorDto();
+        errorDto.setError("A purchase with this idempotency key is still in progress, retry shortly");
+        return new ResponseEntity<>(errorDto, HttpStatus.CONFLICT);
+    }
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorDto> handleInvalidCursorException(InvalidCursorException ex){
+        log.error("Caught InvalidCursorException",ex);
+        ErrorDto errorDto=new ErrorDto();
+        errorDto.setError("Invalid page cursor");
+        return new ResponseEntity<>(errorDto, HttpStatus.BAD_REQUEST);
+    }
+    @ExceptionHandler(InvalidSearchPageException.class)
+    public ResponseEntity<ErrorDto> handleInvalidSearchPageException(InvalidSearchPageException ex){
+        log.error("Caught InvalidSearchPageException",ex);
+        ErrorDto errorDto=new ErrorDto();
+        errorDto.setError("Search results can only be paged through the first 10,000 hits");
+        return new ResponseEntity<>(errorDto, HttpStatus.BAD_REQUEST);
+    }
+    @ExceptionHandler(TicketWriteBacklogException.class)
+    public ResponseEntity<ErrorDto> handleTicketWriteBacklogException(TicketWriteBacklogException ex){
+        log.error("Caught TicketWriteBacklogException",ex);
+        ErrorDto errorDto=new ErrorDto();
+        errorDto.setError("Ticket sales are busy, please try again");
+        return new ResponseEntity<>(errorDto, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+    @ExceptionHandler(AdmissionRequiredException.class)
+    public ResponseEntity<ErrorDto> handleAdmissionRequiredException(AdmissionRequiredException ex){
+        log.error("Caught AdmissionRequiredException",ex);
+        ErrorDto errorDto=new ErrorDto();
+        errorDto.setError("Tickets for this event are sold through the queue, join it to get a pass");
+        return new ResponseEntity<>(errorDto, HttpStatus.FORBIDDEN);
+    }
+    @ExceptionHandler(InvalidQueueTokenException.class)
+    public ResponseEntity<ErrorDto> handleInvalidQueueTokenException(InvalidQueueTokenException ex){
+        log.error("Caught InvalidQueueTokenException",ex);
+        ErrorDto errorDto=new ErrorDto();
+        errorDto.setError("Invalid queue token");
+        return new ResponseEntity<>(errorDto, HttpStatus.BAD_REQUEST);
+    }
     @ExceptionHandler(EventNotFoundException.class)
     public ResponseEntity<ErrorDto> handleEventNotFoundException(EventNotFoundException ex){
         log.error("Caught EventNotFoundException",ex);
@@ -63,6 +162,15 @@ public ResponseEntity<ErrorDto> handleMethodArgumentNotValidException(
         errorDto.setError(errorMessage);
         return new ResponseEntity<>(errorDto, HttpStatus.BAD_REQUEST);
     }
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorDto> handleMethodArgumentTypeMismatch(
+            MethodArgumentTypeMismatchException ex
+    ){
+        log.error("Caught MethodArgumentTypeMismatchException",ex);
+        ErrorDto errorDto=new ErrorDto();
+        errorDto.setError("Invalid value for "+ex.getName()+": "+ex.getValue());
+        return new ResponseEntity<>(errorDto, HttpStatus.BAD_REQUEST);
+    }
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<ErrorDto> handleConstraintViolation(
             ConstraintViolationException ex
@@ -0,0 +1,97 @@
+package com.devtiro.ticket_platform.controllers;
+
+import com.devtiro.ticket_platform.cache.PublishedEventCache;
+import com.devtiro.ticket_platform.domain.PageCursor;
+import com.devtiro.ticket_platform.domain.dtos.CursorPageResponseDto;
+import com.devtiro.ticket_platform.domain.dtos.GetEventDetailsResponseDto;
+import com.devtiro.ticket_platform.domain.dtos.GetEventDetailsTicketTypesResponseDto;
+import com.devtiro.ticket_platform.domain.dtos.ListEventResponseDto;
+import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.mappers.EventMapper;
+import com.devtiro.ticket_platform.push.AvailabilityBroadcaster;
+import com.devtiro.ticket_platform.services.EventService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping(path = "/api/v1/published-events")
+@RequiredArgsConstructor
+public class PublishedEventController {
+    private static final int MAX_SCROLL_SIZE = 100;
+
+    private final PublishedEventCache publishedEventCache;
+    private final EventService eventService;
+    private final EventMapper eventMapper;
+    private final AvailabilityBroadcaster availabilityBroadcaster;
+
+    @GetMapping
+    public ResponseEntity<Page<ListEventResponseDto>> listPublishedEvents(
+            @RequestParam(required = false) String q,
+            Pageable pageable
+    ){
+        if (q != null && !q.isBlank()) {
+            return ResponseEntity.ok(eventService.searchPublishedEvents(q, pageable)
+                    .map(eventMapper::toListEventResponseDto));
+        }
+        return ResponseEntity.ok(publishedEventCache.listPublishedEvents(pageable));
+    }
+
+    @GetMapping(path = "/scroll")
+    public ResponseEntity<CursorPageResponseDto<ListEventResponseDto>> scrollPublishedEvents(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ){
+        Slice<Event> events = eventService.scrollPublishedEvents(
+                PageCursor.decode(cursor), Math.clamp(size, 1, MAX_SCROLL_SIZE));
+        return ResponseEntity.ok(new CursorPageResponseDto<>(
+                events.map(eventMapper::toListEventResponseDto).getContent(),
+                PageCursor.next(events, event -> new PageCursor(event.getCreatedAt(), event.getId()))));
+    }
+
+    @GetMapping(path = "/{eventId}")
+    public ResponseEntity<GetEventDetailsResponseDto> getPublishedEvent(@PathVariable UUID eventId){
+        return publishedEventCache.getPublishedEvent(eventId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(path = "/{eventId}/ticket-types")
+    public ResponseEntity<List<GetEventDetailsTicketTypesResponseDto>> listPublishedEventTicketTypes(
+            @PathVariable UUID eventId
+    ){
+        return publishedEventCache.getPublishedEvent(eventId)
+                .map(GetEventDetailsResponseDto::getTicketTypes)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Server-sent {@code availability} events with the remaining stock of each
+     * ticket type, sent on connect and then whenever it changes, at most
+     * {@code app.inventory.push.updates-per-second} times a second.
+     */
+    @GetMapping(path = "/{eventId}/availability")
+    public void streamAvailability(
+            @PathVariable UUID eventId,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        if (!availabilityBroadcaster.subscribe(eventId, request, response)) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.devtiro.ticket_platform.controllers;
+
+import com.devtiro.ticket_platform.domain.PageCursor;
+import com.devtiro.ticket_platform.domain.dtos.CursorPageResponseDto;
+import com.devtiro.ticket_platform.domain.dtos.ListTicketResponseDto;
+import com.devtiro.ticket_platform.domain.entities.Ticket;
+import com.devtiro.ticket_platform.mappers.TicketMapper;
+import com.devtiro.ticket_platform.qrcode.QrCodeImage;
+import com.devtiro.ticket_platform.qrcode.QrCodeImageStore;
+import com.devtiro.ticket_platform.services.TicketService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@RestController
+@RequestMapping(path = "/api/v1/tickets")
+@RequiredArgsConstructor
+public class TicketController {
+    private static final int MAX_SCROLL_SIZE = 100;
+    private static final Duration QR_CODE_MAX_AGE = Duration.ofDays(1);
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final TicketService ticketService;
+    private final TicketMapper ticketMapper;
+    private final QrCodeImageStore qrCodeImageStore;
+
+    @GetMapping
+    public ResponseEntity<Page<ListTicketResponseDto>> listTickets(
+            @AuthenticationPrincipal Jwt jwt, Pageable pageable
+    ){
+        Page<Ticket> tickets = ticketService.listTicketsForUser(parseUserId(jwt), pageable);
+        return ResponseEntity.ok(tickets.map(ticketMapper::toListTicketResponseDto));
+    }
+
+    @GetMapping(path = "/scroll")
+    public ResponseEntity<CursorPageResponseDto<ListTicketResponseDto>> scrollTickets(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ){
+        Slice<Ticket> tickets = ticketService.scrollTicketsForUser(
+                parseUserId(jwt), PageCursor.decode(cursor), Math.clamp(size, 1, MAX_SCROLL_SIZE));
+        return ResponseEntity.ok(new CursorPageResponseDto<>(
+                tickets.map(ticketMapper::toListTicketResponseDto).getContent(),
+                PageCursor.next(tickets, ticket -> new PageCursor(ticket.getCreatedAt(), ticket.getId()))));
+    }
+
+    @GetMapping(path = "/{ticketId}/qr-codes")
+    public ResponseEntity<Resource> getTicketQrCode(
+            @AuthenticationPrincipal Jwt jwt,
+            @PathVariable UUID ticketId,
+            HttpServletRequest request
+    ){
+        return ticketService.getActiveQrCodeForUser(parseUserId(jwt), ticketId)
+                .map(qrCode -> qrCodeImageStore.get(qrCode.getValue()))
+                .map(image -> toImageResponse(image, request))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Answers revalidations with 304. Otherwise hands the file to Tomcat's
+     * sendfile when the connector supports it, so the bytes go from the page
+     * cache to the socket without passing through the JVM.
+     */
+    private ResponseEntity<Resource> toImageResponse(QrCodeImage image, HttpServletRequest request) {
+        String etag = "\"" + image.etag() + "\"";
+        CacheControl cacheControl = CacheControl.maxAge(QR_CODE_MAX_AGE).cachePrivate().immutable();
+        if (new ServletWebRequest(request).checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .contentType(MediaType.IMAGE_PNG)
+                .contentLength(image.length());
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, image.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, image.length());
+            return response.build();
+        }
+        return response.body(new FileSystemResource(image.path()));
+    }
+
+    private UUID parseUserId(Jwt jwt){
+        return UUID.fromString(jwt.getSubject());
+    }
+}
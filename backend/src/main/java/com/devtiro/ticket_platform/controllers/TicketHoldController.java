@@ -0,0 +1,54 @@
+package com.devtiro.ticket_platform.controllers;
+
+import com.devtiro.ticket_platform.domain.dtos.ListTicketResponseDto;
+import com.devtiro.ticket_platform.mappers.TicketMapper;
+import com.devtiro.ticket_platform.services.TicketService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Checkout holds made through {@code POST /api/v1/events/{eventId}/ticket-types/{ticketTypeId}/holds}.
+ * A hold is confirmed into tickets or released before it expires.
+ */
+@RestController
+@RequestMapping(path = "/api/v1/holds")
+@RequiredArgsConstructor
+public class TicketHoldController {
+    private final TicketService ticketService;
+    private final TicketMapper ticketMapper;
+
+    @PostMapping(path = "/{holdId}/confirm")
+    public ResponseEntity<List<ListTicketResponseDto>> confirmHold(
+            @AuthenticationPrincipal Jwt jwt,
+            @PathVariable UUID holdId
+    ){
+        List<ListTicketResponseDto> tickets = ticketService.confirmHold(parseUserId(jwt), holdId).stream()
+                .map(ticketMapper::toListTicketResponseDto)
+                .toList();
+        return new ResponseEntity<>(tickets, HttpStatus.CREATED);
+    }
+
+    @DeleteMapping(path = "/{holdId}")
+    public ResponseEntity<Void> releaseHold(
+            @AuthenticationPrincipal Jwt jwt,
+            @PathVariable UUID holdId
+    ){
+        ticketService.releaseHold(parseUserId(jwt), holdId);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    private UUID parseUserId(Jwt jwt){
+        return UUID.fromString(jwt.getSubject());
+    }
+}
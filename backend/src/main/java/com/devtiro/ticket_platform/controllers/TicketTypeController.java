@@ -0,0 +1,70 @@
+package com.devtiro.ticket_platform.controllers;
+
+import com.devtiro.ticket_platform.admission.AdmissionQueue;
+import com.devtiro.ticket_platform.domain.dtos.CreateTicketHoldRequestDto;
+import com.devtiro.ticket_platform.domain.dtos.TicketHoldResponseDto;
+import com.devtiro.ticket_platform.inventory.TicketHold;
+import com.devtiro.ticket_platform.mappers.TicketMapper;
+import com.devtiro.ticket_platform.services.TicketService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping(path = "/api/v1/events/{eventId}/ticket-types")
+@RequiredArgsConstructor
+public class TicketTypeController {
+    private static final String QUEUE_PASS_HEADER = "X-Queue-Pass";
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final TicketService ticketService;
+    private final AdmissionQueue admissionQueue;
+    private final TicketMapper ticketMapper;
+
+    @PostMapping(path = "/{ticketTypeId}/tickets")
+    public ResponseEntity<Void> purchaseTicket(
+            @AuthenticationPrincipal Jwt jwt,
+            @PathVariable UUID eventId,
+            @PathVariable UUID ticketTypeId,
+            @RequestHeader(name = QUEUE_PASS_HEADER, required = false) String queuePass,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+    ){
+        UUID userId = parseUserId(jwt);
+        admissionQueue.checkPass(eventId, userId, queuePass);
+        if (idempotencyKey != null) {
+            ticketService.purchaseTicketOnce(userId, eventId, ticketTypeId, idempotencyKey);
+        } else {
+            ticketService.purchaseTicket(userId, eventId, ticketTypeId);
+        }
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @PostMapping(path = "/{ticketTypeId}/holds")
+    public ResponseEntity<TicketHoldResponseDto> holdTickets(
+            @AuthenticationPrincipal Jwt jwt,
+            @PathVariable UUID eventId,
+            @PathVariable UUID ticketTypeId,
+            @RequestHeader(name = QUEUE_PASS_HEADER, required = false) String queuePass,
+            @Valid @RequestBody CreateTicketHoldRequestDto createTicketHoldRequestDto
+    ){
+        UUID userId = parseUserId(jwt);
+        admissionQueue.checkPass(eventId, userId, queuePass);
+        TicketHold hold = ticketService.holdTickets(
+                userId, eventId, ticketTypeId, createTicketHoldRequestDto.getQuantity());
+        return new ResponseEntity<>(ticketMapper.toTicketHoldResponseDto(hold), HttpStatus.CREATED);
+    }
+    private UUID parseUserId(Jwt jwt){
+        return UUID.fromString(jwt.getSubject());
+    }
+}
@@ -0,0 +1,39 @@
+package com.devtiro.ticket_platform.controllers;
+
+import com.devtiro.ticket_platform.domain.dtos.TicketValidationRequestDto;
+import com.devtiro.ticket_platform.domain.dtos.TicketValidationResponseDto;
+import com.devtiro.ticket_platform.mappers.TicketValidationMapper;
+import com.devtiro.ticket_platform.services.TicketValidationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping(path = "/api/v1/ticket-validations")
+@RequiredArgsConstructor
+public class TicketValidationController {
+    private final TicketValidationService ticketValidationService;
+    private final TicketValidationMapper ticketValidationMapper;
+
+    @PostMapping
+    public ResponseEntity<TicketValidationResponseDto> validateTicket(
+            @AuthenticationPrincipal Jwt jwt,
+            @Valid @RequestBody TicketValidationRequestDto ticketValidationRequestDto
+    ){
+        return ResponseEntity.ok(ticketValidationMapper.toTicketValidationResponseDto(
+                ticketValidationService.validateTicket(parseUserId(jwt),
+                        ticketValidationRequestDto.getId(), ticketValidationRequestDto.getMethod())));
+    }
+
+    private UUID parseUserId(Jwt jwt){
+        return UUID.fromString(jwt.getSubject());
+    }
+}
@@ -0,0 +1,265 @@
+package com.devtiro.ticket_platform.dashboard;
+
+import com.devtiro.ticket_platform.domain.entities.TicketStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.TicketValidationStatusEnum;
+import com.devtiro.ticket_platform.domain.events.TicketCheckedInEvent;
+import com.devtiro.ticket_platform.domain.events.TicketPurchasedEvent;
+import com.devtiro.ticket_platform.domain.events.TransactionEventBuffer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the {@code ticket_type_sales} and {@code event_checkin_hours}
+ * summaries up to date, so the organizer dashboard reads a row per ticket
+ * type and hour instead of counting tickets and validations. Purchases and
+ * check-ins are added up per transaction as they are published and applied
+ * just before it commits, one UPDATE per ticket type and hour touched, so the
+ * summary moves exactly when the tickets and validations behind it commit.
+ * <p>
+ * Holds live in memory, so their counts are added up per node and applied
+ * every {@code held-flush-interval}. Shutting down releases a node's holds
+ * and applies the result; a node that dies leaves its holds counted until
+ * the {@code held} column is corrected by hand.
+ * <p>
+ * A ticket type's row is created the first time something touches it, from
+ * the tickets and validations already stored, in a transaction of its own.
+ * Revenue from before then is counted at the ticket type's current price;
+ * after, at the price when each batch committed. Hours start at zero, so
+ * check-ins from before an hour's row existed are in the totals only.
+ */
+@Component
+@Slf4j
+public class SalesCounters {
+    private static final String INSERT_SALES = "INSERT INTO ticket_type_sales"
+            + " (ticket_type_id, event_id, sold, held, validated, gross_revenue)"
+            + " SELECT tt.id, tt.event_id,"
+            + " (SELECT COUNT(*) FROM tickets t WHERE t.ticket_type_id = tt.id AND t.status = ?), 0,"
+            + " (SELECT COUNT(*) FROM ticket_validation v JOIN tickets t ON t.id = v.ticket_id"
+            + " WHERE t.ticket_type_id = tt.id AND v.status = ?),"
+            + " tt.price * (SELECT COUNT(*) FROM tickets t WHERE t.ticket_type_id = tt.id AND t.status = ?)"
+            + " FROM ticket_types tt"
+            + " WHERE tt.id = ? AND NOT EXISTS (SELECT 1 FROM ticket_type_sales s WHERE s.ticket_type_id = tt.id)";
+    private static final String INSERT_HOUR = "INSERT INTO event_checkin_hours (event_id, hour_start, checkins)"
+            + " SELECT ?, ?, 0 WHERE NOT EXISTS (SELECT 1 FROM event_checkin_hours WHERE event_id = ? AND hour_start = ?)";
+    private static final String UPDATE_SALES = "UPDATE ticket_type_sales"
+            + " SET sold = sold + ?, held = held + ?, validated = validated + ?,"
+            + " gross_revenue = gross_revenue + ? * (SELECT price FROM ticket_types WHERE id = ?)"
+            + " WHERE ticket_type_id = ?";
+    private static final String UPDATE_HOUR =
+            "UPDATE event_checkin_hours SET checkins = checkins + ? WHERE event_id = ? AND hour_start = ?";
+    private static final String SELECT_TICKET_TYPES = "SELECT t.id, t.ticket_type_id, tt.event_id"
+            + " FROM tickets t JOIN ticket_types tt ON tt.id = t.ticket_type_id WHERE t.id IN (:ids)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transaction;
+    // Creates rows outside the transaction applying changes, so they do not count its own tickets
+    private final TransactionTemplate createTransaction;
+    private final Set<UUID> knownTicketTypes = ConcurrentHashMap.newKeySet();
+    private final Set<Hour> knownHours = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<UUID, AtomicLong> held = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService heldFlusher;
+    // Hours are bound as Hibernate binds timestamps, so the entity reads back the hour written
+    private final TimeZone jdbcTimeZone;
+    // Ahead of the outbox, which should hold its partition locks for as little as possible
+    private final TransactionEventBuffer<Pending> pending =
+            new TransactionEventBuffer<>(Ordered.HIGHEST_PRECEDENCE, Pending::new, this::apply);
+
+    public SalesCounters(
+            JdbcTemplate jdbcTemplate,
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.dashboard.held-flush-interval:1s}") Duration heldFlushInterval,
+            @Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}") String jdbcTimeZone) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.createTransaction = new TransactionTemplate(transactionManager);
+        createTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.jdbcTimeZone = jdbcTimeZone.isBlank() ? TimeZone.getDefault() : TimeZone.getTimeZone(jdbcTimeZone);
+        this.heldFlusher = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("sales-counters").daemon().factory());
+        heldFlusher.scheduleWithFixedDelay(this::flushHeld,
+                heldFlushInterval.toNanos(), heldFlushInterval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    @EventListener
+    public void onTicketPurchased(TicketPurchasedEvent purchase) {
+        pending.current(purchase).sales.computeIfAbsent(purchase.ticketTypeId(), id -> new Delta()).sold++;
+    }
+
+    @EventListener
+    public void onTicketCheckedIn(TicketCheckedInEvent checkIn) {
+        pending.current(checkIn).checkIns.add(checkIn);
+    }
+
+    /**
+     * Counts {@code quantity} more tickets of the type as held, or fewer if
+     * negative, from the next flush on.
+     */
+    public void held(UUID ticketTypeId, long quantity) {
+        held.computeIfAbsent(ticketTypeId, id -> new AtomicLong()).addAndGet(quantity);
+    }
+
+    /**
+     * Creates the summary rows of ticket types nothing has touched yet.
+     */
+    public void createMissing(Collection<UUID> ticketTypeIds) {
+        for (UUID ticketTypeId : ticketTypeIds) {
+            if (knownTicketTypes.contains(ticketTypeId)) {
+                continue;
+            }
+            try {
+                createTransaction.executeWithoutResult(status -> jdbcTemplate.update(INSERT_SALES,
+                        TicketStatusEnum.PURCHASED.name(), TicketValidationStatusEnum.VALID.name(),
+                        TicketStatusEnum.PURCHASED.name(), ticketTypeId));
+            } catch (DuplicateKeyException raced) {
+                // Another node created it at the same time
+            }
+            knownTicketTypes.add(ticketTypeId);
+        }
+    }
+
+    /**
+     * Forgets which summary rows exist, as a freshly started node would.
+     */
+    void forgetRows() {
+        knownTicketTypes.clear();
+        knownHours.clear();
+    }
+
+    @PreDestroy
+    void stop() {
+        heldFlusher.shutdownNow();
+        flushHeld();
+    }
+
+    void flushHeld() {
+        Map<UUID, Delta> deltas = new HashMap<>();
+        held.forEach((ticketTypeId, quantity) -> {
+            long delta = quantity.getAndSet(0);
+            if (delta != 0) {
+                deltas.computeIfAbsent(ticketTypeId, id -> new Delta()).held = delta;
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            transaction.executeWithoutResult(status -> apply(deltas, Map.of()));
+        } catch (RuntimeException ex) {
+            log.warn("Could not apply held ticket counts, retrying on the next flush", ex);
+            deltas.forEach((ticketTypeId, delta) -> held(ticketTypeId, delta.held));
+        }
+    }
+
+    private void apply(Pending pending) {
+        Map<Hour, Long> hours = new HashMap<>();
+        if (!pending.checkIns.isEmpty()) {
+            Map<UUID, LocalDateTime> checkedInAt = new HashMap<>();
+            pending.checkIns.forEach(checkIn -> checkedInAt.put(checkIn.ticketId(), checkIn.checkedInAt()));
+            namedParameterJdbcTemplate.query(SELECT_TICKET_TYPES, Map.of("ids", checkedInAt.keySet()), rs -> {
+                UUID ticketId = rs.getObject(1, UUID.class);
+                pending.sales.computeIfAbsent(rs.getObject(2, UUID.class), id -> new Delta()).validated++;
+                hours.merge(new Hour(rs.getObject(3, UUID.class),
+                        checkedInAt.get(ticketId).truncatedTo(ChronoUnit.HOURS)), 1L, Long::sum);
+            });
+        }
+        apply(pending.sales, hours);
+    }
+
+    private void apply(Map<UUID, Delta> sales, Map<Hour, Long> hours) {
+        createMissing(sales.keySet());
+        hours.keySet().forEach(this::createMissing);
+        // In a fixed order, so concurrent transactions cannot deadlock on the rows
+        List<Map.Entry<UUID, Delta>> salesRows = sales.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .toList();
+        jdbcTemplate.batchUpdate(UPDATE_SALES, salesRows, salesRows.size(), (ps, row) -> {
+            ps.setLong(1, row.getValue().sold);
+            ps.setLong(2, row.getValue().held);
+            ps.setLong(3, row.getValue().validated);
+            ps.setLong(4, row.getValue().sold);
+            ps.setObject(5, row.getKey());
+            ps.setObject(6, row.getKey());
+        });
+        List<Map.Entry<Hour, Long>> hourRows = hours.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Hour.ORDER))
+                .toList();
+        jdbcTemplate.batchUpdate(UPDATE_HOUR, hourRows, hourRows.size(), (ps, row) -> {
+            ps.setLong(1, row.getValue());
+            ps.setObject(2, row.getKey().eventId());
+            setHour(ps, 3, row.getKey().start());
+        });
+    }
+
+    private void createMissing(Hour hour) {
+        if (knownHours.contains(hour)) {
+            return;
+        }
+        try {
+            createTransaction.executeWithoutResult(status -> jdbcTemplate.update(INSERT_HOUR, ps -> {
+                ps.setObject(1, hour.eventId());
+                setHour(ps, 2, hour.start());
+                ps.setObject(3, hour.eventId());
+                setHour(ps, 4, hour.start());
+            }));
+        } catch (DuplicateKeyException raced) {
+            // Another node created it at the same time
+        }
+        knownHours.add(hour);
+    }
+
+    private void setHour(PreparedStatement ps, int index, LocalDateTime hour) throws SQLException {
+        ps.setTimestamp(index, Timestamp.valueOf(hour), Calendar.getInstance(jdbcTimeZone));
+    }
+
+    private record Hour(UUID eventId, LocalDateTime start) {
+        private static final Comparator<Hour> ORDER =
+                Comparator.comparing(Hour::eventId).thenComparing(Hour::start);
+    }
+
+    private static final class Delta {
+        private long sold;
+        private long held;
+        private long validated;
+    }
+
+    private static final class Pending {
+        private final Map<UUID, Delta> sales = new HashMap<>();
+        private final List<TicketCheckedInEvent> checkIns = new ArrayList<>();
+    }
+}
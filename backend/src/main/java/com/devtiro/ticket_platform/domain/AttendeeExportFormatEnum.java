@@ -0,0 +1,17 @@
+package com.devtiro.ticket_platform.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+@Getter
+@RequiredArgsConstructor
+public enum AttendeeExportFormatEnum {
+    /** RFC 4180 with a header line */
+    CSV("text/csv;charset=UTF-8", "csv"),
+    /** One JSON object per line */
+    NDJSON(MediaType.APPLICATION_NDJSON_VALUE, "ndjson");
+
+    private final String contentType;
+    private final String extension;
+}
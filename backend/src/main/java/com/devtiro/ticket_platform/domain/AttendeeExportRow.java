@@ -0,0 +1,23 @@
+package com.devtiro.ticket_platform.domain;
+
+import com.devtiro.ticket_platform.domain.entities.TicketStatusEnum;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One exported ticket with its purchaser, read straight off the query rather
+ * than through the entities so that nothing is kept in the persistence context.
+ * {@code checkedInAt} is the first successful validation, if any.
+ */
+public record AttendeeExportRow(
+        UUID ticketId,
+        TicketStatusEnum status,
+        String ticketType,
+        Double price,
+        UUID purchaserId,
+        String purchaserName,
+        String purchaserEmail,
+        LocalDateTime purchasedAt,
+        LocalDateTime checkedInAt) {
+}
@@ -0,0 +1,12 @@
+package com.devtiro.ticket_platform.domain;
+
+public enum EventImportStatusEnum {
+    /** Saved; the result carries the new event ID */
+    CREATED,
+    /** Not valid, nothing was saved for it */
+    REJECTED,
+    /** Valid, but its chunk could not be saved */
+    FAILED,
+    /** The input stopped being readable here, nothing after it was read */
+    ABORTED
+}
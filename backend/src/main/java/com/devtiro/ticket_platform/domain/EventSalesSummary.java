@@ -0,0 +1,20 @@
+package com.devtiro.ticket_platform.domain;
+
+import com.devtiro.ticket_platform.domain.entities.EventCheckinHour;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Dashboard figures of one event: totals over its ticket types, each ticket
+ * type's own figures and check-ins per hour in time order.
+ */
+public record EventSalesSummary(
+        UUID eventId,
+        long sold,
+        long held,
+        long validated,
+        double grossRevenue,
+        List<TicketTypeSalesSummary> ticketTypes,
+        List<EventCheckinHour> checkinsPerHour) {
+}
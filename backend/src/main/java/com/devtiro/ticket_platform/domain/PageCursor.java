@@ -0,0 +1,64 @@
+package com.devtiro.ticket_platform.domain;
+
+import com.devtiro.ticket_platform.exceptions.InvalidCursorException;
+import org.springframework.data.domain.Slice;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Position in a keyset-paginated listing ordered by {@code (createdAt, id)}
+ * descending. Clients only ever see the opaque token form.
+ */
+public record PageCursor(LocalDateTime createdAt, UUID id) {
+    private static final int TOKEN_BYTES = Long.BYTES + Integer.BYTES + 2 * Long.BYTES;
+
+    /**
+     * @return the token for the page after {@code slice}, or {@code null} if it is the last one
+     */
+    public static <T> String next(Slice<T> slice, Function<T, PageCursor> position) {
+        if (!slice.hasNext() || slice.getContent().isEmpty()) {
+            return null;
+        }
+        return position.apply(slice.getContent().get(slice.getNumberOfElements() - 1)).encode();
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(TOKEN_BYTES);
+        buffer.putLong(createdAt.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(createdAt.getNano());
+        buffer.putLong(id.getMostSignificantBits());
+        buffer.putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Malformed page cursor", ex);
+        }
+        if (bytes.length != TOKEN_BYTES) {
+            throw new InvalidCursorException("Malformed page cursor");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long seconds = buffer.getLong();
+        int nanos = buffer.getInt();
+        LocalDateTime createdAt;
+        try {
+            createdAt = LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+        } catch (DateTimeException ex) {
+            throw new InvalidCursorException("Malformed page cursor", ex);
+        }
+        return new PageCursor(createdAt, new UUID(buffer.getLong(), buffer.getLong()));
+    }
+}
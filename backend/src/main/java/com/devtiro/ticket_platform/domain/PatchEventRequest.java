@@ -0,0 +1,33 @@
+package com.devtiro.ticket_platform.domain;
+
+import com.devtiro.ticket_platform.domain.entities.EventStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Partial event update: {@code null} fields are left unchanged. Ticket types
+ * with an ID are changed the same way, ones without are added, and IDs in
+ * {@code removedTicketTypeIds} are deleted. {@code version} is the event
+ * version the change was based on.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PatchEventRequest {
+    private Long version;
+    private String name;
+    private LocalDateTime start;
+    private LocalDateTime end;
+    private String venue;
+    private LocalDateTime salesStart;
+    private LocalDateTime salesEnd;
+    private EventStatusEnum status;
+    private List<PatchTicketTypeRequest> ticketTypes = new ArrayList<>();
+    private List<UUID> removedTicketTypeIds = new ArrayList<>();
+}
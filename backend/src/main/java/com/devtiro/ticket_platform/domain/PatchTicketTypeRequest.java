@@ -0,0 +1,18 @@
+package com.devtiro.ticket_platform.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PatchTicketTypeRequest {
+    private UUID id;
+    private String name;
+    private Double price;
+    private String description;
+    private Integer totalAvailable;
+}
@@ -0,0 +1,18 @@
+package com.devtiro.ticket_platform.domain;
+
+import java.util.UUID;
+
+/**
+ * A ticket type of the event with its running sales figures, which are
+ * {@code null} if nothing has created its summary row yet.
+ */
+public record TicketTypeSalesSummary(
+        UUID id,
+        String name,
+        Double price,
+        Integer totalAvailable,
+        Long sold,
+        Long held,
+        Long validated,
+        Double grossRevenue) {
+}
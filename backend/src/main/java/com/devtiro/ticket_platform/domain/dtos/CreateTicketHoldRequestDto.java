@@ -0,0 +1,19 @@
+package com.devtiro.ticket_platform.domain.dtos;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CreateTicketHoldRequestDto {
+
+    @NotNull(message = "Quantity is required")
+    @Min(value = 1, message = "At least one ticket must be held")
+    @Max(value = 10, message = "At most 10 tickets can be held at once")
+    private Integer quantity;
+}
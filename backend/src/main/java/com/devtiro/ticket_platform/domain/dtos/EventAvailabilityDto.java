@@ -0,0 +1,16 @@
+package com.devtiro.ticket_platform.domain.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventAvailabilityDto {
+    private UUID eventId;
+    private List<TicketTypeAvailabilityDto> ticketTypes;
+}
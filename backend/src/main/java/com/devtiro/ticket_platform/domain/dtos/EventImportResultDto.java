@@ -0,0 +1,20 @@
+package com.devtiro.ticket_platform.domain.dtos;
+
+import com.devtiro.ticket_platform.domain.EventImportStatusEnum;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EventImportResultDto {
+    private int index;
+    private EventImportStatusEnum status;
+    private UUID id;
+    private String error;
+}
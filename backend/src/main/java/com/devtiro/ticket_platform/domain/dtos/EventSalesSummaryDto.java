@@ -0,0 +1,22 @@
+package com.devtiro.ticket_platform.domain.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSalesSummaryDto {
+    private UUID eventId;
+    private long sold;
+    private long held;
+    private long validated;
+    private double grossRevenue;
+    private List<TicketTypeSalesDto> ticketTypes = new ArrayList<>();
+    private List<HourlyCheckinsDto> checkinsPerHour = new ArrayList<>();
+}
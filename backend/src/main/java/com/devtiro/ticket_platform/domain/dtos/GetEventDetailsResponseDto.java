@@ -25,4 +25,5 @@ public class GetEventDetailsResponseDto {
     private List<GetEventDetailsTicketTypesResponseDto> ticketTypes=new ArrayList<>();
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
@@ -0,0 +1,15 @@
+package com.devtiro.ticket_platform.domain.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HourlyCheckinsDto {
+    private LocalDateTime hour;
+    private long checkins;
+}
@@ -0,0 +1,19 @@
+package com.devtiro.ticket_platform.domain.dtos;
+
+import com.devtiro.ticket_platform.domain.entities.TicketStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ListTicketResponseDto {
+    private UUID id;
+    private TicketStatusEnum status;
+    private ListTicketTicketTypeResponseDto ticketType;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,34 @@
+package com.devtiro.ticket_platform.domain.dtos;
+
+import com.devtiro.ticket_platform.domain.entities.EventStatusEnum;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatchEventRequestDto {
+    @NotNull(message = "Event version is required")
+    private Long version;
+    @Pattern(regexp = ".*\\S.*", message = "Event name must not be blank")
+    private String name;
+    private LocalDateTime start;
+    private LocalDateTime end;
+    @Pattern(regexp = ".*\\S.*", message = "Venue must not be blank")
+    private String venue;
+    private LocalDateTime salesStart;
+    private LocalDateTime salesEnd;
+    private EventStatusEnum status;
+    @Valid
+    private List<PatchTicketTypeRequestDto> ticketTypes = new ArrayList<>();
+    private List<@NotNull UUID> removedTicketTypeIds = new ArrayList<>();
+}
@@ -0,0 +1,24 @@
+package com.devtiro.ticket_platform.domain.dtos;
+
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PatchTicketTypeRequestDto {
+
+    private UUID id;
+    @Pattern(regexp = ".*\\S.*", message = "Ticket type name must not be blank")
+    private String name;
+    @PositiveOrZero(message = "Price must be zero or greater")
+    private Double price;
+    private String description;
+    @PositiveOrZero(message = "Total available must be zero or greater")
+    private Integer totalAvailable;
+}
@@ -0,0 +1,20 @@
+package com.devtiro.ticket_platform.domain.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueueStatusDto {
+    private String token;
+    private long position;
+    private long ahead;
+    private long estimatedWaitSeconds;
+    private boolean admitted;
+    private String pass;
+    private LocalDateTime passExpiresAt;
+}
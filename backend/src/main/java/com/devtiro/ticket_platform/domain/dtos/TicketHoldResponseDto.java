@@ -0,0 +1,19 @@
+package com.devtiro.ticket_platform.domain.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TicketHoldResponseDto {
+    private UUID id;
+    private UUID eventId;
+    private UUID ticketTypeId;
+    private int quantity;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,21 @@
+package com.devtiro.ticket_platform.domain.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketTypeSalesDto {
+    private UUID id;
+    private String name;
+    private Double price;
+    private Integer totalAvailable;
+    private long sold;
+    private long held;
+    private long validated;
+    private double grossRevenue;
+}
@@ -0,0 +1,18 @@
+package com.devtiro.ticket_platform.domain.dtos;
+
+import com.devtiro.ticket_platform.domain.entities.TicketValidationMethod;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketValidationRequestDto {
+    @NotBlank(message = "QR code or ticket ID is required")
+    private String id;
+    @NotNull(message = "Validation method must be provided")
+    private TicketValidationMethod method;
+}
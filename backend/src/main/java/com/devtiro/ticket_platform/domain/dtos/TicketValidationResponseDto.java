@@ -0,0 +1,19 @@
+package com.devtiro.ticket_platform.domain.dtos;
+
+import com.devtiro.ticket_platform.domain.entities.TicketValidationMethod;
+import com.devtiro.ticket_platform.domain.entities.TicketValidationStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketValidationResponseDto {
+    private UUID id;
+    private UUID ticketId;
+    private TicketValidationStatusEnum status;
+    private TicketValidationMethod validationMethod;
+}
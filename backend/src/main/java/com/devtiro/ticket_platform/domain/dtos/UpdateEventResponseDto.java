@@ -21,7 +21,8 @@ public class UpdateEventResponseDto {
     private LocalDateTime salesStart;
     private LocalDateTime salesEnd;
     private EventStatusEnum status;
-    private List<CreateTicketTypeResponseDto> ticketTypes;
+    private List<UpdateTicketTypeResponseDto> ticketTypes;
+    private Long version;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
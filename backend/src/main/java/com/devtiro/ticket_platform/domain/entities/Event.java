@@ -3,6 +3,8 @@
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 
@@ -13,7 +15,11 @@
 import java.util.UUID;
 
 @Entity
-@Table(name = "events")
+@DynamicUpdate
+@Table(name = "events", indexes = {
+        @Index(name = "idx_events_organizer_created", columnList = "organizer_id DESC, created_at DESC, id DESC"),
+        @Index(name = "idx_events_status_created", columnList = "status DESC, created_at DESC, id DESC")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -50,6 +56,10 @@ public class Event {
     private List<User>staff=new ArrayList<>();
     @OneToMany(mappedBy = "event",cascade = CascadeType.ALL,orphanRemoval = true)
     private List<TicketType> ticketTypes=new ArrayList<>();
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version",nullable = false)
+    private Long version;
     @CreatedDate
     @Column(name = "created_at",updatable = false,nullable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,57 @@
+package com.devtiro.ticket_platform.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Successful check-ins at an event during the hour starting at {@code hour},
+ * maintained alongside {@link TicketTypeSales}.
+ */
+@Entity
+@IdClass(EventCheckinHour.Key.class)
+@Table(name = "event_checkin_hours")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventCheckinHour {
+
+    @Id
+    @Column(name = "event_id",nullable = false,updatable = false)
+    private UUID eventId;
+
+    @Id
+    @Column(name = "hour_start",nullable = false,updatable = false)
+    private LocalDateTime hour;
+
+    @Column(name = "checkins",nullable = false)
+    private Long checkins;
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        EventCheckinHour that = (EventCheckinHour) o;
+        return Objects.equals(eventId, that.eventId) && Objects.equals(hour, that.hour);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(eventId, hour);
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private UUID eventId;
+        private LocalDateTime hour;
+    }
+}
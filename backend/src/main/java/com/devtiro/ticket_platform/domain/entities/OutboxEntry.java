@@ -0,0 +1,61 @@
+package com.devtiro.ticket_platform.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Domain events of one type that one transaction recorded for one outbox
+ * partition, as a JSON array in publication order. Rows are written and read
+ * with plain JDBC by the outbox; the entity is here for the schema.
+ */
+@Entity
+@Table(name = "outbox_entries", indexes = {
+        @Index(name = "idx_outbox_entries_partition_id", columnList = "partition_no, id"),
+        @Index(name = "idx_outbox_entries_created_at", columnList = "created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEntry {
+
+    @Id
+    @Column(name = "id",nullable = false,updatable = false)
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "partition_no",nullable = false,updatable = false)
+    private Integer partition;
+
+    @Column(name = "origin",nullable = false,updatable = false)
+    private UUID origin;
+
+    @Column(name = "type",nullable = false,updatable = false)
+    private String type;
+
+    @Column(name = "event_count",nullable = false,updatable = false)
+    private Integer eventCount;
+
+    @Column(name = "payload",nullable = false,updatable = false,columnDefinition = "text")
+    private String payload;
+
+    @Column(name = "created_at",updatable = false,nullable = false)
+    private LocalDateTime createdAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        OutboxEntry that = (OutboxEntry) o;
+        return Objects.equals(id, that.id) && Objects.equals(partition, that.partition) && Objects.equals(type, that.type) && Objects.equals(createdAt, that.createdAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, partition, type, createdAt);
+    }
+}
@@ -0,0 +1,36 @@
+package com.devtiro.ticket_platform.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.Objects;
+
+/**
+ * One row per outbox partition, locked by every transaction writing to the
+ * partition from its insert until it commits. Writers to a partition so
+ * commit in the order of their entry ids.
+ */
+@Entity
+@Table(name = "outbox_partitions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxPartition {
+
+    @Id
+    @Column(name = "partition_no",nullable = false,updatable = false)
+    private Integer partition;
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        OutboxPartition that = (OutboxPartition) o;
+        return Objects.equals(partition, that.partition);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(partition);
+    }
+}
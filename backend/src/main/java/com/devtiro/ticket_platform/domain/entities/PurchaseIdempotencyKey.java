@@ -0,0 +1,62 @@
+package com.devtiro.ticket_platform.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A purchase made under a client's {@code Idempotency-Key}. The row is
+ * claimed before the purchase runs and gets its ticket once it succeeds, so
+ * a row without a ticket is a purchase still in progress somewhere.
+ */
+@Entity
+@Table(name = "purchase_idempotency_keys", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_purchase_idempotency_user_key", columnNames = {"user_id", "idempotency_key"})
+}, indexes = {
+        @Index(name = "idx_purchase_idempotency_created_at", columnList = "created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PurchaseIdempotencyKey {
+
+    @Id
+    @Column(name = "id",nullable = false,updatable = false)
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "user_id",nullable = false,updatable = false)
+    private UUID userId;
+
+    @Column(name = "idempotency_key",nullable = false,updatable = false)
+    private String idempotencyKey;
+
+    @Column(name = "event_id",nullable = false,updatable = false)
+    private UUID eventId;
+
+    @Column(name = "ticket_type_id",nullable = false,updatable = false)
+    private UUID ticketTypeId;
+
+    @Column(name = "ticket_id")
+    private UUID ticketId;
+
+    @Column(name = "created_at",updatable = false,nullable = false)
+    private LocalDateTime createdAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        PurchaseIdempotencyKey that = (PurchaseIdempotencyKey) o;
+        return Objects.equals(id, that.id) && Objects.equals(userId, that.userId) && Objects.equals(idempotencyKey, that.idempotencyKey) && Objects.equals(ticketId, that.ticketId) && Objects.equals(createdAt, that.createdAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, userId, idempotencyKey, ticketId, createdAt);
+    }
+}
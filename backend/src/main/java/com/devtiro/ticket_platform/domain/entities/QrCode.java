@@ -11,7 +11,9 @@
 import java.util.UUID;
 
 @Entity
-@Table(name = "qr_codes")
+@Table(name = "qr_codes", indexes = {
+        @Index(name = "idx_qr_codes_qr_value", columnList = "qr_value", unique = true)
+})
 @Getter
 @Setter
 @AllArgsConstructor
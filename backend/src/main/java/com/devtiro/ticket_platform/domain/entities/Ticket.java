@@ -13,7 +13,9 @@
 import java.util.UUID;
 
 @Entity
-@Table(name = "tickets")
+@Table(name = "tickets", indexes = {
+        @Index(name = "idx_tickets_purchaser_created", columnList = "purchaser_id DESC, created_at DESC, id DESC")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -2,6 +2,8 @@
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 
@@ -12,6 +14,7 @@
 import java.util.UUID;
 
 @Entity
+@DynamicUpdate
 @Table(name = "ticket_types")
 @Getter
 @Setter
@@ -34,6 +37,9 @@ public class TicketType {
     private String description;
     @Column(name = "total_available")
     private Integer totalAvailable;
+    // Stock not leased to any node yet, null until first leased. Only TicketInventory's bulk updates write it
+    @Column(name = "unallocated", insertable = false, updatable = false)
+    private Integer unallocated;
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id")
     private Event event;
@@ -41,6 +47,10 @@ public class TicketType {
     //TODO:Tickets
     @OneToMany(mappedBy = "ticketType",cascade = CascadeType.ALL)
     private List<Ticket> tickets=new ArrayList<>();
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version",nullable = false)
+    private Long version;
     @CreatedDate
     @Column(name = "created_at",updatable = false,nullable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,57 @@
+package com.devtiro.ticket_platform.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Running sales figures of one ticket type, kept up to date by applying the
+ * changes of each batch of purchases, check-ins and holds rather than by
+ * counting tickets. Rows are written with plain JDBC by
+ * {@code SalesCounters}; the entity is here for the schema and for reading.
+ */
+@Entity
+@Table(name = "ticket_type_sales", indexes = {
+        @Index(name = "idx_ticket_type_sales_event_id", columnList = "event_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketTypeSales {
+
+    @Id
+    @Column(name = "ticket_type_id",nullable = false,updatable = false)
+    private UUID ticketTypeId;
+
+    @Column(name = "event_id",nullable = false,updatable = false)
+    private UUID eventId;
+
+    @Column(name = "sold",nullable = false)
+    private Long sold;
+
+    @Column(name = "held",nullable = false)
+    private Long held;
+
+    @Column(name = "validated",nullable = false)
+    private Long validated;
+
+    // Sum of the price each ticket sold at
+    @Column(name = "gross_revenue",nullable = false)
+    private Double grossRevenue;
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        TicketTypeSales that = (TicketTypeSales) o;
+        return Objects.equals(ticketTypeId, that.ticketTypeId) && Objects.equals(eventId, that.eventId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ticketTypeId, eventId);
+    }
+}
@@ -10,7 +10,9 @@
 import java.util.UUID;
 
 @Entity
-@Table(name = "ticket_validation")
+@Table(name = "ticket_validation", indexes = {
+        @Index(name = "idx_ticket_validation_ticket_status", columnList = "ticket_id, status")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,16 @@
+package com.devtiro.ticket_platform.domain.events;
+
+import com.devtiro.ticket_platform.domain.entities.EventStatusEnum;
+
+import java.util.UUID;
+
+/**
+ * Published by {@code EventService} whenever an event or its ticket types are
+ * created or modified. {@code previousStatus} is {@code null} for new events.
+ */
+public record EventChangedEvent(UUID eventId, EventStatusEnum previousStatus, EventStatusEnum status) {
+
+    public boolean affectsPublishedEvents() {
+        return previousStatus == EventStatusEnum.PUBLISHED || status == EventStatusEnum.PUBLISHED;
+    }
+}
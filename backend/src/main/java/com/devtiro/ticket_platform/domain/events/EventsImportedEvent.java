@@ -0,0 +1,11 @@
+package com.devtiro.ticket_platform.domain.events;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published once per committed chunk of a bulk import in place of an
+ * {@link EventChangedEvent} per event, so listeners can apply the chunk at once.
+ */
+public record EventsImportedEvent(List<UUID> eventIds) {
+}
@@ -0,0 +1,11 @@
+package com.devtiro.ticket_platform.domain.events;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published for each successful validation inside the transaction that stores
+ * it. Refused scans publish nothing.
+ */
+public record TicketCheckedInEvent(UUID ticketId, LocalDateTime checkedInAt) {
+}
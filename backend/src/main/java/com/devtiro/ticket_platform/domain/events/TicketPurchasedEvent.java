@@ -0,0 +1,12 @@
+package com.devtiro.ticket_platform.domain.events;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published for each ticket inside the transaction that stores it, so
+ * listeners see every purchase exactly when it commits.
+ */
+public record TicketPurchasedEvent(
+        UUID ticketId, UUID eventId, UUID ticketTypeId, UUID purchaserId, LocalDateTime purchasedAt) {
+}
@@ -0,0 +1,68 @@
+package com.devtiro.ticket_platform.domain.events;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Collects what a listener makes of the domain events published in a
+ * transaction, one {@code T} per transaction, and hands it to {@code flush}
+ * just before the transaction commits, so whatever it writes commits or
+ * rolls back with the change behind the events. Buffers flush in ascending
+ * {@code order}.
+ */
+public final class TransactionEventBuffer<T> {
+    private final int order;
+    private final Supplier<T> create;
+    private final Consumer<T> flush;
+
+    public TransactionEventBuffer(int order, Supplier<T> create, Consumer<T> flush) {
+        this.order = order;
+        this.create = create;
+        this.flush = flush;
+    }
+
+    /**
+     * The current transaction's buffer, created on the first event it publishes.
+     *
+     * @throws IllegalStateException if {@code event} was published outside a transaction
+     */
+    public T current(Object event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException(
+                    event.getClass().getSimpleName() + " must be published inside the transaction making the change");
+        }
+        Bound bound = (Bound) TransactionSynchronizationManager.getResource(this);
+        if (bound == null) {
+            bound = new Bound(create.get());
+            TransactionSynchronizationManager.bindResource(this, bound);
+            TransactionSynchronizationManager.registerSynchronization(bound);
+        }
+        return bound.value;
+    }
+
+    private final class Bound implements TransactionSynchronization {
+        private final T value;
+
+        private Bound(T value) {
+            this.value = value;
+        }
+
+        @Override
+        public int getOrder() {
+            return order;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            flush.accept(value);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TransactionEventBuffer.this);
+        }
+    }
+}
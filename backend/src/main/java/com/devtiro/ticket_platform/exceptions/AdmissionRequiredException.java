@@ -0,0 +1,22 @@
+package com.devtiro.ticket_platform.exceptions;
+
+public class AdmissionRequiredException extends EventTicketException{
+    public AdmissionRequiredException() {
+    }
+
+    public AdmissionRequiredException(String message) {
+        super(message);
+    }
+
+    public AdmissionRequiredException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public AdmissionRequiredException(Throwable cause) {
+        super(cause);
+    }
+
+    public AdmissionRequiredException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
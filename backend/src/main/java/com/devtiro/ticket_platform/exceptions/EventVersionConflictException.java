@@ -0,0 +1,22 @@
+package com.devtiro.ticket_platform.exceptions;
+
+public class EventVersionConflictException extends EventTicketException{
+    public EventVersionConflictException() {
+    }
+
+    public EventVersionConflictException(String message) {
+        super(message);
+    }
+
+    public EventVersionConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public EventVersionConflictException(Throwable cause) {
+        super(cause);
+    }
+
+    public EventVersionConflictException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
@@ -0,0 +1,22 @@
+package com.devtiro.ticket_platform.exceptions;
+
+public class IdempotencyKeyInProgressException extends EventTicketException{
+    public IdempotencyKeyInProgressException() {
+    }
+
+    public IdempotencyKeyInProgressException(String message) {
+        super(message);
+    }
+
+    public IdempotencyKeyInProgressException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public IdempotencyKeyInProgressException(Throwable cause) {
+        super(cause);
+    }
+
+    public IdempotencyKeyInProgressException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
@@ -0,0 +1,22 @@
+package com.devtiro.ticket_platform.exceptions;
+
+public class IdempotencyKeyMismatchException extends EventTicketException{
+    public IdempotencyKeyMismatchException() {
+    }
+
+    public IdempotencyKeyMismatchException(String message) {
+        super(message);
+    }
+
+    public IdempotencyKeyMismatchException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public IdempotencyKeyMismatchException(Throwable cause) {
+        super(cause);
+    }
+
+    public IdempotencyKeyMismatchException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
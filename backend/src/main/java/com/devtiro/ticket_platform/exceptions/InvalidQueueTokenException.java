@@ -0,0 +1,22 @@
+package com.devtiro.ticket_platform.exceptions;
+
+public class InvalidQueueTokenException extends EventTicketException{
+    public InvalidQueueTokenException() {
+    }
+
+    public InvalidQueueTokenException(String message) {
+        super(message);
+    }
+
+    public InvalidQueueTokenException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public InvalidQueueTokenException(Throwable cause) {
+        super(cause);
+    }
+
+    public InvalidQueueTokenException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
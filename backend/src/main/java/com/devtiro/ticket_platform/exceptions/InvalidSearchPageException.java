@@ -0,0 +1,22 @@
+package com.devtiro.ticket_platform.exceptions;
+
+public class InvalidSearchPageException extends EventTicketException{
+    public InvalidSearchPageException() {
+    }
+
+    public InvalidSearchPageException(String message) {
+        super(message);
+    }
+
+    public InvalidSearchPageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public InvalidSearchPageException(Throwable cause) {
+        super(cause);
+    }
+
+    public InvalidSearchPageException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
@@ -0,0 +1,22 @@
+package com.devtiro.ticket_platform.exceptions;
+
+public class TicketSalesClosedException extends EventTicketException{
+    public TicketSalesClosedException() {
+    }
+
+    public TicketSalesClosedException(String message) {
+        super(message);
+    }
+
+    public TicketSalesClosedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public TicketSalesClosedException(Throwable cause) {
+        super(cause);
+    }
+
+    public TicketSalesClosedException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
@@ -0,0 +1,22 @@
+package com.devtiro.ticket_platform.exceptions;
+
+public class TicketWriteBacklogException extends EventTicketException{
+    public TicketWriteBacklogException() {
+    }
+
+    public TicketWriteBacklogException(String message) {
+        super(message);
+    }
+
+    public TicketWriteBacklogException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public TicketWriteBacklogException(Throwable cause) {
+        super(cause);
+    }
+
+    public TicketWriteBacklogException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
@@ -0,0 +1,71 @@
+package com.devtiro.ticket_platform.filters;
+
+import com.devtiro.ticket_platform.Repositories.UserRepository;
+import com.devtiro.ticket_platform.cache.CallerRunsLoader;
+import com.devtiro.ticket_platform.domain.entities.User;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Creates a local user the first time a token subject is seen. Subjects known
+ * to exist are remembered in a bounded in-process set, so only the first
+ * request of a user (or the first after eviction) reaches the database.
+ * Concurrent first requests for the same subject wait on a single insert.
+ * Setting {@code max-size} to 0 disables the set.
+ */
+@Component
+public class UserProvisioner {
+    private final UserRepository userRepository;
+    private final AsyncCache<UUID, Boolean> provisioned;
+
+    public UserProvisioner(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.users.provisioned-cache.max-size:100000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.provisioned = maxSize > 0
+                ? CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                        .maximumSize(maxSize)
+                        .recordStats()
+                        .buildAsync(), "provisioned-users")
+                : null;
+    }
+
+    public void provision(Jwt jwt) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        if (provisioned == null) {
+            createIfAbsent(userId, jwt);
+            return;
+        }
+        CallerRunsLoader.get(provisioned, userId, id -> {
+            createIfAbsent(id, jwt);
+            return Boolean.TRUE;
+        });
+    }
+
+    private void createIfAbsent(UUID userId, Jwt jwt) {
+        if (userRepository.existsById(userId)) {
+            return;
+        }
+        User user = new User();
+        user.setId(userId);
+        user.setName(jwt.getClaimAsString("preferred_username"));
+        user.setEmail(jwt.getClaimAsString("email"));
+        try {
+            userRepository.save(user);
+        } catch (DataIntegrityViolationException ex) {
+            // Another instance inserted the same user between our check and insert
+            if (!userRepository.existsById(userId)) {
+                throw ex;
+            }
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package com.devtiro.ticket_platform.filters;
 
-import com.devtiro.ticket_platform.Repositories.UserRepository;
-import com.devtiro.ticket_platform.domain.entities.User;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,29 +12,19 @@
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 public class UserProvisioningFilter extends OncePerRequestFilter{
-    private final UserRepository userRepository;
+    private final UserProvisioner userProvisioner;
     @Override
     protected void doFilterInternal(
             HttpServletRequest request,
             HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
-        //TODO
         Authentication authentication= SecurityContextHolder.getContext().getAuthentication();
         if(authentication!=null && authentication.isAuthenticated() && authentication.getPrincipal() instanceof Jwt jwt){
-            UUID keycloakId=UUID.fromString(jwt.getSubject());
-            if(!userRepository.existsById((keycloakId))){
-
-                User user=new User();
-                user.setId(keycloakId);
-                user.setName(jwt.getClaimAsString("preferred_username"));
-                user.setEmail(jwt.getClaimAsString("email"));
-                userRepository.save(user);
-            }
+            userProvisioner.provision(jwt);
         }
         filterChain.doFilter(request,response);
     }
@@ -0,0 +1,175 @@
+package com.devtiro.ticket_platform.idempotency;
+
+import com.devtiro.ticket_platform.Repositories.PurchaseIdempotencyKeyRepository;
+import com.devtiro.ticket_platform.cache.CallerRunsLoader;
+import com.devtiro.ticket_platform.domain.entities.PurchaseIdempotencyKey;
+import com.devtiro.ticket_platform.exceptions.IdempotencyKeyInProgressException;
+import com.devtiro.ticket_platform.exceptions.IdempotencyKeyMismatchException;
+import com.devtiro.ticket_platform.exceptions.InvalidIdempotencyKeyException;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Runs each purchase made under an {@code Idempotency-Key} at most once per
+ * buyer and key. Recent outcomes are answered from a bounded in-memory cache,
+ * where concurrent retries of a purchase still in flight wait for that one
+ * purchase instead of starting their own. Behind it, every key is claimed in
+ * the {@code purchase_idempotency_keys} table before the purchase runs, which
+ * answers retries that outlive the cache and keeps two nodes from running
+ * the same key at once.
+ * <p>
+ * The purchase itself records its ticket on the claim, in the transaction
+ * that stores the ticket. A claim without a ticket therefore bought nothing,
+ * and once it is older than {@code claim-timeout} it is deleted as abandoned.
+ * Only successful purchases are kept: a failed one, sold out say, releases
+ * its key and a retry tries again.
+ */
+@Component
+@Slf4j
+public class IdempotentPurchases {
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private record Key(UUID userId, String idempotencyKey) {
+    }
+
+    private record Purchase(UUID eventId, UUID ticketTypeId, UUID ticketId) {
+    }
+
+    private final PurchaseIdempotencyKeyRepository purchaseIdempotencyKeyRepository;
+    private final TransactionTemplate transaction;
+    private final AsyncCache<Key, Purchase> recent;
+    private final Duration retention;
+    private final Duration claimTimeout;
+    private final ScheduledExecutorService cleaner;
+
+    public IdempotentPurchases(
+            PurchaseIdempotencyKeyRepository purchaseIdempotencyKeyRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.idempotency.max-size:100000}") long maxSize,
+            @Value("${app.idempotency.memory-ttl:10m}") Duration memoryTtl,
+            @Value("${app.idempotency.retention:24h}") Duration retention,
+            @Value("${app.idempotency.claim-timeout:5m}") Duration claimTimeout) {
+        this.purchaseIdempotencyKeyRepository = purchaseIdempotencyKeyRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.recent = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(memoryTtl)
+                .recordStats()
+                .buildAsync(), "purchase-idempotency");
+        this.retention = retention;
+        this.claimTimeout = claimTimeout;
+        this.cleaner = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("idempotency-keys").daemon().factory());
+        cleaner.scheduleWithFixedDelay(
+                this::deleteExpired, claimTimeout.toNanos(), claimTimeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Runs {@code purchase} unless the buyer already made it under this key.
+     * It is given the id of the claim, and must set the claim's
+     * {@code ticket_id} in the same transaction that stores the ticket.
+     *
+     * @return the id of the ticket bought, now or by the earlier request
+     * @throws IdempotencyKeyMismatchException if the key was used for another ticket type
+     * @throws IdempotencyKeyInProgressException if another node is still running the key
+     */
+    public UUID purchase(
+            UUID userId, String idempotencyKey, UUID eventId, UUID ticketTypeId, Function<UUID, UUID> purchase) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException(String.format(
+                    "Idempotency keys must be 1 to %d characters", MAX_KEY_LENGTH));
+        }
+        Purchase made = CallerRunsLoader.get(recent, new Key(userId, idempotencyKey),
+                key -> purchaseOnce(key, eventId, ticketTypeId, purchase));
+        if (!made.eventId().equals(eventId) || !made.ticketTypeId().equals(ticketTypeId)) {
+            throw new IdempotencyKeyMismatchException(String.format(
+                    "Idempotency key '%s' was used to buy a different ticket type", idempotencyKey));
+        }
+        return made.ticketId();
+    }
+
+    /**
+     * Drops the in-memory outcomes, as their TTL would, leaving only the table.
+     */
+    void forgetRecent() {
+        recent.synchronous().invalidateAll();
+    }
+
+    @PreDestroy
+    void stop() {
+        cleaner.shutdownNow();
+    }
+
+    private Purchase purchaseOnce(Key key, UUID eventId, UUID ticketTypeId, Function<UUID, UUID> purchase) {
+        PurchaseIdempotencyKey existing = purchaseIdempotencyKeyRepository
+                .findByUserIdAndIdempotencyKey(key.userId(), key.idempotencyKey())
+                .orElse(null);
+        if (existing != null) {
+            return replay(existing);
+        }
+        PurchaseIdempotencyKey claim;
+        try {
+            claim = purchaseIdempotencyKeyRepository.saveAndFlush(PurchaseIdempotencyKey.builder()
+                    .userId(key.userId())
+                    .idempotencyKey(key.idempotencyKey())
+                    .eventId(eventId)
+                    .ticketTypeId(ticketTypeId)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        } catch (DataIntegrityViolationException raced) {
+            // Another node claimed the key between the lookup and the insert
+            return replay(purchaseIdempotencyKeyRepository
+                    .findByUserIdAndIdempotencyKey(key.userId(), key.idempotencyKey())
+                    .orElseThrow(() -> raced));
+        }
+
+        UUID ticketId;
+        try {
+            ticketId = purchase.apply(claim.getId());
+        } catch (RuntimeException ex) {
+            try {
+                purchaseIdempotencyKeyRepository.deleteById(claim.getId());
+            } catch (RuntimeException cleanup) {
+                log.warn("Could not release idempotency key of failed purchase", cleanup);
+            }
+            throw ex;
+        }
+        return new Purchase(eventId, ticketTypeId, ticketId);
+    }
+
+    private static Purchase replay(PurchaseIdempotencyKey made) {
+        if (made.getTicketId() == null) {
+            throw new IdempotencyKeyInProgressException(String.format(
+                    "A purchase with idempotency key '%s' is still in progress", made.getIdempotencyKey()));
+        }
+        return new Purchase(made.getEventId(), made.getTicketTypeId(), made.getTicketId());
+    }
+
+    private void deleteExpired() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            transaction.executeWithoutResult(status -> purchaseIdempotencyKeyRepository.deleteExpired(
+                    now.minus(retention), now.minus(claimTimeout)));
+        } catch (RuntimeException ex) {
+            log.warn("Could not delete expired idempotency keys", ex);
+        }
+    }
+}
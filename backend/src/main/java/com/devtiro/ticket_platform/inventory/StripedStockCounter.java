@@ -0,0 +1,120 @@
+package com.devtiro.ticket_platform.inventory;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Remaining stock for a single ticket type, split across independent stripes so
+ * concurrent buyers rarely CAS the same memory location. Every decrement is
+ * floor-checked per stripe, so the total can never go below zero.
+ */
+public final class StripedStockCounter {
+    // Each stripe occupies its own cache line (8 longs = 64 bytes) to avoid false sharing.
+    private static final int PAD = 8;
+
+    private final AtomicLongArray cells;
+    private final int stripes;
+    private final int mask;
+
+    public StripedStockCounter(long initialStock, int maxStripes) {
+        this(Math.min(maxStripes, initialStock));
+        if (initialStock < 0) {
+            throw new IllegalArgumentException("Initial stock cannot be negative");
+        }
+        spread(initialStock);
+    }
+
+    private StripedStockCounter(long wantedStripes) {
+        this.stripes = Integer.highestOneBit((int) Math.max(1, wantedStripes));
+        this.mask = stripes - 1;
+        this.cells = new AtomicLongArray(stripes * PAD);
+    }
+
+    /**
+     * An empty counter for stock that arrives later through {@link #adjust},
+     * striped for up to {@code maxStripes} concurrent buyers.
+     */
+    public static StripedStockCounter empty(int maxStripes) {
+        return new StripedStockCounter(maxStripes);
+    }
+
+    /**
+     * Takes one unit of stock, starting at the caller's home stripe and moving on
+     * to the others only when it is empty.
+     *
+     * @return {@code true} if a unit was taken, {@code false} if the counter is exhausted
+     */
+    public boolean tryDecrement() {
+        int home = probe();
+        for (int i = 0; i < stripes; i++) {
+            int index = ((home + i) & mask) * PAD;
+            long current;
+            while ((current = cells.get(index)) > 0) {
+                if (cells.compareAndSet(index, current, current - 1)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public void increment() {
+        cells.getAndIncrement((probe() & mask) * PAD);
+    }
+
+    /**
+     * Adds (or, for a negative delta, removes as much as is available of) stock.
+     *
+     * @return the amount actually applied
+     */
+    public long adjust(long delta) {
+        if (delta >= 0) {
+            spread(delta);
+            return delta;
+        }
+        long toRemove = -delta;
+        long removed = 0;
+        for (int i = 0; i < stripes && removed < toRemove; i++) {
+            int index = i * PAD;
+            long current;
+            while ((current = cells.get(index)) > 0 && removed < toRemove) {
+                long take = Math.min(current, toRemove - removed);
+                if (cells.compareAndSet(index, current, current - take)) {
+                    removed += take;
+                }
+            }
+        }
+        return -removed;
+    }
+
+    /**
+     * Sum of all stripes. Only a snapshot while purchases are in flight.
+     */
+    public long remaining() {
+        long sum = 0;
+        for (int i = 0; i < stripes; i++) {
+            sum += cells.get(i * PAD);
+        }
+        return sum;
+    }
+
+    private void spread(long stock) {
+        long share = stock / stripes;
+        long remainder = stock % stripes;
+        for (int i = 0; i < stripes; i++) {
+            long add = share + (i < remainder ? 1 : 0);
+            if (add > 0) {
+                cells.getAndAdd(i * PAD, add);
+            }
+        }
+    }
+
+    int stripes() {
+        return stripes;
+    }
+
+    private static int probe() {
+        long id = Thread.currentThread().threadId();
+        int h = (int) (id ^ (id >>> 32));
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,72 @@
+package com.devtiro.ticket_platform.inventory;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Tickets of one type set aside for a buyer during checkout. The stock was
+ * taken from {@link TicketInventory} when the hold was made; it goes back
+ * there unless the hold is confirmed before it expires.
+ */
+public final class TicketHold extends TimerWheel.Timer {
+    public enum State { HELD, CONFIRMED, RELEASED, EXPIRED }
+
+    private final UUID id;
+    private final UUID eventId;
+    private final UUID ticketTypeId;
+    private final UUID purchaserId;
+    private final int quantity;
+    private final LocalDateTime expiresAt;
+    private State state = State.HELD;
+
+    TicketHold(UUID id, UUID eventId, UUID ticketTypeId, UUID purchaserId, int quantity, LocalDateTime expiresAt) {
+        this.id = id;
+        this.eventId = eventId;
+        this.ticketTypeId = ticketTypeId;
+        this.purchaserId = purchaserId;
+        this.quantity = quantity;
+        this.expiresAt = expiresAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    public UUID getTicketTypeId() {
+        return ticketTypeId;
+    }
+
+    public UUID getPurchaserId() {
+        return purchaserId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Moves a held hold to {@code next}. Confirm, release and expiry race for
+     * the same hold; exactly one of them wins.
+     *
+     * @return {@code false} if the hold had already left {@link State#HELD}
+     */
+    synchronized boolean finish(State next) {
+        if (state != State.HELD) {
+            return false;
+        }
+        state = next;
+        return true;
+    }
+}
@@ -0,0 +1,144 @@
+package com.devtiro.ticket_platform.inventory;
+
+import com.devtiro.ticket_platform.dashboard.SalesCounters;
+import com.devtiro.ticket_platform.exceptions.TicketHoldNotFoundException;
+import com.devtiro.ticket_platform.exceptions.TicketsSoldOutException;
+import com.devtiro.ticket_platform.inventory.TicketHold.State;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Checkout holds. Making a hold takes its tickets out of {@link TicketInventory}
+ * straight away, so a held ticket cannot be sold to anyone else, and puts it on
+ * a timer wheel that hands the stock back after {@code ttl} unless the buyer
+ * confirms or releases it first. Expiry costs the wheel thread a constant
+ * amount of work per hold and nothing per tick, so there is no polling job
+ * and no table of holds to scan.
+ * <p>
+ * Holds are in memory on the node that made them, like the stock they came
+ * from. Shutting down releases them, so their tickets go back to the shared
+ * pool with the rest of the node's lease. Every change in what is held is
+ * passed on to {@link SalesCounters} for the organizer dashboard.
+ */
+@Component
+public class TicketHolds {
+    private final TicketInventory ticketInventory;
+    private final SalesCounters salesCounters;
+    private final Duration ttl;
+    private final ConcurrentMap<UUID, TicketHold> holds = new ConcurrentHashMap<>();
+    private final TimerWheel<TicketHold> wheel;
+    private final Counter expired;
+
+    public TicketHolds(
+            TicketInventory ticketInventory,
+            SalesCounters salesCounters,
+            MeterRegistry meterRegistry,
+            @Value("${app.holds.ttl:5m}") Duration ttl,
+            @Value("${app.holds.tick:100ms}") Duration tick) {
+        this.ticketInventory = ticketInventory;
+        this.salesCounters = salesCounters;
+        this.ttl = ttl;
+        this.wheel = new TimerWheel<>(tick, System.nanoTime(), this::expire);
+        Gauge.builder("ticket.holds.active", holds, ConcurrentMap::size)
+                .description("Checkout holds not yet confirmed, released or expired")
+                .register(meterRegistry);
+        this.expired = Counter.builder("ticket.holds.expired")
+                .description("Checkout holds whose tickets went back on sale unconfirmed")
+                .register(meterRegistry);
+        wheel.start("ticket-holds");
+    }
+
+    /**
+     * Holds {@code quantity} tickets of the type for the buyer, all or none.
+     *
+     * @throws TicketsSoldOutException if fewer than {@code quantity} are left
+     */
+    public TicketHold hold(UUID purchaserId, UUID eventId, UUID ticketTypeId, int quantity) {
+        int reserved = 0;
+        try {
+            for (; reserved < quantity; reserved++) {
+                ticketInventory.reserve(eventId, ticketTypeId);
+            }
+        } catch (RuntimeException ex) {
+            release(ticketTypeId, reserved);
+            throw ex;
+        }
+        long now = System.nanoTime();
+        TicketHold hold = new TicketHold(UUID.randomUUID(), eventId, ticketTypeId, purchaserId, quantity,
+                LocalDateTime.now().plus(ttl));
+        holds.put(hold.getId(), hold);
+        salesCounters.held(ticketTypeId, quantity);
+        wheel.schedule(hold, now + ttl.toNanos());
+        return hold;
+    }
+
+    /**
+     * Takes the buyer's hold for confirmation. From here on the caller owns
+     * its stock: it either turns into tickets or goes back through
+     * {@link TicketInventory#release}.
+     *
+     * @throws TicketHoldNotFoundException if the buyer has no such hold, or it expired
+     */
+    public TicketHold claim(UUID purchaserId, UUID holdId) {
+        return finish(purchaserId, holdId, State.CONFIRMED);
+    }
+
+    /**
+     * Gives up the buyer's hold and puts its tickets back on sale.
+     *
+     * @throws TicketHoldNotFoundException if the buyer has no such hold, or it expired
+     */
+    public void release(UUID purchaserId, UUID holdId) {
+        TicketHold hold = finish(purchaserId, holdId, State.RELEASED);
+        release(hold.getTicketTypeId(), hold.getQuantity());
+    }
+
+    @PreDestroy
+    void stop() {
+        wheel.stop();
+        holds.values().forEach(hold -> {
+            if (hold.finish(State.RELEASED)) {
+                salesCounters.held(hold.getTicketTypeId(), -hold.getQuantity());
+                release(hold.getTicketTypeId(), hold.getQuantity());
+            }
+        });
+        holds.clear();
+    }
+
+    private TicketHold finish(UUID purchaserId, UUID holdId, State state) {
+        TicketHold hold = holds.get(holdId);
+        if (hold == null || !hold.getPurchaserId().equals(purchaserId) || !hold.finish(state)) {
+            throw new TicketHoldNotFoundException(String.format(
+                    "Hold with ID '%s' does not exist or has expired", holdId));
+        }
+        holds.remove(holdId);
+        salesCounters.held(hold.getTicketTypeId(), -hold.getQuantity());
+        return hold;
+    }
+
+    private void expire(TicketHold hold) {
+        // Confirmed and released holds stay on the wheel until their deadline and are skipped here
+        if (hold.finish(State.EXPIRED)) {
+            holds.remove(hold.getId());
+            salesCounters.held(hold.getTicketTypeId(), -hold.getQuantity());
+            release(hold.getTicketTypeId(), hold.getQuantity());
+            expired.increment();
+        }
+    }
+
+    private void release(UUID ticketTypeId, int quantity) {
+        for (int i = 0; i < quantity; i++) {
+            ticketInventory.release(ticketTypeId);
+        }
+    }
+}
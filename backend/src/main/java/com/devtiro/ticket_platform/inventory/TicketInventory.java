@@ -0,0 +1,318 @@
+package com.devtiro.ticket_platform.inventory;
+
+import com.devtiro.ticket_platform.Repositories.TicketRepository;
+import com.devtiro.ticket_platform.Repositories.TicketTypeRepository;
+import com.devtiro.ticket_platform.domain.entities.TicketStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.TicketType;
+import com.devtiro.ticket_platform.exceptions.TicketTypeNotFoundException;
+import com.devtiro.ticket_platform.exceptions.TicketsSoldOutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Stock this node may sell, per ticket type. Several nodes share a ticket
+ * type's stock through its {@code unallocated} column: a node leases a chunk
+ * of up to {@code chunk-size} tickets in one guarded UPDATE, sells them from
+ * a striped in-memory counter and never touches the row again until the
+ * chunk runs out. The database sees one write per chunk, not per ticket, and
+ * no node can sell a ticket it has not leased, so nodes cannot oversell
+ * between them.
+ * <p>
+ * Chunks shrink as the pool drains so the last tickets spread thinly over
+ * the nodes that still sell. A lease left untouched for {@code idle-return}
+ * goes back to the pool for busier nodes, and everything unsold goes back on
+ * shutdown. A node that dies without shutting down strands what it had
+ * leased until the column is corrected by hand.
+ */
+@Component
+@Slf4j
+public class TicketInventory {
+    // Below chunk-size times this, a lease takes this fraction of what is left
+    private static final int TAIL_SHARE = 8;
+    private static final long POOL_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final TicketTypeRepository ticketTypeRepository;
+    private final TicketRepository ticketRepository;
+    private final TransactionTemplate leaseTransaction;
+    private final int maxStripes;
+    private final int chunkSize;
+    private final Counter leases;
+    private final ScheduledExecutorService idleReturner;
+    private final ConcurrentMap<UUID, Stock> stocks = new ConcurrentHashMap<>();
+
+    public TicketInventory(
+            TicketTypeRepository ticketTypeRepository,
+            TicketRepository ticketRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.inventory.max-stripes:16}") int maxStripes,
+            @Value("${app.inventory.lease.chunk-size:100}") int chunkSize,
+            @Value("${app.inventory.lease.idle-return:30s}") Duration idleReturn) {
+        this.ticketTypeRepository = ticketTypeRepository;
+        this.ticketRepository = ticketRepository;
+        // Leases commit on their own, whatever transaction the buyer happens to be in
+        this.leaseTransaction = new TransactionTemplate(transactionManager);
+        leaseTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxStripes = maxStripes;
+        this.chunkSize = chunkSize;
+        this.leases = Counter.builder("inventory.leases")
+                .description("Chunks of stock leased from the database")
+                .register(meterRegistry);
+        this.idleReturner = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("inventory-leases").daemon().factory());
+        idleReturner.scheduleWithFixedDelay(
+                this::returnIdleLeases, idleReturn.toNanos(), idleReturn.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    public void reserve(UUID eventId, UUID ticketTypeId) {
+        Stock stock = stock(eventId, ticketTypeId);
+        if (!stock.counter.tryDecrement() && !leaseAndTake(ticketTypeId, stock)) {
+            throw new TicketsSoldOutException(String.format(
+                    "Tickets are sold out for ticket type '%s'", ticketTypeId));
+        }
+    }
+
+    /**
+     * Stock left for the ticket type: what this node holds plus what no node
+     * has leased yet. Only a snapshot, and blind to other nodes' leases.
+     */
+    public long remaining(UUID eventId, UUID ticketTypeId) {
+        Stock stock = stock(eventId, ticketTypeId);
+        if (System.nanoTime() - stock.poolReadAt > POOL_REFRESH_NANOS) {
+            stock.pool(leaseTransaction.execute(status -> unallocated(ticketTypeId)));
+        }
+        return stock.counter.remaining() + stock.pool;
+    }
+
+    public void release(UUID ticketTypeId) {
+        Stock stock = stocks.get(ticketTypeId);
+        if (stock != null) {
+            stock.counter.increment();
+        }
+    }
+
+    /**
+     * Moves {@code totalAvailable} changes into the pool within the
+     * surrounding transaction. After a cut this node also hands back its
+     * lease once the transaction commits, so the pool can absorb it; other
+     * nodes give theirs back as they run out or go idle.
+     *
+     * @param capacityDeltas new capacity minus old, by ticket type
+     */
+    public void resize(Map<UUID, Long> capacityDeltas) {
+        if (capacityDeltas.isEmpty()) {
+            return;
+        }
+        capacityDeltas.forEach((ticketTypeId, delta) ->
+                ticketTypeRepository.addUnallocated(ticketTypeId, Math.toIntExact(delta)));
+        afterCommit(() -> capacityDeltas.forEach((ticketTypeId, delta) -> {
+            Stock stock = stocks.get(ticketTypeId);
+            if (stock != null) {
+                stock.stale();
+                if (delta < 0) {
+                    giveBack(ticketTypeId, stock, Long.MAX_VALUE);
+                }
+            }
+        }));
+    }
+
+    public void evictAfterCommit(Collection<UUID> ticketTypeIds) {
+        if (ticketTypeIds.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> ticketTypeIds.forEach(stocks::remove));
+    }
+
+    /**
+     * Capacity a {@code totalAvailable} value stands for.
+     */
+    public static long capacity(Integer totalAvailable) {
+        return totalAvailable == null ? 0 : Math.max(0, totalAvailable);
+    }
+
+    @PreDestroy
+    void stop() {
+        idleReturner.shutdownNow();
+        stocks.forEach((ticketTypeId, stock) -> giveBack(ticketTypeId, stock, Long.MAX_VALUE));
+    }
+
+    private Stock stock(UUID eventId, UUID ticketTypeId) {
+        Stock stock = stocks.get(ticketTypeId);
+        if (stock == null) {
+            ticketTypeRepository.findByIdAndEventId(ticketTypeId, eventId)
+                    .orElseThrow(() -> new TicketTypeNotFoundException(String.format(
+                            "Ticket type with ID '%s' does not exist", ticketTypeId)));
+            stock = stocks.computeIfAbsent(ticketTypeId,
+                    id -> new Stock(eventId, StripedStockCounter.empty(maxStripes)));
+        }
+        if (!stock.eventId.equals(eventId)) {
+            throw new TicketTypeNotFoundException(String.format(
+                    "Ticket type with ID '%s' does not exist", ticketTypeId));
+        }
+        return stock;
+    }
+
+    /**
+     * Leases a chunk and takes one ticket of it for the caller. Buyers who
+     * find the node's stock empty at the same time queue here behind one
+     * lease instead of each going to the database.
+     *
+     * @return {@code false} if the pool is empty too
+     */
+    private boolean leaseAndTake(UUID ticketTypeId, Stock stock) {
+        stock.leaseLock.lock();
+        try {
+            while (true) {
+                if (stock.counter.tryDecrement()) {
+                    return true;
+                }
+                Long granted = leaseTransaction.execute(status -> lease(ticketTypeId, stock));
+                if (granted == null) {
+                    // Another node leased in between, read the pool again
+                    continue;
+                }
+                if (granted == 0) {
+                    return false;
+                }
+                leases.increment();
+                stock.counter.adjust(granted - 1);
+                return true;
+            }
+        } finally {
+            stock.leaseLock.unlock();
+        }
+    }
+
+    /**
+     * @return the size of the chunk leased, 0 if the pool is empty or
+     * {@code null} if another node got there first
+     */
+    private Long lease(UUID ticketTypeId, Stock stock) {
+        long pool = unallocated(ticketTypeId);
+        stock.pool(pool);
+        if (pool <= 0) {
+            return 0L;
+        }
+        int chunk = (int) Math.min(chunkSize, Math.max(1, pool / TAIL_SHARE));
+        if (ticketTypeRepository.leaseUnallocated(ticketTypeId, chunk) == 0) {
+            return null;
+        }
+        stock.pool(pool - chunk);
+        return (long) chunk;
+    }
+
+    /**
+     * Reads the pool, starting it off at capacity minus tickets sold the first
+     * time the ticket type is leased from.
+     */
+    private long unallocated(UUID ticketTypeId) {
+        Integer unallocated = ticketTypeRepository.findUnallocatedById(ticketTypeId);
+        if (unallocated != null) {
+            return unallocated;
+        }
+        TicketType ticketType = ticketTypeRepository.findById(ticketTypeId).orElse(null);
+        if (ticketType == null) {
+            return 0;
+        }
+        long sold = ticketRepository.countByTicketTypeIdAndStatus(ticketTypeId, TicketStatusEnum.PURCHASED);
+        ticketTypeRepository.initializeUnallocated(
+                ticketTypeId, (int) Math.max(0, capacity(ticketType.getTotalAvailable()) - sold));
+        unallocated = ticketTypeRepository.findUnallocatedById(ticketTypeId);
+        return unallocated == null ? 0 : unallocated;
+    }
+
+    private void giveBack(UUID ticketTypeId, Stock stock, long atMost) {
+        stock.leaseLock.lock();
+        try {
+            long taken = -stock.counter.adjust(-atMost);
+            if (taken == 0) {
+                return;
+            }
+            try {
+                leaseTransaction.executeWithoutResult(status ->
+                        ticketTypeRepository.addUnallocated(ticketTypeId, Math.toIntExact(taken)));
+                stock.pool(stock.pool + taken);
+            } catch (RuntimeException ex) {
+                log.warn("Could not return {} tickets of ticket type '{}' to the pool", taken, ticketTypeId, ex);
+                stock.counter.adjust(taken);
+            }
+        } finally {
+            stock.leaseLock.unlock();
+        }
+    }
+
+    private void returnIdleLeases() {
+        stocks.forEach((ticketTypeId, stock) -> {
+            try {
+                long left = stock.counter.remaining();
+                if (left > 0 && left == stock.lastSeenRemaining) {
+                    giveBack(ticketTypeId, stock, left);
+                }
+                stock.lastSeenRemaining = stock.counter.remaining();
+            } catch (RuntimeException ex) {
+                log.warn("Could not return idle lease of ticket type '{}'", ticketTypeId, ex);
+            }
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class Stock {
+        private final UUID eventId;
+        private final StripedStockCounter counter;
+        // Held across the lease transaction; a monitor there would pin a virtual
+        // thread to its carrier for the whole database round trip
+        private final ReentrantLock leaseLock = new ReentrantLock();
+        // Last known size of the shared pool, for remaining()
+        private volatile long pool;
+        private volatile long poolReadAt;
+        // Read and written by the idle returner only
+        private long lastSeenRemaining;
+
+        private Stock(UUID eventId, StripedStockCounter counter) {
+            this.eventId = eventId;
+            this.counter = counter;
+            stale();
+        }
+
+        private void stale() {
+            this.poolReadAt = System.nanoTime() - POOL_REFRESH_NANOS - 1;
+        }
+
+        private void pool(long pool) {
+            this.pool = pool;
+            this.poolReadAt = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.devtiro.ticket_platform.inventory;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel: {@value #LEVELS} levels of {@value #WHEEL_SIZE}
+ * slots, each level's slot spanning a whole turn of the level below. A timer
+ * goes into the coarsest level that still tells it apart from "now" and drops
+ * a level each time that level's slot comes round, so scheduling, cascading
+ * and expiring are all O(1) per timer however many are pending. Deadlines past
+ * the top level's range ({@code 2^32} ticks) are parked at its far end and
+ * re-placed when they get there.
+ * <p>
+ * Timers are intrusive, with the slot lists linked through the timers
+ * themselves, and new ones reach the wheel thread through a lock-free stack
+ * linked the same way: scheduling allocates nothing. There is no cancel; a
+ * timer whose work is already done should simply ignore its expiry.
+ * <p>
+ * All the wheel's state belongs to one thread, either the one {@link #start}
+ * creates or, in tests, whoever calls {@link #advance}. Only {@link #schedule}
+ * may be called from anywhere.
+ */
+@Slf4j
+final class TimerWheel<T extends TimerWheel.Timer> {
+    private static final int WHEEL_BITS = 8;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELTA = (1L << (WHEEL_BITS * LEVELS)) - 1;
+
+    /**
+     * Something to expire. An instance may be scheduled once.
+     */
+    abstract static class Timer {
+        private long deadlineTick;
+        private Timer next;
+    }
+
+    private final long tickNanos;
+    private final long origin;
+    private final Consumer<? super T> onExpiry;
+    private final Timer[][] slots = new Timer[LEVELS][WHEEL_SIZE];
+    private final AtomicReference<Timer> incoming = new AtomicReference<>();
+    private long currentTick;
+    private volatile boolean running;
+    private Thread thread;
+
+    TimerWheel(Duration tick, long originNanos, Consumer<? super T> onExpiry) {
+        this.tickNanos = tick.toNanos();
+        this.origin = originNanos;
+        this.onExpiry = onExpiry;
+    }
+
+    /**
+     * Expires {@code timer} on the first tick at or after {@code deadlineNanos}
+     * on the {@link System#nanoTime()} clock.
+     */
+    void schedule(T timer, long deadlineNanos) {
+        Timer entry = timer;
+        // Round up so a timer never fires before its deadline
+        entry.deadlineTick = Math.ceilDiv(deadlineNanos - origin, tickNanos);
+        Timer head;
+        do {
+            head = incoming.get();
+            entry.next = head;
+        } while (!incoming.compareAndSet(head, entry));
+    }
+
+    /**
+     * Runs every tick up to {@code nowNanos}, expiring what falls due.
+     *
+     * @return the number of timers expired
+     */
+    int advance(long nowNanos) {
+        long target = Math.floorDiv(nowNanos - origin, tickNanos);
+        int expired = placeIncoming();
+        while (currentTick < target) {
+            currentTick++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                int shift = WHEEL_BITS * level;
+                if ((currentTick & ((1L << shift) - 1)) == 0) {
+                    expired += cascade(level, (int) (currentTick >>> shift) & WHEEL_MASK);
+                }
+            }
+            expired += expireSlot((int) currentTick & WHEEL_MASK);
+        }
+        return expired;
+    }
+
+    void start(String threadName) {
+        running = true;
+        thread = Thread.ofPlatform().name(threadName).daemon().start(this::run);
+    }
+
+    void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                advance(System.nanoTime());
+            } catch (RuntimeException ex) {
+                log.warn("Timer wheel tick failed", ex);
+            }
+            // Sleep to the next tick boundary; nothing runs between ticks, however many timers are pending
+            LockSupport.parkNanos(origin + (currentTick + 1) * tickNanos - System.nanoTime());
+        }
+    }
+
+    private int placeIncoming() {
+        Timer timer = incoming.getAndSet(null);
+        int expired = 0;
+        while (timer != null) {
+            Timer next = timer.next;
+            expired += place(timer);
+            timer = next;
+        }
+        return expired;
+    }
+
+    private int cascade(int level, int slot) {
+        Timer timer = slots[level][slot];
+        slots[level][slot] = null;
+        int expired = 0;
+        while (timer != null) {
+            Timer next = timer.next;
+            expired += place(timer);
+            timer = next;
+        }
+        return expired;
+    }
+
+    private int place(Timer timer) {
+        long delta = timer.deadlineTick - currentTick;
+        if (delta <= 0) {
+            timer.next = null;
+            expire(timer);
+            return 1;
+        }
+        long tick = delta > MAX_DELTA ? currentTick + MAX_DELTA : timer.deadlineTick;
+        long span = Math.min(delta, MAX_DELTA);
+        int level = 0;
+        while (span >= 1L << (WHEEL_BITS * (level + 1))) {
+            level++;
+        }
+        int slot = (int) (tick >>> (WHEEL_BITS * level)) & WHEEL_MASK;
+        timer.next = slots[level][slot];
+        slots[level][slot] = timer;
+        return 0;
+    }
+
+    private int expireSlot(int slot) {
+        Timer timer = slots[0][slot];
+        slots[0][slot] = null;
+        int expired = 0;
+        while (timer != null) {
+            Timer next = timer.next;
+            timer.next = null;
+            expire(timer);
+            expired++;
+            timer = next;
+        }
+        return expired;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void expire(Timer timer) {
+        try {
+            onExpiry.accept((T) timer);
+        } catch (RuntimeException ex) {
+            log.warn("Timer expiry failed", ex);
+        }
+    }
+}
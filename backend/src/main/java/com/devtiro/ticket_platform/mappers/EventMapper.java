@@ -2,8 +2,13 @@
 
 import com.devtiro.ticket_platform.domain.CreateEventRequest;
 import com.devtiro.ticket_platform.domain.CreateTicketTypeRequest;
+import com.devtiro.ticket_platform.domain.EventSalesSummary;
+import com.devtiro.ticket_platform.domain.PatchEventRequest;
+import com.devtiro.ticket_platform.domain.PatchTicketTypeRequest;
+import com.devtiro.ticket_platform.domain.TicketTypeSalesSummary;
 import com.devtiro.ticket_platform.domain.dtos.*;
 import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.domain.entities.EventCheckinHour;
 import com.devtiro.ticket_platform.domain.entities.TicketType;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
@@ -22,4 +27,14 @@ public interface EventMapper {
     GetEventDetailsTicketTypesResponseDto toGetEventDetailsTicketTypesResponseDto(TicketType ticketType);
     GetEventDetailsResponseDto toGetEventDetailsResponseDto(Event event);
 
+    PatchTicketTypeRequest fromDto(PatchTicketTypeRequestDto dto);
+
+    PatchEventRequest fromDto(PatchEventRequestDto dto);
+    UpdateTicketTypeResponseDto toUpdateTicketTypeResponseDto(TicketType ticketType);
+    UpdateEventResponseDto toUpdateEventResponseDto(Event event);
+
+    TicketTypeSalesDto toTicketTypeSalesDto(TicketTypeSalesSummary ticketType);
+    HourlyCheckinsDto toHourlyCheckinsDto(EventCheckinHour hour);
+    EventSalesSummaryDto toEventSalesSummaryDto(EventSalesSummary summary);
+
 }
\ No newline at end of file
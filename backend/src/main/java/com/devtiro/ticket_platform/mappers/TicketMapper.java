@@ -0,0 +1,20 @@
+package com.devtiro.ticket_platform.mappers;
+
+import com.devtiro.ticket_platform.domain.dtos.ListTicketResponseDto;
+import com.devtiro.ticket_platform.domain.dtos.ListTicketTicketTypeResponseDto;
+import com.devtiro.ticket_platform.domain.dtos.TicketHoldResponseDto;
+import com.devtiro.ticket_platform.domain.entities.Ticket;
+import com.devtiro.ticket_platform.domain.entities.TicketType;
+import com.devtiro.ticket_platform.inventory.TicketHold;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface TicketMapper {
+
+    ListTicketTicketTypeResponseDto toListTicketTicketTypeResponseDto(TicketType ticketType);
+
+    ListTicketResponseDto toListTicketResponseDto(Ticket ticket);
+
+    TicketHoldResponseDto toTicketHoldResponseDto(TicketHold ticketHold);
+}
@@ -0,0 +1,14 @@
+package com.devtiro.ticket_platform.mappers;
+
+import com.devtiro.ticket_platform.domain.dtos.TicketValidationResponseDto;
+import com.devtiro.ticket_platform.domain.entities.TicketValidation;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface TicketValidationMapper {
+
+    @Mapping(target = "ticketId", source = "ticket.id")
+    TicketValidationResponseDto toTicketValidationResponseDto(TicketValidation ticketValidation);
+}
@@ -0,0 +1,15 @@
+package com.devtiro.ticket_platform.metrics;
+
+import jakarta.persistence.PostLoad;
+
+/**
+ * Default entity listener, registered in {@code META-INF/orm.xml}, that
+ * counts every entity Hibernate loads towards the current request.
+ */
+public class EntityLoadCounter {
+
+    @PostLoad
+    public void loaded(Object entity) {
+        HibernateRequestCounts.entityLoaded();
+    }
+}
@@ -0,0 +1,48 @@
+package com.devtiro.ticket_platform.metrics;
+
+/**
+ * Hibernate work done on the current thread while a request is being
+ * served. Counting is a thread-local lookup and an increment; outside a
+ * request, on background writers say, nothing is counted.
+ */
+final class HibernateRequestCounts {
+    private static final ThreadLocal<HibernateRequestCounts> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+    private long entityLoads;
+
+    private HibernateRequestCounts() {
+    }
+
+    static HibernateRequestCounts start() {
+        HibernateRequestCounts counts = new HibernateRequestCounts();
+        CURRENT.set(counts);
+        return counts;
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    static void statementPrepared() {
+        HibernateRequestCounts counts = CURRENT.get();
+        if (counts != null) {
+            counts.statements++;
+        }
+    }
+
+    static void entityLoaded() {
+        HibernateRequestCounts counts = CURRENT.get();
+        if (counts != null) {
+            counts.entityLoads++;
+        }
+    }
+
+    long statements() {
+        return statements;
+    }
+
+    long entityLoads() {
+        return entityLoads;
+    }
+}
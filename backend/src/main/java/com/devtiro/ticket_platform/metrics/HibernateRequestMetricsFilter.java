@@ -0,0 +1,78 @@
+package com.devtiro.ticket_platform.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Records how many statements Hibernate prepared and how many entities it
+ * loaded for each request, as {@code hibernate.request.statements} and
+ * {@code hibernate.request.entity.loads}, tagged like
+ * {@code http.server.requests} with the method and the URI template. A
+ * request that runs a query per row shows up here long before it shows up
+ * in latency.
+ */
+@Component
+// Just inside the observation filter, so it covers the whole chain that request timing does
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class HibernateRequestMetricsFilter extends OncePerRequestFilter {
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private record Key(String method, String uri) {
+    }
+
+    private record Summaries(DistributionSummary statements, DistributionSummary entityLoads) {
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<Key, Summaries> summaries = new ConcurrentHashMap<>();
+
+    public HibernateRequestMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        HibernateRequestCounts counts = HibernateRequestCounts.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            HibernateRequestCounts.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            Summaries recorded = summaries.computeIfAbsent(
+                    new Key(request.getMethod(), pattern == null ? UNKNOWN_URI : pattern.toString()),
+                    this::summaries);
+            recorded.statements().record(counts.statements());
+            recorded.entityLoads().record(counts.entityLoads());
+        }
+    }
+
+    private Summaries summaries(Key key) {
+        return new Summaries(
+                DistributionSummary.builder("hibernate.request.statements")
+                        .description("JDBC statements Hibernate prepared while serving a request")
+                        .tag("method", key.method())
+                        .tag("uri", key.uri())
+                        .register(meterRegistry),
+                DistributionSummary.builder("hibernate.request.entity.loads")
+                        .description("Entities Hibernate loaded while serving a request")
+                        .tag("method", key.method())
+                        .tag("uri", key.uri())
+                        .register(meterRegistry));
+    }
+}
@@ -0,0 +1,100 @@
+package com.devtiro.ticket_platform.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records each call as {@code service.invocations}, tagged with the service
+ * interface, the method and the exception it threw, if any. Timers are looked
+ * up once per method and exception type and kept, so a call costs a map
+ * lookup and a histogram update on top of the call itself.
+ * <p>
+ * The registry is only resolved on the first call, which keeps it out of the
+ * early bean post-processing that would skip its own configuration.
+ */
+public class ServiceTimingInterceptor implements MethodInterceptor {
+    private static final String METRIC_NAME = "service.invocations";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ConcurrentMap<Method, MethodTimers> timers = new ConcurrentHashMap<>();
+
+    public ServiceTimingInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            timers(invocation).succeeded.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable ex) {
+            timers(invocation).failed(ex.getClass()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+    }
+
+    private MethodTimers timers(MethodInvocation invocation) {
+        MethodTimers methodTimers = timers.get(invocation.getMethod());
+        if (methodTimers == null) {
+            methodTimers = timers.computeIfAbsent(invocation.getMethod(), method -> new MethodTimers(
+                    meterRegistry.getObject(), serviceName(method, AopUtils.getTargetClass(invocation.getThis())),
+                    method.getName()));
+        }
+        return methodTimers;
+    }
+
+    /**
+     * The interface the method belongs to, as the callers know the service,
+     * or the bean's class if it implements none.
+     */
+    private static String serviceName(Method method, Class<?> targetClass) {
+        for (Class<?> type : targetClass.getInterfaces()) {
+            try {
+                type.getMethod(method.getName(), method.getParameterTypes());
+                return type.getSimpleName();
+            } catch (NoSuchMethodException notThisOne) {
+                // Try the next interface
+            }
+        }
+        return targetClass.getSimpleName();
+    }
+
+    private static final class MethodTimers {
+        private final MeterRegistry meterRegistry;
+        private final String service;
+        private final String method;
+        private final Timer succeeded;
+        private final ConcurrentMap<Class<?>, Timer> failed = new ConcurrentHashMap<>();
+
+        private MethodTimers(MeterRegistry meterRegistry, String service, String method) {
+            this.meterRegistry = meterRegistry;
+            this.service = service;
+            this.method = method;
+            this.succeeded = timer("none");
+        }
+
+        private Timer failed(Class<?> exception) {
+            return failed.computeIfAbsent(exception, type -> timer(type.getSimpleName()));
+        }
+
+        private Timer timer(String exception) {
+            return Timer.builder(METRIC_NAME)
+                    .description("Calls into application services")
+                    .tag("service", service)
+                    .tag("method", method)
+                    .tag("exception", exception)
+                    .register(meterRegistry);
+        }
+    }
+}
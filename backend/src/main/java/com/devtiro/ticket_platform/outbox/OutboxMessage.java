@@ -0,0 +1,84 @@
+package com.devtiro.ticket_platform.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.CollectionType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One outbox entry as the relay hands it to subscribers: the domain events of
+ * one type that one transaction recorded for one partition. The events are
+ * only deserialized when a subscriber asks for their type.
+ */
+public final class OutboxMessage {
+    private final long id;
+    private final int partition;
+    private final boolean local;
+    private final String type;
+    private final int size;
+    private final String payload;
+    private final LocalDateTime recordedAt;
+    private final ObjectMapper objectMapper;
+    private volatile List<?> events;
+
+    OutboxMessage(long id, int partition, boolean local, String type, int size, String payload,
+                  LocalDateTime recordedAt, ObjectMapper objectMapper) {
+        this.id = id;
+        this.partition = partition;
+        this.local = local;
+        this.type = type;
+        this.size = size;
+        this.payload = payload;
+        this.recordedAt = recordedAt;
+        this.objectMapper = objectMapper;
+    }
+
+    public long id() {
+        return id;
+    }
+
+    public int partition() {
+        return partition;
+    }
+
+    /**
+     * Whether this node recorded the events, in which case its
+     * {@code AFTER_COMMIT} listeners have already seen them.
+     */
+    public boolean local() {
+        return local;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public LocalDateTime recordedAt() {
+        return recordedAt;
+    }
+
+    /**
+     * The events, in the order they were published, if they are of
+     * {@code eventType}; otherwise none.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> events(Class<T> eventType) {
+        if (!eventType.getSimpleName().equals(type)) {
+            return List.of();
+        }
+        List<?> read = events;
+        if (read == null) {
+            CollectionType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, eventType);
+            try {
+                read = objectMapper.readValue(payload, listType);
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Unreadable outbox entry " + id, ex);
+            }
+            events = read;
+        }
+        return (List<T>) read;
+    }
+}
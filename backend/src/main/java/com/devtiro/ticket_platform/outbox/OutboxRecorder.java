@@ -0,0 +1,150 @@
+package com.devtiro.ticket_platform.outbox;
+
+import com.devtiro.ticket_platform.domain.events.EventChangedEvent;
+import com.devtiro.ticket_platform.domain.events.EventsImportedEvent;
+import com.devtiro.ticket_platform.domain.events.TicketPurchasedEvent;
+import com.devtiro.ticket_platform.domain.events.TransactionEventBuffer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Writes domain events to the {@code outbox_entries} table in the transaction
+ * that publishes them, so an event is recorded if and only if the change
+ * behind it commits. Events are collected per transaction and written just
+ * before it commits, one row per partition and event type holding all of
+ * them, so a batch of two hundred purchases costs a handful of rows rather
+ * than two hundred.
+ * <p>
+ * Each event goes to a partition picked from the event it concerns, so
+ * everything about one event lands in one partition. Writing to a partition
+ * takes its {@code outbox_partitions} row lock until commit, so within a
+ * partition entries become visible in id order and a reader that has seen
+ * an id has seen every id below it. The lock is taken after the persistence
+ * context is flushed, leaving just the insert and the commit under it.
+ * {@code partitions} must be the same on every node.
+ */
+@Component
+public class OutboxRecorder {
+    private static final String INSERT_PARTITION = "INSERT INTO outbox_partitions (partition_no)"
+            + " SELECT ? WHERE NOT EXISTS (SELECT 1 FROM outbox_partitions WHERE partition_no = ?)";
+    private static final String LOCK_PARTITION =
+            "SELECT partition_no FROM outbox_partitions WHERE partition_no = ? FOR UPDATE";
+    private static final String INSERT_ENTRY = "INSERT INTO outbox_entries"
+            + " (partition_no, origin, type, event_count, payload, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int partitions;
+    private final UUID nodeId = UUID.randomUUID();
+    private final Counter recorded;
+    private final TransactionEventBuffer<Map<Key, List<Object>>> pending =
+            new TransactionEventBuffer<>(Ordered.LOWEST_PRECEDENCE, LinkedHashMap::new, this::insert);
+
+    public OutboxRecorder(
+            JdbcTemplate jdbcTemplate,
+            EntityManager entityManager,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.outbox.partitions:4}") int partitions) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.partitions = partitions;
+        this.recorded = Counter.builder("outbox.recorded")
+                .description("Domain events written to the outbox")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void createPartitions() {
+        for (int partition = 0; partition < partitions; partition++) {
+            try {
+                jdbcTemplate.update(INSERT_PARTITION, partition, partition);
+            } catch (DuplicateKeyException raced) {
+                // Another node starting at the same time created it
+            }
+        }
+    }
+
+    @EventListener
+    public void onEventChanged(EventChangedEvent change) {
+        record(change.eventId(), change);
+    }
+
+    @EventListener
+    public void onEventsImported(EventsImportedEvent imported) {
+        imported.eventIds().forEach(eventId -> record(eventId, new EventsImportedEvent(List.of(eventId))));
+    }
+
+    @EventListener
+    public void onTicketPurchased(TicketPurchasedEvent purchase) {
+        record(purchase.eventId(), purchase);
+    }
+
+    int partitions() {
+        return partitions;
+    }
+
+    /**
+     * Identifies this node's entries, so subscribers can skip changes they
+     * already acted on when they committed.
+     */
+    UUID nodeId() {
+        return nodeId;
+    }
+
+    private void record(UUID eventId, Object event) {
+        pending.current(event)
+                .computeIfAbsent(new Key(Math.floorMod(eventId.hashCode(), partitions), event.getClass()),
+                        key -> new ArrayList<>())
+                .add(event);
+    }
+
+    private void insert(Map<Key, List<Object>> entries) {
+        // Take other row locks now, not while holding the partitions'
+        entityManager.flush();
+        // In ascending order, so writers to several partitions cannot deadlock
+        entries.keySet().stream().map(Key::partition).distinct().sorted()
+                .forEach(partition -> jdbcTemplate.queryForObject(LOCK_PARTITION, Integer.class, partition));
+        LocalDateTime now = LocalDateTime.now();
+        List<Map.Entry<Key, List<Object>>> rows = List.copyOf(entries.entrySet());
+        jdbcTemplate.batchUpdate(INSERT_ENTRY, rows, rows.size(), (ps, row) -> {
+            ps.setInt(1, row.getKey().partition());
+            ps.setObject(2, nodeId);
+            ps.setString(3, row.getKey().type().getSimpleName());
+            ps.setInt(4, row.getValue().size());
+            ps.setString(5, write(row.getValue()));
+            ps.setObject(6, now);
+        });
+        rows.forEach(row -> recorded.increment(row.getValue().size()));
+    }
+
+    private String write(List<Object> events) {
+        try {
+            return objectMapper.writeValueAsString(events);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Could not serialize outbox events", ex);
+        }
+    }
+
+    private record Key(int partition, Class<?> type) {
+    }
+}
@@ -0,0 +1,187 @@
+package com.devtiro.ticket_platform.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Delivers the outbox to this node's {@link OutboxSubscriber}s. Each
+ * partition has a single poller thread that reads entries past the last one
+ * it delivered in batches of up to {@code batch-size}, in id order, and
+ * hands each batch to every subscriber before reading the next.
+ * <p>
+ * {@link OutboxRecorder} makes a partition's entries visible in id order, so
+ * an offset per partition is all a poller needs. Offsets are kept in memory
+ * and start at the end of the table, so a node sees what is recorded from
+ * its startup on. Every node reads every entry; entries older than
+ * {@code retention} are deleted.
+ * <p>
+ * Polling starts and stops with the application context's lifecycle, so it
+ * ends before any bean, the schema included, is destroyed.
+ */
+@Component
+@Slf4j
+public class OutboxRelay implements SmartLifecycle {
+    private static final String SELECT_BATCH =
+            "SELECT id, partition_no, origin, type, event_count, payload, created_at FROM outbox_entries"
+                    + " WHERE partition_no = ? AND id > ? ORDER BY id LIMIT ?";
+    private static final String SELECT_LAST_ID = "SELECT MAX(id) FROM outbox_entries WHERE partition_no = ?";
+    private static final String DELETE_EXPIRED = "DELETE FROM outbox_entries WHERE created_at < ?";
+    private static final long CLEAN_INTERVAL_SECONDS = 60;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxRecorder outboxRecorder;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<OutboxSubscriber> subscriberProvider;
+    private final int batchSize;
+    private final long pollIntervalNanos;
+    private final Duration retention;
+    private final Counter delivered;
+    private final Counter failures;
+    private final Timer lag;
+    private final List<Thread> pollers = new ArrayList<>();
+    private ScheduledExecutorService cleaner;
+    private volatile List<OutboxSubscriber> subscribers = List.of();
+    private volatile boolean running;
+
+    public OutboxRelay(
+            JdbcTemplate jdbcTemplate,
+            OutboxRecorder outboxRecorder,
+            ObjectMapper objectMapper,
+            ObjectProvider<OutboxSubscriber> subscriberProvider,
+            MeterRegistry meterRegistry,
+            @Value("${app.outbox.batch-size:100}") int batchSize,
+            @Value("${app.outbox.poll-interval:50ms}") Duration pollInterval,
+            @Value("${app.outbox.retention:1h}") Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.outboxRecorder = outboxRecorder;
+        this.objectMapper = objectMapper;
+        this.subscriberProvider = subscriberProvider;
+        this.batchSize = batchSize;
+        this.pollIntervalNanos = pollInterval.toNanos();
+        this.retention = retention;
+        this.delivered = Counter.builder("outbox.delivered")
+                .description("Domain events handed to subscribers")
+                .register(meterRegistry);
+        this.failures = Counter.builder("outbox.failures")
+                .description("Outbox batches a subscriber failed to handle")
+                .register(meterRegistry);
+        this.lag = Timer.builder("outbox.lag")
+                .description("Time from recording an outbox entry to delivering it")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        subscribers = subscriberProvider.orderedStream().toList();
+        running = true;
+        for (int partition = 0; partition < outboxRecorder.partitions(); partition++) {
+            int current = partition;
+            Long last = jdbcTemplate.queryForObject(SELECT_LAST_ID, Long.class, partition);
+            long offset = last == null ? 0 : last;
+            pollers.add(Thread.ofPlatform().name("outbox-relay-" + partition).daemon()
+                    .start(() -> relay(current, offset)));
+        }
+        cleaner = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("outbox-cleaner").daemon().factory());
+        cleaner.scheduleWithFixedDelay(
+                this::deleteExpired, CLEAN_INTERVAL_SECONDS, CLEAN_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        cleaner.shutdownNow();
+        pollers.forEach(LockSupport::unpark);
+        try {
+            for (Thread poller : pollers) {
+                poller.join(TimeUnit.SECONDS.toMillis(10));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        pollers.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void relay(int partition, long offset) {
+        while (running) {
+            List<OutboxMessage> batch;
+            try {
+                batch = jdbcTemplate.query(SELECT_BATCH, this::toMessage, partition, offset, batchSize);
+            } catch (RuntimeException ex) {
+                log.warn("Could not read outbox partition {}", partition, ex);
+                LockSupport.parkNanos(TimeUnit.SECONDS.toNanos(1));
+                continue;
+            }
+            if (!batch.isEmpty()) {
+                deliver(batch);
+                offset = batch.getLast().id();
+            }
+            if (batch.size() < batchSize) {
+                LockSupport.parkNanos(pollIntervalNanos);
+            }
+        }
+    }
+
+    private void deliver(List<OutboxMessage> batch) {
+        for (OutboxSubscriber subscriber : subscribers) {
+            try {
+                subscriber.onOutboxMessages(batch);
+            } catch (RuntimeException ex) {
+                failures.increment();
+                log.error("{} failed on {} outbox entries", subscriber.getClass().getSimpleName(), batch.size(), ex);
+            }
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboxMessage message : batch) {
+            delivered.increment(message.size());
+            lag.record(Duration.between(message.recordedAt(), now));
+        }
+    }
+
+    private OutboxMessage toMessage(ResultSet row, int rowNum) throws SQLException {
+        return new OutboxMessage(
+                row.getLong("id"),
+                row.getInt("partition_no"),
+                outboxRecorder.nodeId().equals(row.getObject("origin", UUID.class)),
+                row.getString("type"),
+                row.getInt("event_count"),
+                row.getString("payload"),
+                row.getObject("created_at", LocalDateTime.class),
+                objectMapper);
+    }
+
+    private void deleteExpired() {
+        try {
+            int deleted = jdbcTemplate.update(DELETE_EXPIRED, LocalDateTime.now().minus(retention));
+            log.debug("Deleted {} expired outbox entries", deleted);
+        } catch (RuntimeException ex) {
+            log.warn("Could not delete expired outbox entries", ex);
+        }
+    }
+}
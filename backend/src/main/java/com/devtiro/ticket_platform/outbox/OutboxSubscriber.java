@@ -0,0 +1,14 @@
+package com.devtiro.ticket_platform.outbox;
+
+import java.util.List;
+
+/**
+ * Receives the domain events recorded by every node, in batches of outbox
+ * entries from one partition at a time. Within a partition entries arrive in
+ * order, and each partition is delivered by its own thread. A subscriber that throws
+ * loses the batch; the relay logs it and moves on.
+ */
+public interface OutboxSubscriber {
+
+    void onOutboxMessages(List<OutboxMessage> messages);
+}
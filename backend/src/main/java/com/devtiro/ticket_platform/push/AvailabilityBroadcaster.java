@@ -0,0 +1,257 @@
+package com.devtiro.ticket_platform.push;
+
+import com.devtiro.ticket_platform.cache.PublishedEventCache;
+import com.devtiro.ticket_platform.domain.dtos.EventAvailabilityDto;
+import com.devtiro.ticket_platform.domain.dtos.GetEventDetailsResponseDto;
+import com.devtiro.ticket_platform.domain.dtos.GetEventDetailsTicketTypesResponseDto;
+import com.devtiro.ticket_platform.domain.dtos.TicketTypeAvailabilityDto;
+import com.devtiro.ticket_platform.domain.events.EventChangedEvent;
+import com.devtiro.ticket_platform.exceptions.TicketTypeNotFoundException;
+import com.devtiro.ticket_platform.inventory.TicketInventory;
+import com.devtiro.ticket_platform.outbox.OutboxMessage;
+import com.devtiro.ticket_platform.outbox.OutboxSubscriber;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes remaining stock per ticket type to everyone watching a published
+ * event, as server-sent events. A single ticker reads the in-memory counters
+ * of watched events {@code updates-per-second} times a second and, for each
+ * event whose numbers moved, serializes one snapshot and hands the same bytes
+ * to all of its subscribers. However many purchases happen in between, a
+ * watcher gets at most that many messages a second, and purchases themselves
+ * do no extra work.
+ * <p>
+ * Streams are held with servlet async I/O, so an idle subscriber costs a
+ * socket and a little heap but no thread. A keep-alive comment goes out every
+ * {@code heartbeat} so proxies keep the connection and dead clients are found.
+ */
+@Component
+@Slf4j
+public class AvailabilityBroadcaster implements OutboxSubscriber {
+    private static final byte[] HEARTBEAT = ":\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private final PublishedEventCache publishedEventCache;
+    private final TicketInventory ticketInventory;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentMap<UUID, Topic> topics = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService ticker;
+    private final Timer fanOut;
+
+    public AvailabilityBroadcaster(
+            PublishedEventCache publishedEventCache,
+            TicketInventory ticketInventory,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.inventory.push.updates-per-second:2}") int updatesPerSecond,
+            @Value("${app.inventory.push.heartbeat:30s}") Duration heartbeat) {
+        this.publishedEventCache = publishedEventCache;
+        this.ticketInventory = ticketInventory;
+        this.objectMapper = objectMapper;
+        this.fanOut = Timer.builder("inventory.push.fanout")
+                .description("Time to hand one availability snapshot to every subscriber of an event")
+                .register(meterRegistry);
+        Gauge.builder("inventory.push.subscribers", topics,
+                        watched -> watched.values().stream().mapToInt(topic -> topic.subscribers.size()).sum())
+                .description("Open availability streams")
+                .register(meterRegistry);
+        this.ticker = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("availability-push").daemon().factory());
+        long period = TimeUnit.SECONDS.toNanos(1) / updatesPerSecond;
+        ticker.scheduleAtFixedRate(this::publishChanges, period, period, TimeUnit.NANOSECONDS);
+        ticker.scheduleAtFixedRate(this::sendHeartbeats,
+                heartbeat.toNanos(), heartbeat.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Turns the request into an open stream for the event, starting with the
+     * current numbers.
+     *
+     * @return {@code false}, with the response untouched, if the event is not published
+     */
+    public boolean subscribe(UUID eventId, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        Optional<GetEventDetailsResponseDto> event = publishedEventCache.getPublishedEvent(eventId);
+        if (event.isEmpty()) {
+            return false;
+        }
+        response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader("Cache-Control", "no-store");
+        // Stop nginx-style proxies from buffering the stream
+        response.setHeader("X-Accel-Buffering", "no");
+        AsyncContext context = request.startAsync();
+        context.setTimeout(0);
+
+        Topic topic = topics.computeIfAbsent(eventId, id -> new Topic(id, ticketTypeIds(event.get())));
+        SseSubscriber subscriber = new SseSubscriber(
+                context, response.getOutputStream(), topic.current(), closed -> unsubscribe(eventId, closed));
+        context.addListener(subscriber);
+        // Non-blocking from here on, which send() relies on
+        response.getOutputStream().setWriteListener(subscriber);
+        // Added under the map's lock so it cannot join a topic that unsubscribe is removing
+        topics.compute(eventId, (id, existing) -> {
+            Topic joined = existing != null ? existing : topic;
+            joined.subscribers.add(subscriber);
+            return joined;
+        });
+        if (subscriber.isClosed()) {
+            // Went away before it was added, so its own unsubscribe found nothing to remove
+            unsubscribe(eventId, subscriber);
+        }
+        return true;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEventChanged(EventChangedEvent change) {
+        Topic topic = topics.get(change.eventId());
+        if (topic != null) {
+            topic.stale = true;
+        }
+    }
+
+    @Override
+    public void onOutboxMessages(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            if (!message.local()) {
+                message.events(EventChangedEvent.class).forEach(this::onEventChanged);
+            }
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        ticker.shutdownNow();
+        topics.values().forEach(topic -> topic.subscribers.forEach(SseSubscriber::close));
+    }
+
+    private void unsubscribe(UUID eventId, SseSubscriber subscriber) {
+        topics.computeIfPresent(eventId, (id, topic) -> {
+            topic.subscribers.remove(subscriber);
+            return topic.subscribers.isEmpty() ? null : topic;
+        });
+    }
+
+    private void publishChanges() {
+        for (Topic topic : topics.values()) {
+            try {
+                byte[] message = topic.changed();
+                if (message != null) {
+                    fanOut.record(() -> topic.subscribers.forEach(subscriber -> subscriber.send(message)));
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Could not publish availability of event {}", topic.eventId, ex);
+            }
+        }
+    }
+
+    private void sendHeartbeats() {
+        topics.values().forEach(topic -> topic.subscribers.forEach(subscriber -> subscriber.sendIfIdle(HEARTBEAT)));
+    }
+
+    private static List<UUID> ticketTypeIds(GetEventDetailsResponseDto event) {
+        return event.getTicketTypes().stream().map(GetEventDetailsTicketTypesResponseDto::getId).toList();
+    }
+
+    private final class Topic {
+        private final UUID eventId;
+        private final Set<SseSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private volatile boolean stale;
+        private volatile List<UUID> ticketTypeIds;
+        // Swapped together under the topic's lock; message is also read without it
+        private long[] remaining;
+        private volatile byte[] message;
+
+        private Topic(UUID eventId, List<UUID> ticketTypeIds) {
+            this.eventId = eventId;
+            this.ticketTypeIds = ticketTypeIds;
+        }
+
+        byte[] current() {
+            byte[] latest = message;
+            if (latest == null) {
+                changed();
+                latest = message;
+            }
+            return latest;
+        }
+
+        /**
+         * Reads the event and the stock without holding the topic's lock, as
+         * both may go to the database, and only swaps the result in under it.
+         *
+         * @return the new snapshot, or {@code null} if nothing moved since the last one
+         */
+        byte[] changed() {
+            boolean refreshed = false;
+            if (stale) {
+                stale = false;
+                Optional<GetEventDetailsResponseDto> event = publishedEventCache.getPublishedEvent(eventId);
+                if (event.isEmpty()) {
+                    // Unpublished or deleted, there is nothing left to watch
+                    subscribers.forEach(SseSubscriber::close);
+                    return null;
+                }
+                ticketTypeIds = ticketTypeIds(event.get());
+                refreshed = true;
+            }
+            List<UUID> ids = ticketTypeIds;
+            List<TicketTypeAvailabilityDto> ticketTypes = new ArrayList<>(ids.size());
+            for (UUID ticketTypeId : ids) {
+                try {
+                    ticketTypes.add(new TicketTypeAvailabilityDto(
+                            ticketTypeId, ticketInventory.remaining(eventId, ticketTypeId)));
+                } catch (TicketTypeNotFoundException removed) {
+                    // removed since the event was read, the next refresh drops it
+                }
+            }
+            long[] latest = ticketTypes.stream().mapToLong(TicketTypeAvailabilityDto::getRemaining).toArray();
+            synchronized (this) {
+                if (!refreshed && message != null && Arrays.equals(latest, remaining)) {
+                    return null;
+                }
+                remaining = latest;
+                message = toMessage(new EventAvailabilityDto(eventId, ticketTypes));
+                return message;
+            }
+        }
+    }
+
+    private byte[] toMessage(EventAvailabilityDto availability) {
+        try {
+            return ("event: availability\ndata: " + objectMapper.writeValueAsString(availability) + "\n\n")
+                    .getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
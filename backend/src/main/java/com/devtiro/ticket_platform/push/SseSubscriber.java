@@ -0,0 +1,113 @@
+package com.devtiro.ticket_platform.push;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * One open event stream, written with non-blocking servlet I/O so a client
+ * that stops reading never holds up the thread sending to everyone else.
+ * Only the newest unsent message is kept: while a client's socket is full,
+ * later snapshots replace earlier ones and the client simply skips ahead.
+ */
+final class SseSubscriber implements WriteListener, AsyncListener {
+    private final AsyncContext context;
+    private final ServletOutputStream out;
+    private final Consumer<SseSubscriber> onClose;
+    private byte[] pending;
+    private boolean closed;
+
+    SseSubscriber(AsyncContext context, ServletOutputStream out, byte[] first, Consumer<SseSubscriber> onClose) {
+        this.context = context;
+        this.out = out;
+        this.pending = first;
+        this.onClose = onClose;
+    }
+
+    synchronized void send(byte[] message) {
+        if (closed) {
+            return;
+        }
+        pending = message;
+        writePending();
+    }
+
+    /**
+     * Sends {@code message} only if nothing else is waiting, so a keep-alive
+     * never displaces real data.
+     */
+    synchronized void sendIfIdle(byte[] message) {
+        if (!closed && pending == null) {
+            send(message);
+        }
+    }
+
+    synchronized boolean isClosed() {
+        return closed;
+    }
+
+    synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        pending = null;
+        try {
+            context.complete();
+        } catch (IllegalStateException alreadyCompleted) {
+            // the container got there first
+        }
+        onClose.accept(this);
+    }
+
+    @Override
+    public synchronized void onWritePossible() {
+        if (!closed) {
+            writePending();
+        }
+    }
+
+    @Override
+    public void onError(Throwable failure) {
+        close();
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+
+    // Once isReady() returns false the container calls onWritePossible() when the socket drains
+    private void writePending() {
+        try {
+            if (pending != null && out.isReady()) {
+                out.write(pending);
+                pending = null;
+                if (out.isReady()) {
+                    out.flush();
+                }
+            }
+        } catch (IOException | IllegalStateException ex) {
+            close();
+        }
+    }
+}
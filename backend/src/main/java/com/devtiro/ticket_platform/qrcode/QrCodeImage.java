@@ -0,0 +1,10 @@
+package com.devtiro.ticket_platform.qrcode;
+
+import java.nio.file.Path;
+
+/**
+ * A rendered QR code on disk. {@code etag} is the content address, so it is a
+ * strong validator: equal tags mean byte-identical images.
+ */
+public record QrCodeImage(Path path, String etag, long length) {
+}
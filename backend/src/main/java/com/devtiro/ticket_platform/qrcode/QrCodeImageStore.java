@@ -0,0 +1,160 @@
+package com.devtiro.ticket_platform.qrcode;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Content-addressed on-disk cache of rendered QR code images. An image lives at
+ * {@code <dir>/<ab>/<abcdef...>.png}, named after the SHA-256 of the renderer
+ * version, size and QR value, so a file never changes once written and can be
+ * served with a strong ETag.
+ * <p>
+ * Codes are rendered ahead of time by {@link #prerender} on a bounded pool.
+ * When the pool is saturated the request is dropped, and {@link #get} renders
+ * the image on first fetch instead. Concurrent requests for the same image
+ * share one render.
+ */
+@Component
+@Slf4j
+public class QrCodeImageStore {
+    private final Path directory;
+    private final QrCodeRenderer renderer;
+    private final ThreadPoolExecutor workers;
+    private final ConcurrentMap<String, CompletableFuture<QrCodeImage>> rendering = new ConcurrentHashMap<>();
+
+    public QrCodeImageStore(
+            @Value("${app.qr.images.dir:${java.io.tmpdir}/ticket-platform/qr-codes}") Path directory,
+            @Value("${app.qr.images.size:300}") int size,
+            @Value("${app.qr.images.threads:2}") int threads,
+            @Value("${app.qr.images.queue-capacity:10000}") int queueCapacity) {
+        this.directory = directory;
+        this.renderer = new QrCodeRenderer(size);
+        this.workers = new ThreadPoolExecutor(
+                threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("qr-render-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to create QR image directory " + directory, ex);
+        }
+    }
+
+    /**
+     * Queues {@code value} for rendering unless it is already on disk.
+     */
+    public void prerender(String value) {
+        String key = key(value);
+        if (Files.exists(pathOf(key))) {
+            return;
+        }
+        try {
+            workers.execute(() -> {
+                try {
+                    render(key, value);
+                } catch (RuntimeException ex) {
+                    log.warn("Unable to pre-render QR code image {}", key, ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            log.debug("QR render queue is full, {} will be rendered on first fetch", key);
+        }
+    }
+
+    /**
+     * @return the image for {@code value}, rendering it now if it is not on disk yet
+     */
+    public QrCodeImage get(String value) {
+        String key = key(value);
+        Path path = pathOf(key);
+        try {
+            return new QrCodeImage(path, key, Files.size(path));
+        } catch (IOException notRenderedYet) {
+            return render(key, value);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        workers.shutdownNow();
+    }
+
+    private QrCodeImage render(String key, String value) {
+        CompletableFuture<QrCodeImage> mine = new CompletableFuture<>();
+        CompletableFuture<QrCodeImage> inFlight = rendering.putIfAbsent(key, mine);
+        if (inFlight != null) {
+            try {
+                return inFlight.join();
+            } catch (CompletionException ex) {
+                throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+            }
+        }
+        try {
+            QrCodeImage image = write(key, renderer.render(value));
+            mine.complete(image);
+            return image;
+        } catch (RuntimeException ex) {
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            rendering.remove(key, mine);
+        }
+    }
+
+    private QrCodeImage write(String key, byte[] png) {
+        Path path = pathOf(key);
+        try {
+            Files.createDirectories(path.getParent());
+            Path temp = Files.createTempFile(path.getParent(), key, ".tmp");
+            try {
+                Files.write(temp, png);
+                try {
+                    Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException ex) {
+                    Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to store QR code image " + key, ex);
+        }
+        return new QrCodeImage(path, key, png.length);
+    }
+
+    private Path pathOf(String key) {
+        return directory.resolve(key.substring(0, 2)).resolve(key + ".png");
+    }
+
+    private String key(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((QrCodeRenderer.VERSION + ":" + renderer.size() + ":").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.devtiro.ticket_platform.qrcode;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.WriterException;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.QRCodeWriter;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+/**
+ * Renders a QR code value as a black-and-white PNG. Any change to the output
+ * must bump {@link #VERSION}, which is part of every cached image's key.
+ */
+final class QrCodeRenderer {
+    static final int VERSION = 1;
+
+    private static final Map<EncodeHintType, Object> HINTS = Map.of(
+            EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.M,
+            EncodeHintType.MARGIN, 2);
+
+    private final int size;
+
+    QrCodeRenderer(int size) {
+        this.size = size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    byte[] render(String value) {
+        BitMatrix matrix;
+        try {
+            matrix = new QRCodeWriter().encode(value, BarcodeFormat.QR_CODE, size, size, HINTS);
+        } catch (WriterException ex) {
+            throw new IllegalArgumentException("Unable to encode QR code", ex);
+        }
+        BufferedImage image = new BufferedImage(matrix.getWidth(), matrix.getHeight(), BufferedImage.TYPE_BYTE_BINARY);
+        for (int y = 0; y < matrix.getHeight(); y++) {
+            for (int x = 0; x < matrix.getWidth(); x++) {
+                image.setRGB(x, y, matrix.get(x, y) ? 0xFF000000 : 0xFFFFFFFF);
+            }
+        }
+        ByteArrayOutputStream png = new ByteArrayOutputStream(2048);
+        try {
+            ImageIO.write(image, "png", png);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to write QR code image", ex);
+        }
+        return png.toByteArray();
+    }
+}
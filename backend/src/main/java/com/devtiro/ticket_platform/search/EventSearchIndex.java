@@ -0,0 +1,166 @@
+package com.devtiro.ticket_platform.search;
+
+import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.domain.entities.TicketType;
+import com.devtiro.ticket_platform.exceptions.InvalidSearchPageException;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.queryparser.classic.QueryParserBase;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * In-process Lucene index over published events: name, venue and the names and
+ * descriptions of their ticket types. Updates are applied one document at a
+ * time and become visible through a near-real-time searcher refresh.
+ */
+@Component
+public class EventSearchIndex {
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String VENUE = "venue";
+    private static final String TICKET_TYPES = "ticketTypes";
+    private static final Map<String, Float> BOOSTS = Map.of(NAME, 3f, VENUE, 1.5f, TICKET_TYPES, 1f);
+    // Every hit up to the end of the page is collected and ranked, so deep pages cost memory
+    private static final int MAX_RESULT_WINDOW = 10_000;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory = new ByteBuffersDirectory();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public EventSearchIndex() {
+        try {
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to open event search index", ex);
+        }
+    }
+
+    public void index(Event event) {
+        try {
+            writer.updateDocument(new Term(ID, event.getId().toString()), toDocument(event));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to index event " + event.getId(), ex);
+        }
+    }
+
+    public void remove(UUID eventId) {
+        try {
+            writer.deleteDocuments(new Term(ID, eventId.toString()));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to remove event " + eventId, ex);
+        }
+    }
+
+    public void removeAll() {
+        try {
+            writer.deleteAll();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to clear event search index", ex);
+        }
+    }
+
+    /**
+     * Makes changes applied since the last call visible to searches.
+     */
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to refresh event search index", ex);
+        }
+    }
+
+    /**
+     * @return ids of matching events, best match first. Past 1000 hits the total
+     * is a lower bound: counting every match exactly would cost a full scan of
+     * the postings on broad queries.
+     * @throws InvalidSearchPageException if the page ends past the first
+     * {@value #MAX_RESULT_WINDOW} hits
+     */
+    public Page<UUID> search(String text, Pageable pageable) {
+        if (pageable.getOffset() + pageable.getPageSize() > MAX_RESULT_WINDOW) {
+            throw new InvalidSearchPageException(String.format(
+                    "Search results can only be paged through the first %d hits", MAX_RESULT_WINDOW));
+        }
+        Query query = parse(text);
+        int offset = (int) pageable.getOffset();
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, offset + pageable.getPageSize());
+                List<UUID> ids = new ArrayList<>(pageable.getPageSize());
+                ScoreDoc[] hits = topDocs.scoreDocs;
+                for (int i = offset; i < hits.length; i++) {
+                    ids.add(UUID.fromString(searcher.storedFields().document(hits[i].doc).get(ID)));
+                }
+                return new PageImpl<>(ids, pageable, topDocs.totalHits.value);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to search events", ex);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private Query parse(String text) {
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(
+                new String[]{NAME, VENUE, TICKET_TYPES}, analyzer, BOOSTS);
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+        try {
+            return parser.parse(QueryParserBase.escape(text));
+        } catch (ParseException ex) {
+            throw new IllegalArgumentException("Invalid search query", ex);
+        }
+    }
+
+    private static Document toDocument(Event event) {
+        Document document = new Document();
+        document.add(new StringField(ID, event.getId().toString(), Field.Store.YES));
+        document.add(new TextField(NAME, event.getName(), Field.Store.NO));
+        document.add(new TextField(VENUE, event.getVenue(), Field.Store.NO));
+        for (TicketType ticketType : event.getTicketTypes()) {
+            document.add(new TextField(TICKET_TYPES, ticketType.getName(), Field.Store.NO));
+            if (ticketType.getDescription() != null) {
+                document.add(new TextField(TICKET_TYPES, ticketType.getDescription(), Field.Store.NO));
+            }
+        }
+        return document;
+    }
+}
@@ -0,0 +1,100 @@
+package com.devtiro.ticket_platform.search;
+
+import com.devtiro.ticket_platform.Repositories.EventRepository;
+import com.devtiro.ticket_platform.domain.entities.EventStatusEnum;
+import com.devtiro.ticket_platform.domain.events.EventChangedEvent;
+import com.devtiro.ticket_platform.domain.events.EventsImportedEvent;
+import com.devtiro.ticket_platform.outbox.OutboxMessage;
+import com.devtiro.ticket_platform.outbox.OutboxSubscriber;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keeps {@link EventSearchIndex} in step with the database: a full rebuild at
+ * startup, then one document update per committed event change and one batch
+ * per committed import chunk. Changes committed on other nodes come in
+ * through the outbox.
+ */
+@Component
+@Slf4j
+public class EventSearchIndexer implements OutboxSubscriber {
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final EventRepository eventRepository;
+    private final EventSearchIndex eventSearchIndex;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public EventSearchIndexer(
+            EventRepository eventRepository,
+            EventSearchIndex eventSearchIndex,
+            PlatformTransactionManager transactionManager) {
+        this.eventRepository = eventRepository;
+        this.eventSearchIndex = eventSearchIndex;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // Listeners run after the caller's transaction has committed, so reads need their own.
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        eventSearchIndex.removeAll();
+        PageRequest pageRequest = PageRequest.of(0, REBUILD_CHUNK_SIZE, Sort.by("id"));
+        long indexed = 0;
+        Page<UUID> chunk;
+        do {
+            PageRequest current = pageRequest;
+            chunk = readOnlyTransaction.execute(status -> {
+                Page<UUID> ids = eventRepository.findIdsByStatus(EventStatusEnum.PUBLISHED, current);
+                eventRepository.findByIdIn(ids.getContent()).forEach(eventSearchIndex::index);
+                return ids;
+            });
+            indexed += chunk.getNumberOfElements();
+            pageRequest = pageRequest.next();
+        } while (chunk.hasNext());
+        eventSearchIndex.refresh();
+        log.info("Indexed {} published events for search", indexed);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEventChanged(EventChangedEvent change) {
+        if (!change.affectsPublishedEvents()) {
+            return;
+        }
+        readOnlyTransaction.executeWithoutResult(status -> eventRepository
+                .findByIdAndStatus(change.eventId(), EventStatusEnum.PUBLISHED)
+                .ifPresentOrElse(eventSearchIndex::index, () -> eventSearchIndex.remove(change.eventId())));
+        eventSearchIndex.refresh();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEventsImported(EventsImportedEvent imported) {
+        readOnlyTransaction.executeWithoutResult(status -> eventRepository.findByIdIn(imported.eventIds()).stream()
+                .filter(event -> event.getStatus() == EventStatusEnum.PUBLISHED)
+                .forEach(eventSearchIndex::index));
+        eventSearchIndex.refresh();
+    }
+
+    @Override
+    public void onOutboxMessages(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            if (!message.local()) {
+                message.events(EventChangedEvent.class).forEach(this::onEventChanged);
+                message.events(EventsImportedEvent.class).forEach(this::onEventsImported);
+            }
+        }
+    }
+}
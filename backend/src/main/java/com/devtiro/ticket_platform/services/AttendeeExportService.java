@@ -0,0 +1,23 @@
+package com.devtiro.ticket_platform.services;
+
+import com.devtiro.ticket_platform.domain.AttendeeExportFormatEnum;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+public interface AttendeeExportService {
+    /**
+     * Writes one row per ticket of the organizer's event to the stream from
+     * {@code output}. {@code output} is only called once the event is known to
+     * be the organizer's, so a missing event can still be answered with an
+     * error. The stream is closed after the last row. If the export fails part
+     * way it is left open, so that a compressed or chunked response is not
+     * finished off as if it were complete.
+     *
+     * @return the number of rows written
+     */
+    long exportAttendees(UUID organizerId, UUID eventId, AttendeeExportFormatEnum format, Supplier<OutputStream> output)
+            throws IOException;
+}
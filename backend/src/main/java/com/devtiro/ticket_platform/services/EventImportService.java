@@ -0,0 +1,20 @@
+package com.devtiro.ticket_platform.services;
+
+import com.devtiro.ticket_platform.domain.dtos.EventImportResultDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface EventImportService {
+    /**
+     * Creates the events in {@code records}, either newline-delimited JSON or a
+     * JSON array of event objects, for the organizer. Results are handed to
+     * {@code results} in input order, one list per saved chunk, once the chunk
+     * has committed.
+     */
+    void importEvents(UUID organizerId, InputStream records, Consumer<List<EventImportResultDto>> results)
+            throws IOException;
+}
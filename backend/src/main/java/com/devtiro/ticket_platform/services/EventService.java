@@ -1,11 +1,14 @@
 package com.devtiro.ticket_platform.services;
 
 import com.devtiro.ticket_platform.domain.CreateEventRequest;
+import com.devtiro.ticket_platform.domain.PageCursor;
+import com.devtiro.ticket_platform.domain.PatchEventRequest;
 import com.devtiro.ticket_platform.domain.UpdateEventRequest;
 import com.devtiro.ticket_platform.domain.entities.Event;
 import org.springframework.data.domain.Page;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -13,6 +16,12 @@
 public interface EventService {
     Event createEvent(UUID organizerId, CreateEventRequest event);
     Page<Event> listEventsForOrganizer(UUID organizerId, Pageable pageable);
+    Slice<Event> scrollEventsForOrganizer(UUID organizerId, PageCursor after, int size);
     Optional<Event> getEventForOrganizer(UUID organizerId,UUID id);
     Event updateEventForOrganizer(UUID organizerId, UUID id, UpdateEventRequest event);
+    Event patchEventForOrganizer(UUID organizerId, UUID id, PatchEventRequest patch);
+    Page<Event> listPublishedEvents(Pageable pageable);
+    Slice<Event> scrollPublishedEvents(PageCursor after, int size);
+    Optional<Event> getPublishedEvent(UUID id);
+    Page<Event> searchPublishedEvents(String query, Pageable pageable);
 }
@@ -0,0 +1,13 @@
+package com.devtiro.ticket_platform.services;
+
+import com.devtiro.ticket_platform.domain.EventSalesSummary;
+
+import java.util.UUID;
+
+public interface SalesSummaryService {
+    /**
+     * Sales and check-in figures of the organizer's event, read from the
+     * maintained summary rather than counted from its tickets.
+     */
+    EventSalesSummary getSalesSummaryForOrganizer(UUID organizerId, UUID eventId);
+}
@@ -0,0 +1,24 @@
+package com.devtiro.ticket_platform.services;
+
+import com.devtiro.ticket_platform.domain.PageCursor;
+import com.devtiro.ticket_platform.domain.entities.QrCode;
+import com.devtiro.ticket_platform.domain.entities.Ticket;
+import com.devtiro.ticket_platform.inventory.TicketHold;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface TicketService {
+    Ticket purchaseTicket(UUID purchaserId, UUID eventId, UUID ticketTypeId);
+    UUID purchaseTicketOnce(UUID purchaserId, UUID eventId, UUID ticketTypeId, String idempotencyKey);
+    TicketHold holdTickets(UUID purchaserId, UUID eventId, UUID ticketTypeId, int quantity);
+    List<Ticket> confirmHold(UUID purchaserId, UUID holdId);
+    void releaseHold(UUID purchaserId, UUID holdId);
+    Page<Ticket> listTicketsForUser(UUID userId, Pageable pageable);
+    Optional<QrCode> getActiveQrCodeForUser(UUID userId, UUID ticketId);
+    Slice<Ticket> scrollTicketsForUser(UUID userId, PageCursor after, int size);
+}
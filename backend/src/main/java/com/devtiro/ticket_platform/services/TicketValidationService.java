@@ -0,0 +1,12 @@
+package com.devtiro.ticket_platform.services;
+
+import com.devtiro.ticket_platform.domain.entities.TicketValidation;
+import com.devtiro.ticket_platform.domain.entities.TicketValidationMethod;
+
+import java.util.UUID;
+
+public interface TicketValidationService {
+    int openGate(UUID organizerId, UUID eventId);
+    void closeGate(UUID organizerId, UUID eventId);
+    TicketValidation validateTicket(UUID staffId, String id, TicketValidationMethod method);
+}
@@ -0,0 +1,176 @@
+package com.devtiro.ticket_platform.services.impl;
+
+import com.devtiro.ticket_platform.Repositories.EventRepository;
+import com.devtiro.ticket_platform.Repositories.UserRepository;
+import com.devtiro.ticket_platform.domain.CreateEventRequest;
+import com.devtiro.ticket_platform.domain.EventImportStatusEnum;
+import com.devtiro.ticket_platform.domain.dtos.CreateEventRequestDto;
+import com.devtiro.ticket_platform.domain.dtos.EventImportResultDto;
+import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.domain.entities.User;
+import com.devtiro.ticket_platform.domain.events.EventsImportedEvent;
+import com.devtiro.ticket_platform.exceptions.UserNotFoundException;
+import com.devtiro.ticket_platform.mappers.EventMapper;
+import com.devtiro.ticket_platform.services.EventImportService;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Streams records off the input one at a time and saves the valid ones in
+ * chunks of {@code app.events.import.chunk-size}, one transaction and one set
+ * of JDBC batches per chunk. At most a chunk of records is held in memory, and
+ * the persistence context is cleared after each chunk. Invalid records are
+ * reported and skipped. A chunk that fails to save fails on its own, and the
+ * chunks before it stay committed.
+ */
+@Service
+@Slf4j
+public class EventImportServiceImpl implements EventImportService {
+    private final UserRepository userRepository;
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public EventImportServiceImpl(
+            UserRepository userRepository,
+            EventRepository eventRepository,
+            EventMapper eventMapper,
+            ObjectMapper objectMapper,
+            Validator validator,
+            EntityManager entityManager,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.events.import.chunk-size:500}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.eventRepository = eventRepository;
+        this.eventMapper = eventMapper;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void importEvents(UUID organizerId, InputStream records, Consumer<List<EventImportResultDto>> results)
+            throws IOException {
+        if (!userRepository.existsById(organizerId)) {
+            throw new UserNotFoundException(String.format("User with ID '%s' not found", organizerId));
+        }
+        List<Pending> chunk = new ArrayList<>(chunkSize);
+        int index = 0;
+        try (JsonParser parser = objectMapper.createParser(records)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                token = parser.nextToken();
+            }
+            while (token != null && token != JsonToken.END_ARRAY) {
+                JsonNode record = parser.readValueAsTree();
+                chunk.add(read(index++, record));
+                if (chunk.size() == chunkSize) {
+                    results.accept(save(organizerId, chunk));
+                    chunk.clear();
+                }
+                token = parser.nextToken();
+            }
+        } catch (JsonProcessingException ex) {
+            // Past a syntax error there is no telling where the next record starts
+            List<EventImportResultDto> saved = save(organizerId, chunk);
+            saved.add(new EventImportResultDto(index, EventImportStatusEnum.ABORTED, null,
+                    "Malformed JSON: " + ex.getOriginalMessage()));
+            results.accept(saved);
+            return;
+        }
+        if (!chunk.isEmpty()) {
+            results.accept(save(organizerId, chunk));
+        }
+    }
+
+    private Pending read(int index, JsonNode record) {
+        CreateEventRequestDto dto;
+        try {
+            dto = objectMapper.treeToValue(record, CreateEventRequestDto.class);
+        } catch (JsonProcessingException ex) {
+            return Pending.rejected(index, "Unreadable event: " + ex.getOriginalMessage());
+        }
+        return validator.validate(dto).stream()
+                .min(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> Pending.rejected(index, describe(violation)))
+                .orElseGet(() -> new Pending(index, eventMapper.fromDto(dto), null));
+    }
+
+    private List<EventImportResultDto> save(UUID organizerId, List<Pending> chunk) {
+        List<Pending> accepted = chunk.stream().filter(pending -> pending.request() != null).toList();
+        List<UUID> ids = List.of();
+        String failure = null;
+        if (!accepted.isEmpty()) {
+            try {
+                ids = transactionTemplate.execute(status -> {
+                    entityManager.unwrap(Session.class).setJdbcBatchSize(chunkSize);
+                    User organizer = userRepository.getReferenceById(organizerId);
+                    List<Event> events = eventRepository.saveAll(accepted.stream()
+                            .map(pending -> EventServiceImpl.newEvent(organizer, pending.request()))
+                            .toList());
+                    eventRepository.flush();
+                    List<UUID> eventIds = events.stream().map(Event::getId).toList();
+                    // The request may share this persistence context, keep it from growing per chunk
+                    entityManager.clear();
+                    eventPublisher.publishEvent(new EventsImportedEvent(eventIds));
+                    return eventIds;
+                });
+            } catch (RuntimeException ex) {
+                log.error("Failed to save a chunk of {} imported events", accepted.size(), ex);
+                failure = "Could not be saved with the rest of its chunk, it can be sent again";
+            }
+        }
+        List<EventImportResultDto> results = new ArrayList<>(chunk.size() + 1);
+        int saved = 0;
+        for (Pending pending : chunk) {
+            if (pending.request() == null) {
+                results.add(new EventImportResultDto(pending.index(), EventImportStatusEnum.REJECTED, null, pending.error()));
+            } else if (failure != null) {
+                results.add(new EventImportResultDto(pending.index(), EventImportStatusEnum.FAILED, null, failure));
+            } else {
+                results.add(new EventImportResultDto(pending.index(), EventImportStatusEnum.CREATED, ids.get(saved++), null));
+            }
+        }
+        return results;
+    }
+
+    private static String describe(ConstraintViolation<?> violation) {
+        return violation.getPropertyPath() + ": " + violation.getMessage();
+    }
+
+    private record Pending(int index, CreateEventRequest request, String error) {
+        static Pending rejected(int index, String error) {
+            return new Pending(index, null, error);
+        }
+    }
+}
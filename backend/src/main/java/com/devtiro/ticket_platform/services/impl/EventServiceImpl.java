@@ -1,26 +1,43 @@
 package com.devtiro.ticket_platform.services.impl;
 
 import com.devtiro.ticket_platform.Repositories.EventRepository;
+import com.devtiro.ticket_platform.Repositories.TicketTypeRepository;
 import com.devtiro.ticket_platform.Repositories.UserRepository;
 import com.devtiro.ticket_platform.domain.CreateEventRequest;
+import com.devtiro.ticket_platform.domain.PageCursor;
+import com.devtiro.ticket_platform.domain.PatchEventRequest;
+import com.devtiro.ticket_platform.domain.PatchTicketTypeRequest;
 import com.devtiro.ticket_platform.domain.UpdateEventRequest;
 import com.devtiro.ticket_platform.domain.UpdateTicketTypeRequest;
 import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.domain.entities.EventStatusEnum;
 import com.devtiro.ticket_platform.domain.entities.TicketType;
 import com.devtiro.ticket_platform.domain.entities.User;
+import com.devtiro.ticket_platform.domain.events.EventChangedEvent;
 import com.devtiro.ticket_platform.exceptions.EventNotFoundException;
 import com.devtiro.ticket_platform.exceptions.EventUpdateException;
+import com.devtiro.ticket_platform.exceptions.EventVersionConflictException;
 import com.devtiro.ticket_platform.exceptions.TicketTypeNotFoundException;
 import com.devtiro.ticket_platform.exceptions.UserNotFoundException;
+import com.devtiro.ticket_platform.inventory.TicketInventory;
+import com.devtiro.ticket_platform.search.EventSearchIndex;
 import com.devtiro.ticket_platform.services.EventService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -29,6 +46,10 @@
 public class EventServiceImpl implements EventService {
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
+    private final TicketInventory ticketInventory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EventSearchIndex eventSearchIndex;
+    private final TicketTypeRepository ticketTypeRepository;
 
     @Override
     @Transactional
@@ -36,33 +57,25 @@ public Event createEvent(UUID organizerId, CreateEventRequest event) {
         User organizer = userRepository.findById(organizerId)
                 .orElseThrow(
                         () -> new UserNotFoundException(String.format("User with ID '%s' not found", organizerId)));
-        Event eventToCreate = new Event();
-        List<TicketType> ticketTypesToCreate = event.getTicketTypes().stream().map(ticketType -> {
-            TicketType ticketTypeToCreate = new TicketType();
-            ticketTypeToCreate.setName(ticketType.getName());
-            ticketTypeToCreate.setPrice(ticketType.getPrice());
-            ticketTypeToCreate.setDescription(ticketType.getDescription());
-            ticketTypeToCreate.setTotalAvailable(ticketType.getTotalAvailable());
-            ticketTypeToCreate.setEvent(eventToCreate);
-            return ticketTypeToCreate;
-        }).toList();
-
-        eventToCreate.setName(event.getName());
-        eventToCreate.setStart(event.getStart());
-        eventToCreate.setEnd(event.getEnd());
-        eventToCreate.setVenue(event.getVenue());
-        eventToCreate.setSalesStart(event.getSalesStart());
-        eventToCreate.setSalesEnd(event.getSalesEnd());
-        eventToCreate.setStatus(event.getStatus());
-        eventToCreate.setOrganizer(organizer);
-        eventToCreate.setTicketTypes(ticketTypesToCreate);
-        return eventRepository.save(eventToCreate);
+        Event eventToCreate = newEvent(organizer, event);
+        Event createdEvent = eventRepository.save(eventToCreate);
+        eventPublisher.publishEvent(new EventChangedEvent(createdEvent.getId(), null, createdEvent.getStatus()));
+        return createdEvent;
 
     }
 
     @Override
     public Page<Event> listEventsForOrganizer(UUID organizerId, Pageable pageable) {
-        return eventRepository.findByOrganizerId(organizerId, pageable);
+        return withTicketTypes(eventRepository.findIdsByOrganizerId(organizerId, pageable));
+    }
+
+    @Override
+    public Slice<Event> scrollEventsForOrganizer(UUID organizerId, PageCursor after, int size) {
+        Limit limit = Limit.of(size + 1);
+        List<UUID> ids = after == null
+                ? eventRepository.findLatestIdsByOrganizerId(organizerId, limit)
+                : eventRepository.findIdsByOrganizerIdBefore(organizerId, after.createdAt(), after.id(), limit);
+        return withTicketTypes(ids, size);
     }
 
     @Override
@@ -76,27 +89,33 @@ public Event updateEventForOrganizer(UUID organizerId, UUID id, UpdateEventReque
         if (null == event.getId()) {
             throw new EventUpdateException("Event ID cannot be null");
         }
-        if (id.equals(event.getId())) {
+        if (!id.equals(event.getId())) {
             throw new EventUpdateException("Cannot Update the ID of an event");
         }
         Event existingEvent = eventRepository
                 .findByIdAndOrganizerId(id, organizerId)
                 .orElseThrow(() -> new EventNotFoundException(String.format("Event with ID '%s' does not exist", id)));
 
+        EventStatusEnum previousStatus = existingEvent.getStatus();
         existingEvent.setName(event.getName());
         existingEvent.setStart(event.getStart());
         existingEvent.setEnd(event.getEnd());
         existingEvent.setVenue(event.getVenue());
         existingEvent.setSalesStart(event.getSalesStart());
-        existingEvent.setSalesEnd(event.getSalesStart());
+        existingEvent.setSalesEnd(event.getSalesEnd());
         existingEvent.setStatus(event.getStatus());
         Set<UUID> requestTicketTypeIds = event.getTicketTypes()
                 .stream()
                 .map(UpdateTicketTypeRequest::getId)
                 .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
+        List<UUID> removedTicketTypeIds = existingEvent.getTicketTypes().stream()
+                .map(TicketType::getId)
+                .filter(ticketTypeId -> !requestTicketTypeIds.contains(ticketTypeId))
+                .toList();
         existingEvent.getTicketTypes()
                 .removeIf(existingTicketType -> !requestTicketTypeIds.contains(existingTicketType.getId()));
+        Map<UUID, Long> resizedTicketTypes = new HashMap<>();
 
         Map<UUID, TicketType> existingTicketTypesIndex = existingEvent.getTicketTypes().stream()
                 .collect(Collectors.toMap(TicketType::getId, Function.identity()));
@@ -114,6 +133,11 @@ public Event updateEventForOrganizer(UUID organizerId, UUID id, UpdateEventReque
             } else if (existingTicketTypesIndex.containsKey(ticketType.getId())) {
                 // Update
                 TicketType existingTicketType = existingTicketTypesIndex.get(ticketType.getId());
+                if (!Objects.equals(existingTicketType.getTotalAvailable(), ticketType.getTotalAvailable())) {
+                    resizedTicketTypes.put(existingTicketType.getId(),
+                            TicketInventory.capacity(ticketType.getTotalAvailable())
+                                    - TicketInventory.capacity(existingTicketType.getTotalAvailable()));
+                }
                 existingTicketType.setName(ticketType.getName());
                 existingTicketType.setPrice(ticketType.getPrice());
                 existingTicketType.setDescription(ticketType.getDescription());
@@ -123,6 +147,194 @@ public Event updateEventForOrganizer(UUID organizerId, UUID id, UpdateEventReque
                         "Ticket type with ID '%s' does not exist", ticketType.getId()));
             }
         }
-        return eventRepository.save(existingEvent);
+        ticketInventory.evictAfterCommit(removedTicketTypeIds);
+        ticketInventory.resize(resizedTicketTypes);
+        Event updatedEvent = eventRepository.save(existingEvent);
+        eventPublisher.publishEvent(new EventChangedEvent(updatedEvent.getId(), previousStatus, updatedEvent.getStatus()));
+        return updatedEvent;
+    }
+
+    /**
+     * Applies a {@link PatchEventRequest} touching only what it names: the event
+     * row is loaded without its ticket types, and only the ticket types being
+     * changed are loaded. Entities use dynamic updates, so each UPDATE carries
+     * just the changed columns plus the version check. Any ticket type change
+     * also moves the event version on, so the event version covers the whole
+     * event for clients holding an older copy.
+     */
+    @Override
+    @Transactional
+    public Event patchEventForOrganizer(UUID organizerId, UUID id, PatchEventRequest patch) {
+        Event existingEvent = eventRepository
+                .findByIdAndOrganizerId(id, organizerId)
+                .orElseThrow(() -> new EventNotFoundException(String.format("Event with ID '%s' does not exist", id)));
+        if (!existingEvent.getVersion().equals(patch.getVersion())) {
+            throw new EventVersionConflictException(String.format(
+                    "Event '%s' is at version %d, the change was made against version %d",
+                    id, existingEvent.getVersion(), patch.getVersion()));
+        }
+
+        EventStatusEnum previousStatus = existingEvent.getStatus();
+        setIfPresent(patch.getName(), existingEvent::setName);
+        setIfPresent(patch.getStart(), existingEvent::setStart);
+        setIfPresent(patch.getEnd(), existingEvent::setEnd);
+        setIfPresent(patch.getVenue(), existingEvent::setVenue);
+        setIfPresent(patch.getSalesStart(), existingEvent::setSalesStart);
+        setIfPresent(patch.getSalesEnd(), existingEvent::setSalesEnd);
+        setIfPresent(patch.getStatus(), existingEvent::setStatus);
+
+        Map<UUID, PatchTicketTypeRequest> changes = new HashMap<>();
+        List<PatchTicketTypeRequest> additions = new ArrayList<>();
+        for (PatchTicketTypeRequest ticketType : patch.getTicketTypes()) {
+            if (ticketType.getId() == null) {
+                additions.add(ticketType);
+            } else if (changes.put(ticketType.getId(), ticketType) != null) {
+                throw new EventUpdateException(String.format(
+                        "Ticket type '%s' is changed more than once", ticketType.getId()));
+            }
+        }
+        Set<UUID> removedTicketTypeIds = new HashSet<>(patch.getRemovedTicketTypeIds());
+        if (!Collections.disjoint(changes.keySet(), removedTicketTypeIds)) {
+            throw new EventUpdateException("A ticket type cannot be changed and removed at once");
+        }
+
+        Map<UUID, Long> resizedTicketTypes = new HashMap<>();
+        if (!changes.isEmpty()) {
+            List<TicketType> changedTicketTypes = ticketTypeRepository.findByEventIdAndIdIn(id, changes.keySet());
+            if (changedTicketTypes.size() != changes.size()) {
+                Set<UUID> missing = new HashSet<>(changes.keySet());
+                changedTicketTypes.forEach(ticketType -> missing.remove(ticketType.getId()));
+                throw new TicketTypeNotFoundException(String.format(
+                        "Ticket type with ID '%s' does not exist", missing.iterator().next()));
+            }
+            for (TicketType existingTicketType : changedTicketTypes) {
+                PatchTicketTypeRequest change = changes.get(existingTicketType.getId());
+                if (change.getTotalAvailable() != null
+                        && !change.getTotalAvailable().equals(existingTicketType.getTotalAvailable())) {
+                    resizedTicketTypes.put(existingTicketType.getId(),
+                            TicketInventory.capacity(change.getTotalAvailable())
+                                    - TicketInventory.capacity(existingTicketType.getTotalAvailable()));
+                }
+                setIfPresent(change.getName(), existingTicketType::setName);
+                setIfPresent(change.getPrice(), existingTicketType::setPrice);
+                setIfPresent(change.getDescription(), existingTicketType::setDescription);
+                setIfPresent(change.getTotalAvailable(), existingTicketType::setTotalAvailable);
+            }
+        }
+        for (PatchTicketTypeRequest ticketType : additions) {
+            if (ticketType.getName() == null || ticketType.getPrice() == null) {
+                throw new EventUpdateException("New ticket types need a name and a price");
+            }
+            TicketType ticketTypeToCreate = new TicketType();
+            ticketTypeToCreate.setName(ticketType.getName());
+            ticketTypeToCreate.setPrice(ticketType.getPrice());
+            ticketTypeToCreate.setDescription(ticketType.getDescription());
+            ticketTypeToCreate.setTotalAvailable(ticketType.getTotalAvailable());
+            ticketTypeToCreate.setEvent(existingEvent);
+            ticketTypeRepository.save(ticketTypeToCreate);
+        }
+        if (!removedTicketTypeIds.isEmpty()
+                && ticketTypeRepository.deleteUnsoldByEventIdAndIdIn(id, removedTicketTypeIds) != removedTicketTypeIds.size()) {
+            throw new EventUpdateException("Only existing ticket types without tickets can be removed");
+        }
+        if (!changes.isEmpty() || !additions.isEmpty() || !removedTicketTypeIds.isEmpty()) {
+            existingEvent.setUpdatedAt(LocalDateTime.now());
+        }
+
+        ticketInventory.evictAfterCommit(removedTicketTypeIds);
+        ticketInventory.resize(resizedTicketTypes);
+        Event patchedEvent = eventRepository.save(existingEvent);
+        eventPublisher.publishEvent(new EventChangedEvent(patchedEvent.getId(), previousStatus, patchedEvent.getStatus()));
+        return patchedEvent;
+    }
+
+    @Override
+    public Page<Event> listPublishedEvents(Pageable pageable) {
+        return withTicketTypes(eventRepository.findIdsByStatus(EventStatusEnum.PUBLISHED, pageable));
+    }
+
+    @Override
+    public Slice<Event> scrollPublishedEvents(PageCursor after, int size) {
+        Limit limit = Limit.of(size + 1);
+        List<UUID> ids = after == null
+                ? eventRepository.findLatestIdsByStatus(EventStatusEnum.PUBLISHED, limit)
+                : eventRepository.findIdsByStatusBefore(EventStatusEnum.PUBLISHED, after.createdAt(), after.id(), limit);
+        return withTicketTypes(ids, size);
+    }
+
+    @Override
+    public Optional<Event> getPublishedEvent(UUID id) {
+        return eventRepository.findByIdAndStatus(id, EventStatusEnum.PUBLISHED);
+    }
+
+    @Override
+    public Page<Event> searchPublishedEvents(String query, Pageable pageable) {
+        return withTicketTypes(eventSearchIndex.search(query, pageable));
+    }
+
+    /**
+     * Second phase of a paged listing: loads the events for a page of IDs together
+     * with their ticket types in one query, keeping the order of the ID page.
+     * Paging the IDs first keeps LIMIT/OFFSET in the database, which a fetch join
+     * on a collection would otherwise force into memory.
+     */
+    private Page<Event> withTicketTypes(Page<UUID> ids) {
+        return new PageImpl<>(loadInOrder(ids.getContent()), ids.getPageable(), ids.getTotalElements());
+    }
+
+    /**
+     * Keyset variant of {@link #withTicketTypes(Page)}: {@code ids} holds up to
+     * one more ID than requested, which only signals that another slice exists.
+     */
+    private Slice<Event> withTicketTypes(List<UUID> ids, int size) {
+        boolean hasNext = ids.size() > size;
+        List<UUID> sliceIds = hasNext ? ids.subList(0, size) : ids;
+        return new SliceImpl<>(loadInOrder(sliceIds), PageRequest.ofSize(size), hasNext);
+    }
+
+    /**
+     * Builds a new event with its ticket types, ready to be saved. Shared with
+     * the bulk import, which saves many of these per transaction.
+     */
+    static Event newEvent(User organizer, CreateEventRequest event) {
+        Event eventToCreate = new Event();
+        List<TicketType> ticketTypesToCreate = event.getTicketTypes().stream().map(ticketType -> {
+            TicketType ticketTypeToCreate = new TicketType();
+            ticketTypeToCreate.setName(ticketType.getName());
+            ticketTypeToCreate.setPrice(ticketType.getPrice());
+            ticketTypeToCreate.setDescription(ticketType.getDescription());
+            ticketTypeToCreate.setTotalAvailable(ticketType.getTotalAvailable());
+            ticketTypeToCreate.setEvent(eventToCreate);
+            return ticketTypeToCreate;
+        }).toList();
+
+        eventToCreate.setName(event.getName());
+        eventToCreate.setStart(event.getStart());
+        eventToCreate.setEnd(event.getEnd());
+        eventToCreate.setVenue(event.getVenue());
+        eventToCreate.setSalesStart(event.getSalesStart());
+        eventToCreate.setSalesEnd(event.getSalesEnd());
+        eventToCreate.setStatus(event.getStatus());
+        eventToCreate.setOrganizer(organizer);
+        eventToCreate.setTicketTypes(ticketTypesToCreate);
+        return eventToCreate;
+    }
+
+    private static <T> void setIfPresent(T value, Consumer<T> setter) {
+        if (value != null) {
+            setter.accept(value);
+        }
+    }
+
+    private List<Event> loadInOrder(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Event> eventsById = eventRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        return ids.stream()
+                .map(eventsById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 }
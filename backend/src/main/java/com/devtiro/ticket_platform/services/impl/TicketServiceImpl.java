@@ -0,0 +1,223 @@
+package com.devtiro.ticket_platform.services.impl;
+
+import com.devtiro.ticket_platform.Repositories.QrCodeRepository;
+import com.devtiro.ticket_platform.Repositories.TicketRepository;
+import com.devtiro.ticket_platform.Repositories.TicketTypeRepository;
+import com.devtiro.ticket_platform.cache.PublishedEventCache;
+import com.devtiro.ticket_platform.domain.PageCursor;
+import com.devtiro.ticket_platform.domain.dtos.GetEventDetailsResponseDto;
+import com.devtiro.ticket_platform.domain.entities.QrCode;
+import com.devtiro.ticket_platform.domain.entities.QrCodeStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.Ticket;
+import com.devtiro.ticket_platform.domain.entities.TicketStatusEnum;
+import com.devtiro.ticket_platform.exceptions.EventTicketException;
+import com.devtiro.ticket_platform.exceptions.TicketSalesClosedException;
+import com.devtiro.ticket_platform.idempotency.IdempotentPurchases;
+import com.devtiro.ticket_platform.inventory.TicketHold;
+import com.devtiro.ticket_platform.inventory.TicketHolds;
+import com.devtiro.ticket_platform.inventory.TicketInventory;
+import com.devtiro.ticket_platform.qrcode.QrCodeImageStore;
+import com.devtiro.ticket_platform.services.TicketService;
+import com.devtiro.ticket_platform.services.impl.TicketWriteBehindBuffer.PendingTicket;
+import com.devtiro.ticket_platform.validation.QrCodeSigner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TicketServiceImpl implements TicketService {
+    private final TicketInventory ticketInventory;
+    private final TicketHolds ticketHolds;
+    private final TicketWriteBehindBuffer ticketWriter;
+    private final TicketRepository ticketRepository;
+    private final TicketTypeRepository ticketTypeRepository;
+    private final QrCodeSigner qrCodeSigner;
+    private final QrCodeRepository qrCodeRepository;
+    private final QrCodeImageStore qrCodeImageStore;
+    private final IdempotentPurchases idempotentPurchases;
+    private final PublishedEventCache publishedEventCache;
+
+    @Override
+    public Ticket purchaseTicket(UUID purchaserId, UUID eventId, UUID ticketTypeId) {
+        return purchase(purchaserId, eventId, ticketTypeId, null);
+    }
+
+    @Override
+    public UUID purchaseTicketOnce(UUID purchaserId, UUID eventId, UUID ticketTypeId, String idempotencyKey) {
+        return idempotentPurchases.purchase(purchaserId, idempotencyKey, eventId, ticketTypeId,
+                claimId -> purchase(purchaserId, eventId, ticketTypeId, claimId).getId());
+    }
+
+    @Override
+    public TicketHold holdTickets(UUID purchaserId, UUID eventId, UUID ticketTypeId, int quantity) {
+        requireOnSale(eventId);
+        return ticketHolds.hold(purchaserId, eventId, ticketTypeId, quantity);
+    }
+
+    /**
+     * Turns a hold into tickets, all or none: the hold's tickets go through
+     * the write-behind buffer as one unit, and if that fails every ticket of
+     * the hold goes back on sale before the failure is rethrown.
+     */
+    @Override
+    public List<Ticket> confirmHold(UUID purchaserId, UUID holdId) {
+        TicketHold hold = ticketHolds.claim(purchaserId, holdId);
+        List<PendingTicket> pending = new ArrayList<>(hold.getQuantity());
+        for (int i = 0; i < hold.getQuantity(); i++) {
+            pending.add(newPendingTicket(purchaserId, hold.getEventId(), hold.getTicketTypeId(), null));
+        }
+        try {
+            ticketWriter.submitAll(pending).join();
+        } catch (RuntimeException ex) {
+            for (int i = 0; i < hold.getQuantity(); i++) {
+                ticketInventory.release(hold.getTicketTypeId());
+            }
+            throw unwrap(ex);
+        }
+        List<Ticket> tickets = new ArrayList<>(pending.size());
+        for (PendingTicket ticket : pending) {
+            qrCodeImageStore.prerender(ticket.qrCodeValue());
+            tickets.add(toTicket(ticket));
+        }
+        ticketTypeRepository.findById(hold.getTicketTypeId())
+                .ifPresent(ticketType -> tickets.forEach(ticket -> ticket.setTicketType(ticketType)));
+        return tickets;
+    }
+
+    @Override
+    public void releaseHold(UUID purchaserId, UUID holdId) {
+        ticketHolds.release(purchaserId, holdId);
+    }
+
+    @Override
+    public Optional<QrCode> getActiveQrCodeForUser(UUID userId, UUID ticketId) {
+        return qrCodeRepository.findFirstByTicketIdAndTicketPurchaserIdAndStatus(
+                ticketId, userId, QrCodeStatusEnum.ACTIVE);
+    }
+
+    @Override
+    public Page<Ticket> listTicketsForUser(UUID userId, Pageable pageable) {
+        Page<UUID> ids = ticketRepository.findIdsByPurchaserId(userId, pageable);
+        return new PageImpl<>(loadInOrder(ids.getContent()), ids.getPageable(), ids.getTotalElements());
+    }
+
+    @Override
+    public Slice<Ticket> scrollTicketsForUser(UUID userId, PageCursor after, int size) {
+        Limit limit = Limit.of(size + 1);
+        List<UUID> ids = after == null
+                ? ticketRepository.findLatestIdsByPurchaserId(userId, limit)
+                : ticketRepository.findIdsByPurchaserIdBefore(userId, after.createdAt(), after.id(), limit);
+        boolean hasNext = ids.size() > size;
+        List<UUID> sliceIds = hasNext ? ids.subList(0, size) : ids;
+        return new SliceImpl<>(loadInOrder(sliceIds), PageRequest.ofSize(size), hasNext);
+    }
+
+    private Ticket purchase(UUID purchaserId, UUID eventId, UUID ticketTypeId, UUID idempotencyKeyId) {
+        requireOnSale(eventId);
+        ticketInventory.reserve(eventId, ticketTypeId);
+        PendingTicket pending = newPendingTicket(purchaserId, eventId, ticketTypeId, idempotencyKeyId);
+        try {
+            ticketWriter.submit(pending).join();
+        } catch (RuntimeException ex) {
+            ticketInventory.release(ticketTypeId);
+            throw unwrap(ex);
+        }
+        qrCodeImageStore.prerender(pending.qrCodeValue());
+        return toTicket(pending);
+    }
+
+    /**
+     * Lets a purchase or hold through only for a published event between its
+     * {@code salesStart} and {@code salesEnd}, either of which may be open.
+     * Reads the published-event cache, so the hot path stays off the database.
+     *
+     * @throws TicketSalesClosedException otherwise
+     */
+    private void requireOnSale(UUID eventId) {
+        LocalDateTime now = LocalDateTime.now();
+        boolean onSale = publishedEventCache.getPublishedEvent(eventId)
+                .filter(event -> isOnSale(event, now))
+                .isPresent();
+        if (!onSale) {
+            throw new TicketSalesClosedException(String.format(
+                    "Tickets for event '%s' are not on sale", eventId));
+        }
+    }
+
+    private static boolean isOnSale(GetEventDetailsResponseDto event, LocalDateTime now) {
+        return (event.getSalesStart() == null || !now.isBefore(event.getSalesStart()))
+                && (event.getSalesEnd() == null || now.isBefore(event.getSalesEnd()));
+    }
+
+    private List<Ticket> loadInOrder(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Ticket> ticketsById = ticketRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(Ticket::getId, Function.identity()));
+        return ids.stream()
+                .map(ticketsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private PendingTicket newPendingTicket(
+            UUID purchaserId, UUID eventId, UUID ticketTypeId, UUID idempotencyKeyId) {
+        UUID ticketId = UUID.randomUUID();
+        return new PendingTicket(
+                ticketId,
+                eventId,
+                ticketTypeId,
+                purchaserId,
+                UUID.randomUUID(),
+                qrCodeSigner.sign(qrCodeSigner.issue(ticketId, eventId, ticketTypeId)),
+                LocalDateTime.now(),
+                idempotencyKeyId,
+                new CompletableFuture<>());
+    }
+
+    private static RuntimeException unwrap(RuntimeException ex) {
+        Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new EventTicketException("Unable to store purchased ticket", cause);
+    }
+
+    private static Ticket toTicket(PendingTicket pending) {
+        Ticket ticket = new Ticket();
+        ticket.setId(pending.ticketId());
+        ticket.setStatus(TicketStatusEnum.PURCHASED);
+        ticket.setCreatedAt(pending.createdAt());
+        ticket.setUpdatedAt(pending.createdAt());
+
+        QrCode qrCode = new QrCode();
+        qrCode.setId(pending.qrCodeId());
+        qrCode.setStatus(QrCodeStatusEnum.ACTIVE);
+        qrCode.setValue(pending.qrCodeValue());
+        qrCode.setTicket(ticket);
+        qrCode.setCreatedAt(pending.createdAt());
+        qrCode.setUpdatedAt(pending.createdAt());
+        ticket.setQrCodes(new ArrayList<>(List.of(qrCode)));
+        return ticket;
+    }
+}
@@ -0,0 +1,187 @@
+package com.devtiro.ticket_platform.services.impl;
+
+import com.devtiro.ticket_platform.Repositories.EventRepository;
+import com.devtiro.ticket_platform.Repositories.QrCodeRepository;
+import com.devtiro.ticket_platform.Repositories.TicketRepository;
+import com.devtiro.ticket_platform.Repositories.TicketValidationRepository;
+import com.devtiro.ticket_platform.domain.entities.QrCode;
+import com.devtiro.ticket_platform.domain.entities.QrCodeStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.Ticket;
+import com.devtiro.ticket_platform.domain.entities.TicketStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.TicketValidation;
+import com.devtiro.ticket_platform.domain.entities.TicketValidationMethod;
+import com.devtiro.ticket_platform.domain.entities.TicketValidationStatusEnum;
+import com.devtiro.ticket_platform.domain.events.TicketCheckedInEvent;
+import com.devtiro.ticket_platform.exceptions.EventNotFoundException;
+import com.devtiro.ticket_platform.services.TicketValidationService;
+import com.devtiro.ticket_platform.services.impl.TicketValidationWriter.PendingValidation;
+import com.devtiro.ticket_platform.validation.QrCodeSigner;
+import com.devtiro.ticket_platform.validation.QrCodeToken;
+import com.devtiro.ticket_platform.validation.QrCodeValidityIndex;
+import com.devtiro.ticket_platform.validation.QrCodeValidityIndex.Admission;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Signed codes are verified without a lookup; forged ones never reach the
+ * database. Scans for an open gate are decided in memory and persisted
+ * asynchronously. Anything else, such as an opaque code issued after the gate
+ * opened, is checked against the database under a row lock on the ticket.
+ */
+@Service
+@RequiredArgsConstructor
+public class TicketValidationServiceImpl implements TicketValidationService {
+    private final EventRepository eventRepository;
+    private final QrCodeRepository qrCodeRepository;
+    private final TicketRepository ticketRepository;
+    private final TicketValidationRepository ticketValidationRepository;
+    private final QrCodeValidityIndex qrCodeValidityIndex;
+    private final QrCodeSigner qrCodeSigner;
+    private final TicketValidationWriter validationWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional(readOnly = true)
+    public int openGate(UUID organizerId, UUID eventId) {
+        requireOrganizerEvent(organizerId, eventId);
+        // Scans at a previous opening may still be queued, and they were admitted too
+        validationWriter.flushQueued();
+        return qrCodeValidityIndex.open(
+                eventId,
+                qrCodeRepository.findValidityByEventId(eventId),
+                new HashSet<>(ticketValidationRepository.findTicketIdsByEventIdAndStatus(
+                        eventId, TicketValidationStatusEnum.VALID)));
+    }
+
+    @Override
+    public void closeGate(UUID organizerId, UUID eventId) {
+        requireOrganizerEvent(organizerId, eventId);
+        qrCodeValidityIndex.close(eventId);
+    }
+
+    @Override
+    public TicketValidation validateTicket(UUID staffId, String id, TicketValidationMethod method) {
+        String qrValue = method == TicketValidationMethod.MANUAL ? findQrValue(id) : id;
+        if (qrValue != null && QrCodeSigner.isSigned(qrValue)) {
+            Optional<QrCodeToken> token = qrCodeSigner.verify(qrValue);
+            if (token.isEmpty()) {
+                return rejected(method);
+            }
+            requireEventStaff(staffId, token.get().eventId());
+            if (token.get().isExpired(Instant.now())) {
+                return recordAsync(token.get().ticketId(), TicketValidationStatusEnum.EXPIRED, method);
+            }
+            Optional<Admission> admission = qrCodeValidityIndex.admit(token.get());
+            if (admission.isPresent()) {
+                return recordAsync(admission.get().ticketId(), admission.get().status(), method);
+            }
+        } else if (qrValue != null) {
+            qrCodeValidityIndex.findEvent(qrValue).ifPresent(eventId -> requireEventStaff(staffId, eventId));
+            Optional<Admission> admission = qrCodeValidityIndex.admit(qrValue);
+            if (admission.isPresent()) {
+                return recordAsync(admission.get().ticketId(), admission.get().status(), method);
+            }
+        }
+        return transactionTemplate.execute(status -> validateAgainstDatabase(staffId, qrValue, method));
+    }
+
+    private TicketValidation validateAgainstDatabase(UUID staffId, String qrValue, TicketValidationMethod method) {
+        Optional<QrCode> qrCode = qrValue == null ? Optional.empty() : qrCodeRepository.findByValue(qrValue);
+        if (qrCode.isEmpty()) {
+            return rejected(method);
+        }
+        requireEventStaff(staffId, qrCode.get().getTicket().getTicketType().getEvent().getId());
+        Ticket ticket = ticketRepository.findByIdForUpdate(qrCode.get().getTicket().getId()).orElseThrow();
+        TicketValidationStatusEnum result;
+        if (ticket.getStatus() != TicketStatusEnum.PURCHASED) {
+            result = TicketValidationStatusEnum.INVALID;
+        } else if (qrCode.get().getStatus() != QrCodeStatusEnum.ACTIVE) {
+            result = TicketValidationStatusEnum.EXPIRED;
+        } else if (ticketValidationRepository.existsByTicketIdAndStatus(ticket.getId(), TicketValidationStatusEnum.VALID)) {
+            result = TicketValidationStatusEnum.INVALID;
+        } else {
+            result = TicketValidationStatusEnum.VALID;
+        }
+        TicketValidation validation = ticketValidationRepository.save(TicketValidation.builder()
+                .status(result)
+                .validationMethod(method)
+                .ticket(ticket)
+                .build());
+        if (result == TicketValidationStatusEnum.VALID) {
+            eventPublisher.publishEvent(new TicketCheckedInEvent(ticket.getId(), validation.getCreatedAt()));
+        }
+        return validation;
+    }
+
+    /**
+     * Outcome for a code that belongs to no ticket; there is nothing to record it against.
+     */
+    private static TicketValidation rejected(TicketValidationMethod method) {
+        return TicketValidation.builder()
+                .status(TicketValidationStatusEnum.INVALID)
+                .validationMethod(method)
+                .build();
+    }
+
+    private TicketValidation recordAsync(UUID ticketId, TicketValidationStatusEnum status, TicketValidationMethod method) {
+        PendingValidation pending = new PendingValidation(UUID.randomUUID(), ticketId, status, method, LocalDateTime.now());
+        validationWriter.submit(pending);
+        Ticket ticket = new Ticket();
+        ticket.setId(ticketId);
+        return TicketValidation.builder()
+                .id(pending.id())
+                .status(status)
+                .validationMethod(method)
+                .ticket(ticket)
+                .createdAt(pending.createdAt())
+                .updatedAt(pending.createdAt())
+                .build();
+    }
+
+    /**
+     * Manual entry identifies the ticket rather than the code; resolve it to the
+     * ticket's active code so it goes through the same double-entry check.
+     */
+    private String findQrValue(String ticketId) {
+        UUID id;
+        try {
+            id = UUID.fromString(ticketId);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+        List<QrCode> qrCodes = qrCodeRepository.findByTicketId(id);
+        return qrCodes.stream()
+                .filter(qrCode -> qrCode.getStatus() == QrCodeStatusEnum.ACTIVE)
+                .findFirst()
+                .or(() -> qrCodes.stream().findFirst())
+                .map(QrCode::getValue)
+                .orElse(null);
+    }
+
+    private void requireOrganizerEvent(UUID organizerId, UUID eventId) {
+        if (eventRepository.findByIdAndOrganizerId(eventId, organizerId).isEmpty()) {
+            throw new EventNotFoundException(String.format("Event with ID '%s' does not exist", eventId));
+        }
+    }
+
+    /**
+     * Only the event's organizer and staff may let its tickets in; to anyone
+     * else the event does not exist.
+     */
+    private void requireEventStaff(UUID staffId, UUID eventId) {
+        if (!eventRepository.existsByIdAndOrganizerOrStaffId(eventId, staffId)) {
+            throw new EventNotFoundException(String.format("Event with ID '%s' does not exist", eventId));
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.devtiro.ticket_platform.services.impl;
+
+import com.devtiro.ticket_platform.domain.entities.TicketValidationMethod;
+import com.devtiro.ticket_platform.domain.entities.TicketValidationStatusEnum;
+import com.devtiro.ticket_platform.domain.events.TicketCheckedInEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Asynchronous, batched persistence of validations decided in memory at an open
+ * gate. Unlike ticket purchases the scan has already been answered, so nothing
+ * waits on the write: if the queue is full the caller writes its own row
+ * instead, and a failed row is logged rather than reported back.
+ * {@link #flushQueued} is the exception, for a gate that is about to read
+ * back what has been admitted.
+ */
+@Component
+@Slf4j
+class TicketValidationWriter {
+    private static final String INSERT_VALIDATION =
+            "INSERT INTO ticket_validation (id, status, validation_method, ticket_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingValidation> queue;
+    // Held by the flusher from taking a batch until it is stored; fair, so flushQueued() is not starved
+    private final ReentrantLock flushing = new ReentrantLock(true);
+    private final int batchSize;
+    private final long maxDelayMillis;
+    private volatile boolean running = true;
+    private Thread flusher;
+
+    TicketValidationWriter(
+            JdbcTemplate jdbcTemplate,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.validations.write-behind.capacity:10000}") int capacity,
+            @Value("${app.validations.write-behind.batch-size:500}") int batchSize,
+            @Value("${app.validations.write-behind.max-delay-ms:50}") long maxDelayMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Rows commit on their own, whatever transaction a caller flushing them is in
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    @PostConstruct
+    void start() {
+        flusher = Thread.ofPlatform().name("ticket-validation-writer").daemon().start(this::run);
+    }
+
+    void submit(PendingValidation validation) {
+        if (!running || !queue.offer(validation)) {
+            flush(List.of(validation));
+        }
+    }
+
+    /**
+     * Stores every validation submitted so far before returning, including a
+     * batch the flusher has already taken.
+     */
+    void flushQueued() {
+        flushing.lock();
+        try {
+            List<PendingValidation> batch = new ArrayList<>();
+            queue.drainTo(batch);
+            if (!batch.isEmpty()) {
+                flush(batch);
+            }
+        } finally {
+            flushing.unlock();
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    private void run() {
+        List<PendingValidation> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            flushing.lock();
+            try {
+                PendingValidation first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                if (queue.size() < batchSize - 1) {
+                    // Let a burst of scans accumulate rather than writing them one by one
+                    Thread.sleep(maxDelayMillis);
+                }
+                queue.drainTo(batch, batchSize - batch.size());
+                flush(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                flushing.unlock();
+            }
+            batch.clear();
+        }
+        queue.drainTo(batch);
+        if (!batch.isEmpty()) {
+            flush(batch);
+        }
+    }
+
+    private void flush(List<PendingValidation> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(batch));
+        } catch (RuntimeException batchFailure) {
+            if (batch.size() == 1) {
+                log.error("Unable to store validation {} of ticket {}",
+                        batch.get(0).id(), batch.get(0).ticketId(), batchFailure);
+                return;
+            }
+            log.warn("Validation batch of {} failed, retrying one by one", batch.size(), batchFailure);
+            for (PendingValidation validation : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(List.of(validation)));
+                } catch (RuntimeException ex) {
+                    log.error("Unable to store validation {} of ticket {}", validation.id(), validation.ticketId(), ex);
+                }
+            }
+        }
+    }
+
+    private void insert(List<PendingValidation> batch) {
+        jdbcTemplate.batchUpdate(INSERT_VALIDATION, batch, batch.size(), (ps, validation) -> {
+            ps.setObject(1, validation.id());
+            ps.setString(2, validation.status().name());
+            ps.setString(3, validation.method().name());
+            ps.setObject(4, validation.ticketId());
+            ps.setObject(5, validation.createdAt());
+            ps.setObject(6, validation.createdAt());
+        });
+        batch.stream()
+                .filter(validation -> validation.status() == TicketValidationStatusEnum.VALID)
+                .forEach(validation -> eventPublisher.publishEvent(
+                        new TicketCheckedInEvent(validation.ticketId(), validation.createdAt())));
+    }
+
+    record PendingValidation(
+            UUID id,
+            UUID ticketId,
+            TicketValidationStatusEnum status,
+            TicketValidationMethod method,
+            LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,238 @@
+package com.devtiro.ticket_platform.services.impl;
+
+import com.devtiro.ticket_platform.domain.entities.QrCodeStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.TicketStatusEnum;
+import com.devtiro.ticket_platform.domain.events.TicketPurchasedEvent;
+import com.devtiro.ticket_platform.exceptions.EventTicketException;
+import com.devtiro.ticket_platform.exceptions.TicketWriteBacklogException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind stage for purchased tickets. Purchases are queued and a single
+ * flusher writes them, together with their QR codes, in one JDBC batch per
+ * transaction once either {@code batchSize} entries are waiting or
+ * {@code maxDelay} has passed since the first one arrived.
+ * <p>
+ * A purchase is only confirmed to the caller when the future returned by
+ * {@link #submit} completes, i.e. after the batch containing it has committed.
+ * Tickets handed over together through {@link #submitAll} are one unit: they
+ * always land in the same batch and are stored or failed together. A ticket
+ * bought under an idempotency key records itself on the key's claim in the
+ * same transaction, so a claim without a ticket never bought one.
+ * Nothing held only in memory has been acknowledged, so a crash can lose
+ * in-flight requests but never a confirmed ticket. The queue is bounded: when
+ * the flusher falls behind, producers block in {@link #submit} and are failed
+ * with {@link TicketWriteBacklogException} if no slot frees up in time.
+ */
+@Component
+@Slf4j
+class TicketWriteBehindBuffer {
+    private static final String INSERT_TICKET =
+            "INSERT INTO tickets (id, status, ticket_type_id, purchaser_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_QR_CODE =
+            "INSERT INTO qr_codes (id, status, qr_value, ticket_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String COMPLETE_IDEMPOTENCY_KEY =
+            "UPDATE purchase_idempotency_keys SET ticket_id = ? WHERE id = ? AND ticket_id IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<List<PendingTicket>> queue;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final long enqueueTimeoutMillis;
+    private volatile boolean running = true;
+    private Thread flusher;
+
+    TicketWriteBehindBuffer(
+            JdbcTemplate jdbcTemplate,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.tickets.write-behind.capacity:10000}") int capacity,
+            @Value("${app.tickets.write-behind.batch-size:200}") int batchSize,
+            @Value("${app.tickets.write-behind.max-delay-ms:5}") long maxDelayMillis,
+            @Value("${app.tickets.write-behind.enqueue-timeout-ms:2000}") long enqueueTimeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        this.enqueueTimeoutMillis = enqueueTimeoutMillis;
+    }
+
+    @PostConstruct
+    void start() {
+        flusher = Thread.ofPlatform().name("ticket-write-behind").daemon().start(this::run);
+    }
+
+    CompletableFuture<Void> submit(PendingTicket ticket) {
+        return submitAll(List.of(ticket));
+    }
+
+    /**
+     * Queues the tickets as one unit: the returned future completes once all
+     * of them are stored, or fails with none of them stored.
+     */
+    CompletableFuture<Void> submitAll(List<PendingTicket> tickets) {
+        if (!running) {
+            throw new TicketWriteBacklogException("Ticket writer is shutting down");
+        }
+        List<PendingTicket> unit = List.copyOf(tickets);
+        try {
+            if (!queue.offer(unit, enqueueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new TicketWriteBacklogException("Ticket writer backlog is full");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new TicketWriteBacklogException("Interrupted while queueing ticket", ex);
+        }
+        // The flusher may have made its last pass since the check above; if it
+        // never took the unit, nothing ever will
+        if (!running && queue.remove(unit)) {
+            throw new TicketWriteBacklogException("Ticket writer is shutting down");
+        }
+        return CompletableFuture.allOf(tickets.stream()
+                .map(PendingTicket::written)
+                .toArray(CompletableFuture[]::new));
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    private void run() {
+        List<List<PendingTicket>> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+        queue.drainTo(batch);
+        batch.forEach(unit -> fail(unit,
+                new TicketWriteBacklogException("Ticket writer stopped before the ticket was stored")));
+    }
+
+    /**
+     * Fills the batch with whole units, until it holds at least
+     * {@code batchSize} tickets or {@code maxDelay} has passed.
+     */
+    private void collect(List<List<PendingTicket>> batch) throws InterruptedException {
+        List<PendingTicket> first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        int tickets = first.size();
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (tickets < batchSize) {
+            List<PendingTicket> next = queue.poll();
+            if (next == null) {
+                long remaining = deadline - System.nanoTime();
+                next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                if (next == null) {
+                    return;
+                }
+            }
+            batch.add(next);
+            tickets += next.size();
+        }
+    }
+
+    private void flush(List<List<PendingTicket>> batch) {
+        List<PendingTicket> tickets = batch.stream().flatMap(List::stream).toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(tickets));
+            tickets.forEach(ticket -> ticket.written().complete(null));
+        } catch (RuntimeException batchFailure) {
+            if (batch.size() == 1) {
+                fail(batch.get(0), batchFailure);
+                return;
+            }
+            // One bad row fails the whole batch; retry unit by unit so the rest still commit.
+            log.warn("Ticket batch of {} failed, retrying one unit at a time", tickets.size(), batchFailure);
+            for (List<PendingTicket> unit : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(unit));
+                    unit.forEach(ticket -> ticket.written().complete(null));
+                } catch (RuntimeException ex) {
+                    fail(unit, ex);
+                }
+            }
+        }
+    }
+
+    private static void fail(List<PendingTicket> unit, RuntimeException ex) {
+        unit.forEach(ticket -> ticket.written().completeExceptionally(ex));
+    }
+
+    private void insert(List<PendingTicket> batch) {
+        jdbcTemplate.batchUpdate(INSERT_TICKET, batch, batch.size(), (ps, ticket) -> {
+            ps.setObject(1, ticket.ticketId());
+            ps.setString(2, TicketStatusEnum.PURCHASED.name());
+            ps.setObject(3, ticket.ticketTypeId());
+            ps.setObject(4, ticket.purchaserId());
+            ps.setObject(5, ticket.createdAt());
+            ps.setObject(6, ticket.createdAt());
+        });
+        jdbcTemplate.batchUpdate(INSERT_QR_CODE, batch, batch.size(), (ps, ticket) -> {
+            ps.setObject(1, ticket.qrCodeId());
+            ps.setString(2, QrCodeStatusEnum.ACTIVE.name());
+            ps.setString(3, ticket.qrCodeValue());
+            ps.setObject(4, ticket.ticketId());
+            ps.setObject(5, ticket.createdAt());
+            ps.setObject(6, ticket.createdAt());
+        });
+        List<PendingTicket> keyed = batch.stream().filter(ticket -> ticket.idempotencyKeyId() != null).toList();
+        if (!keyed.isEmpty()) {
+            int[][] completed = jdbcTemplate.batchUpdate(COMPLETE_IDEMPOTENCY_KEY, keyed, keyed.size(), (ps, ticket) -> {
+                ps.setObject(1, ticket.ticketId());
+                ps.setObject(2, ticket.idempotencyKeyId());
+            });
+            if (Arrays.stream(completed).flatMapToInt(Arrays::stream).anyMatch(count -> count == 0)) {
+                throw new EventTicketException("An idempotency key was released before its ticket was stored");
+            }
+        }
+        batch.forEach(ticket -> eventPublisher.publishEvent(new TicketPurchasedEvent(
+                ticket.ticketId(), ticket.eventId(), ticket.ticketTypeId(), ticket.purchaserId(), ticket.createdAt())));
+    }
+
+    record PendingTicket(
+            UUID ticketId,
+            UUID eventId,
+            UUID ticketTypeId,
+            UUID purchaserId,
+            UUID qrCodeId,
+            String qrCodeValue,
+            LocalDateTime createdAt,
+            UUID idempotencyKeyId,
+            CompletableFuture<Void> written) {
+    }
+}
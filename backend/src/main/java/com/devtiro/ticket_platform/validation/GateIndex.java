@@ -0,0 +1,123 @@
+package com.devtiro.ticket_platform.validation;
+
+import com.devtiro.ticket_platform.domain.entities.QrCodeStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.TicketStatusEnum;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Open-addressing table of one event's opaque QR codes, keyed by the first 128 bits of
+ * the SHA-256 of the QR value. Keys and ticket ids live in flat {@code long}
+ * arrays, so 50k codes take a few MB and a lookup is a hash plus a short probe.
+ * Admission is a compare-and-set on the slot's state, which makes a second scan
+ * of the same code lose atomically no matter which gate it arrives at.
+ */
+final class GateIndex {
+    static final int EMPTY = -1;
+    static final int ACTIVE = 0;
+    static final int ADMITTED = 1;
+    static final int EXPIRED = 2;
+    static final int CANCELLED = 3;
+
+    private final long[] keys;
+    private final long[] ticketIds;
+    private final AtomicIntegerArray states;
+    private final int mask;
+    private final int size;
+
+    GateIndex(Collection<QrCodeValidity> qrCodes, Set<UUID> admittedTicketIds) {
+        int capacity = Integer.highestOneBit(Math.max(2, qrCodes.size()) * 2 - 1) << 1;
+        this.keys = new long[capacity * 2];
+        this.ticketIds = new long[capacity * 2];
+        this.states = new AtomicIntegerArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            states.set(i, EMPTY);
+        }
+        int count = 0;
+        for (QrCodeValidity qrCode : qrCodes) {
+            long[] key = hash(qrCode.qrValue());
+            int slot = probe(key[0], key[1]);
+            if (states.get(slot) == EMPTY) {
+                count++;
+            }
+            keys[slot * 2] = key[0];
+            keys[slot * 2 + 1] = key[1];
+            ticketIds[slot * 2] = qrCode.ticketId().getMostSignificantBits();
+            ticketIds[slot * 2 + 1] = qrCode.ticketId().getLeastSignificantBits();
+            states.set(slot, initialState(qrCode, admittedTicketIds));
+        }
+        this.size = count;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the slot holding {@code key}, or {@code -1} if this event has no such code
+     */
+    int find(long[] key) {
+        int slot = probe(key[0], key[1]);
+        return states.get(slot) == EMPTY ? -1 : slot;
+    }
+
+    UUID ticketId(int slot) {
+        return new UUID(ticketIds[slot * 2], ticketIds[slot * 2 + 1]);
+    }
+
+    /**
+     * Admits the code in {@code slot} if it has not been used yet.
+     *
+     * @return the state the slot was in before this call; {@link #ACTIVE} means this scan admitted it
+     */
+    int admit(int slot) {
+        if (states.compareAndSet(slot, ACTIVE, ADMITTED)) {
+            return ACTIVE;
+        }
+        return states.get(slot);
+    }
+
+    static long[] hash(String qrValue) {
+        byte[] digest = sha256().digest(qrValue.getBytes(StandardCharsets.UTF_8));
+        long hi = 0;
+        long lo = 0;
+        for (int i = 0; i < 8; i++) {
+            hi = (hi << 8) | (digest[i] & 0xff);
+            lo = (lo << 8) | (digest[i + 8] & 0xff);
+        }
+        return new long[]{hi, lo};
+    }
+
+    private int probe(long hi, long lo) {
+        int slot = (int) (lo ^ (lo >>> 32)) & mask;
+        while (states.get(slot) != EMPTY && (keys[slot * 2] != hi || keys[slot * 2 + 1] != lo)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int initialState(QrCodeValidity qrCode, Set<UUID> admittedTicketIds) {
+        if (qrCode.ticketStatus() != TicketStatusEnum.PURCHASED) {
+            return CANCELLED;
+        }
+        if (qrCode.qrCodeStatus() != QrCodeStatusEnum.ACTIVE) {
+            return EXPIRED;
+        }
+        return admittedTicketIds.contains(qrCode.ticketId()) ? ADMITTED : ACTIVE;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.devtiro.ticket_platform.validation;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Claims carried by a signed QR code. Once the signature checks out, a gate can
+ * trust them without looking the code up.
+ */
+public record QrCodeToken(UUID ticketId, UUID eventId, UUID ticketTypeId, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return now.isAfter(expiresAt);
+    }
+}
@@ -0,0 +1,17 @@
+package com.devtiro.ticket_platform.validation;
+
+import com.devtiro.ticket_platform.domain.entities.QrCodeStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.TicketStatusEnum;
+
+import java.util.UUID;
+
+/**
+ * What a gate needs to know about one QR code: the ticket it admits and whether
+ * either of them is still usable.
+ */
+public record QrCodeValidity(
+        String qrValue,
+        UUID ticketId,
+        QrCodeStatusEnum qrCodeStatus,
+        TicketStatusEnum ticketStatus) {
+}
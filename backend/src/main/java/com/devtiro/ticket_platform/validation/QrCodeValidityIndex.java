@@ -0,0 +1,132 @@
+package com.devtiro.ticket_platform.validation;
+
+import com.devtiro.ticket_platform.domain.entities.QrCodeStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.TicketStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.TicketValidationStatusEnum;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Admission state of the events whose gates are open, held in memory so door
+ * scans are answered without touching the database.
+ * <p>
+ * Signed codes are authenticated by {@link QrCodeSigner}, so a gate only needs
+ * the tickets that were revoked before it opened and the ones it has admitted
+ * since, and it also admits tickets bought after opening. Opaque codes issued
+ * before codes were signed are loaded into a {@link GateIndex} instead; ones
+ * issued after the gate opened are not known here.
+ */
+@Component
+public class QrCodeValidityIndex {
+    private final ConcurrentMap<UUID, Gate> gates = new ConcurrentHashMap<>();
+
+    /**
+     * Replaces the gate of {@code eventId} with one built from {@code qrCodes}.
+     * Tickets in {@code admittedTicketIds} have already been admitted and will
+     * not be again.
+     *
+     * @return the number of QR codes loaded
+     */
+    public int open(UUID eventId, Collection<QrCodeValidity> qrCodes, Set<UUID> admittedTicketIds) {
+        List<QrCodeValidity> opaqueCodes = new ArrayList<>();
+        Map<UUID, TicketValidationStatusEnum> revoked = new HashMap<>();
+        for (QrCodeValidity qrCode : qrCodes) {
+            if (!QrCodeSigner.isSigned(qrCode.qrValue())) {
+                opaqueCodes.add(qrCode);
+            } else if (qrCode.ticketStatus() != TicketStatusEnum.PURCHASED) {
+                revoked.put(qrCode.ticketId(), TicketValidationStatusEnum.INVALID);
+            } else if (qrCode.qrCodeStatus() != QrCodeStatusEnum.ACTIVE) {
+                revoked.putIfAbsent(qrCode.ticketId(), TicketValidationStatusEnum.EXPIRED);
+            }
+        }
+        Set<UUID> admitted = ConcurrentHashMap.newKeySet();
+        admitted.addAll(admittedTicketIds);
+        gates.put(eventId, new Gate(new GateIndex(opaqueCodes, admittedTicketIds), Map.copyOf(revoked), admitted));
+        return qrCodes.size();
+    }
+
+    public void close(UUID eventId) {
+        gates.remove(eventId);
+    }
+
+    public boolean isOpen(UUID eventId) {
+        return gates.containsKey(eventId);
+    }
+
+    /**
+     * Admits the ticket of an already verified signed code if it is neither
+     * revoked nor used. Of any number of concurrent scans of the same ticket
+     * exactly one is {@code VALID}.
+     *
+     * @return the outcome, or empty if the gate of the code's event is not open
+     */
+    public Optional<Admission> admit(QrCodeToken token) {
+        Gate gate = gates.get(token.eventId());
+        if (gate == null) {
+            return Optional.empty();
+        }
+        TicketValidationStatusEnum status = gate.revokedTickets().get(token.ticketId());
+        if (status == null) {
+            status = gate.admittedTickets().add(token.ticketId())
+                    ? TicketValidationStatusEnum.VALID
+                    : TicketValidationStatusEnum.INVALID;
+        }
+        return Optional.of(new Admission(token.eventId(), token.ticketId(), status));
+    }
+
+    /**
+     * @return the event whose open gate knows the opaque {@code qrValue}, or
+     * empty if none does
+     */
+    public Optional<UUID> findEvent(String qrValue) {
+        long[] key = GateIndex.hash(qrValue);
+        for (var entry : gates.entrySet()) {
+            if (entry.getValue().opaqueCodes().find(key) >= 0) {
+                return Optional.of(entry.getKey());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Admits the ticket behind an opaque {@code qrValue} if it is valid and
+     * unused, with the same once-only guarantee as {@link #admit(QrCodeToken)}.
+     *
+     * @return the outcome, or empty if no open gate knows the code
+     */
+    public Optional<Admission> admit(String qrValue) {
+        long[] key = GateIndex.hash(qrValue);
+        for (var entry : gates.entrySet()) {
+            GateIndex opaqueCodes = entry.getValue().opaqueCodes();
+            int slot = opaqueCodes.find(key);
+            if (slot >= 0) {
+                TicketValidationStatusEnum status = switch (opaqueCodes.admit(slot)) {
+                    case GateIndex.ACTIVE -> TicketValidationStatusEnum.VALID;
+                    case GateIndex.EXPIRED -> TicketValidationStatusEnum.EXPIRED;
+                    default -> TicketValidationStatusEnum.INVALID;
+                };
+                return Optional.of(new Admission(entry.getKey(), opaqueCodes.ticketId(slot), status));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public record Admission(UUID eventId, UUID ticketId, TicketValidationStatusEnum status) {
+    }
+
+    private record Gate(
+            GateIndex opaqueCodes,
+            Map<UUID, TicketValidationStatusEnum> revokedTickets,
+            Set<UUID> admittedTickets) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.devtiro.ticket_platform;
+
+import com.devtiro.ticket_platform.Repositories.UserRepository;
+import com.devtiro.ticket_platform.domain.CreateEventRequest;
+import com.devtiro.ticket_platform.domain.CreateTicketTypeRequest;
+import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.domain.entities.EventStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.User;
+import com.devtiro.ticket_platform.services.EventService;
+import org.springframework.context.ApplicationContext;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Users and published events for tests, created through one application
+ * context's repositories and services.
+ */
+public class TestFixtures {
+	private final UserRepository userRepository;
+	private final EventService eventService;
+
+	public TestFixtures(ApplicationContext context) {
+		this.userRepository = context.getBean(UserRepository.class);
+		this.eventService = context.getBean(EventService.class);
+	}
+
+	public UUID user(String name) {
+		User user = new User();
+		user.setId(UUID.randomUUID());
+		user.setName(name);
+		user.setEmail(name + "@example.com");
+		return userRepository.save(user).getId();
+	}
+
+	/**
+	 * A published event with one "General" ticket type, organized by a new user.
+	 */
+	public Event event(String name, int stock) {
+		return event(user("organizer"), name, new CreateTicketTypeRequest("General", 10.0, null, stock));
+	}
+
+	public Event event(UUID organizerId, String name, CreateTicketTypeRequest... ticketTypes) {
+		return eventService.createEvent(organizerId, new CreateEventRequest(
+				name, null, null, "Arena", null, null, EventStatusEnum.PUBLISHED, List.of(ticketTypes)));
+	}
+}
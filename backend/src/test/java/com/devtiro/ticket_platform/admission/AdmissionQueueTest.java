@@ -0,0 +1,171 @@
+package com.devtiro.ticket_platform.admission;
+
+import com.devtiro.ticket_platform.Repositories.UserRepository;
+import com.devtiro.ticket_platform.domain.CreateEventRequest;
+import com.devtiro.ticket_platform.domain.CreateTicketTypeRequest;
+import com.devtiro.ticket_platform.domain.dtos.QueueStatusDto;
+import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.domain.entities.EventStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.User;
+import com.devtiro.ticket_platform.exceptions.AdmissionRequiredException;
+import com.devtiro.ticket_platform.exceptions.InvalidQueueTokenException;
+import com.devtiro.ticket_platform.services.EventService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// The ticker is held back so the test decides how much time passes
+@SpringBootTest(properties = {"app.admission.rate=1000", "app.admission.tick=1h"})
+class AdmissionQueueTest {
+	private static final int BUYERS = 1_000_000;
+	private static final int THREADS = 8;
+
+	@Autowired
+	private AdmissionQueue admissionQueue;
+	@Autowired
+	private EventService eventService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void burstOfAMillionBuyersIsAdmittedInOrderAtTheConfiguredRate() throws Exception {
+		UUID eventId = event(LocalDateTime.now().minusMinutes(1)).getId();
+		// Tokens of a few positions of interest, to check on after the burst
+		Map<Long, QueueStatusDto> joined = new ConcurrentHashMap<>();
+		Map<Long, UUID> buyers = new ConcurrentHashMap<>();
+		BitSet positions = new BitSet(BUYERS + 1);
+		long heapBefore = liveHeap();
+
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<BitSet>> futures = new ArrayList<>();
+		try (ExecutorService pool = Executors.newFixedThreadPool(THREADS)) {
+			for (int t = 0; t < THREADS; t++) {
+				futures.add(pool.submit(() -> {
+					start.await();
+					BitSet seen = new BitSet(BUYERS + 1);
+					for (int i = 0; i < BUYERS / THREADS; i++) {
+						UUID buyer = UUID.randomUUID();
+						QueueStatusDto status = admissionQueue.join(eventId, buyer);
+						seen.set((int) status.getPosition());
+						if (status.getPosition() == 1_000 || status.getPosition() == 1_001
+								|| status.getPosition() == BUYERS) {
+							joined.put(status.getPosition(), status);
+							buyers.put(status.getPosition(), buyer);
+						}
+					}
+					return seen;
+				}));
+			}
+			start.countDown();
+			for (Future<BitSet> future : futures) {
+				positions.or(future.get());
+			}
+		}
+
+		assertThat(positions.cardinality()).isEqualTo(BUYERS);
+		assertThat(positions.nextSetBit(0)).isEqualTo(1);
+		assertThat(positions.length()).isEqualTo(BUYERS + 1);
+		assertThat(meterRegistry.get("admission.queue.waiting").gauge().value()).isEqualTo(BUYERS);
+		// Nothing is kept per queued buyer; a map entry each would be well over 50MB
+		assertThat(liveHeap() - heapBefore).isLessThan(8L * 1024 * 1024);
+		assertThat(joined.get(1_000L).isAdmitted()).isFalse();
+
+		admissionQueue.admit(Duration.ofSeconds(1));
+
+		QueueStatusDto admitted = admissionQueue.status(eventId, buyers.get(1_000L), joined.get(1_000L).getToken());
+		assertThat(admitted.isAdmitted()).isTrue();
+		assertThat(admitted.getPass()).isNotNull();
+		admissionQueue.checkPass(eventId, buyers.get(1_000L), admitted.getPass());
+
+		QueueStatusDto next = admissionQueue.status(eventId, buyers.get(1_001L), joined.get(1_001L).getToken());
+		assertThat(next.isAdmitted()).isFalse();
+		assertThat(next.getAhead()).isEqualTo(1);
+		assertThat(next.getPass()).isNull();
+		QueueStatusDto last = admissionQueue.status(eventId, buyers.get((long) BUYERS), joined.get((long) BUYERS).getToken());
+		assertThat(last.getAhead()).isEqualTo(BUYERS - 1_000);
+		assertThat(last.getEstimatedWaitSeconds()).isEqualTo(BUYERS / 1_000 - 1);
+
+		// Someone else's pass, or none, does not get a buyer in
+		assertThatThrownBy(() -> admissionQueue.checkPass(eventId, buyers.get(1_001L), admitted.getPass()))
+				.isInstanceOf(AdmissionRequiredException.class);
+		assertThatThrownBy(() -> admissionQueue.checkPass(eventId, buyers.get(1_001L), null))
+				.isInstanceOf(AdmissionRequiredException.class);
+	}
+
+	@Test
+	void nobodyIsAdmittedBeforeSalesStart() {
+		UUID eventId = event(LocalDateTime.now().plusHours(1)).getId();
+		UUID buyer = UUID.randomUUID();
+		QueueStatusDto joined = admissionQueue.join(eventId, buyer);
+
+		admissionQueue.admit(Duration.ofMinutes(10));
+
+		QueueStatusDto status = admissionQueue.status(eventId, buyer, joined.getToken());
+		assertThat(status.isAdmitted()).isFalse();
+		assertThat(status.getEstimatedWaitSeconds()).isGreaterThan(Duration.ofMinutes(59).toSeconds());
+		assertThatThrownBy(() -> admissionQueue.checkPass(eventId, buyer, null))
+				.isInstanceOf(AdmissionRequiredException.class);
+	}
+
+	@Test
+	void eventsWithoutSalesStartNeedNoPass() {
+		UUID eventId = event(null).getId();
+		UUID buyer = UUID.randomUUID();
+
+		admissionQueue.checkPass(eventId, buyer, null);
+		QueueStatusDto joined = admissionQueue.join(eventId, buyer);
+		assertThat(joined.isAdmitted()).isTrue();
+		assertThat(joined.getPass()).isNotNull();
+	}
+
+	@Test
+	void rejectsTokensForAnotherEventOrBuyer() {
+		UUID eventId = event(LocalDateTime.now().plusHours(1)).getId();
+		UUID otherEventId = event(LocalDateTime.now().plusHours(1)).getId();
+		UUID buyer = UUID.randomUUID();
+		String token = admissionQueue.join(eventId, buyer).getToken();
+
+		assertThatThrownBy(() -> admissionQueue.status(otherEventId, buyer, token))
+				.isInstanceOf(InvalidQueueTokenException.class);
+		assertThatThrownBy(() -> admissionQueue.status(eventId, UUID.randomUUID(), token))
+				.isInstanceOf(InvalidQueueTokenException.class);
+		assertThatThrownBy(() -> admissionQueue.status(eventId, buyer, token.substring(1) + "A"))
+				.isInstanceOf(InvalidQueueTokenException.class);
+	}
+
+	private Event event(LocalDateTime salesStart) {
+		User organizer = new User();
+		organizer.setId(UUID.randomUUID());
+		organizer.setName("organizer");
+		organizer.setEmail("organizer@example.com");
+		userRepository.save(organizer);
+		return eventService.createEvent(organizer.getId(), new CreateEventRequest(
+				"On-sale", null, null, "Arena", salesStart, null, EventStatusEnum.PUBLISHED,
+				List.of(new CreateTicketTypeRequest("General", 10.0, null, 100))));
+	}
+
+	private static long liveHeap() {
+		System.gc();
+		return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+	}
+}
@@ -0,0 +1,66 @@
+package com.devtiro.ticket_platform.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CallerRunsLoaderTest {
+
+	@Test
+	void concurrentMissesShareOneLoadOnACallerThread() throws Exception {
+		AsyncCache<String, String> cache = Caffeine.newBuilder().buildAsync();
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < 50; i++) {
+				results.add(executor.submit(() -> CallerRunsLoader.get(cache, "key", key -> {
+					loads.incrementAndGet();
+					loading.countDown();
+					await(release);
+					return Thread.currentThread().isVirtual() ? "loaded" : "wrong thread";
+				})));
+			}
+			loading.await();
+			release.countDown();
+			for (Future<String> result : results) {
+				assertThat(result.get()).isEqualTo("loaded");
+			}
+		}
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void failedAndNullLoadsAreNotCached() {
+		AsyncCache<String, String> cache = Caffeine.newBuilder().buildAsync();
+
+		assertThatThrownBy(() -> CallerRunsLoader.get(cache, "key", key -> {
+			throw new IllegalStateException("boom");
+		})).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+		assertThat(CallerRunsLoader.get(cache, "key", key -> null)).isNull();
+		assertThat(CallerRunsLoader.get(cache, "key", key -> "value")).isEqualTo("value");
+		assertThat(CallerRunsLoader.get(cache, "key", key -> "other")).isEqualTo("value");
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(ex);
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package com.devtiro.ticket_platform.cache;
+
+import com.devtiro.ticket_platform.Repositories.UserRepository;
+import com.devtiro.ticket_platform.domain.CreateEventRequest;
+import com.devtiro.ticket_platform.domain.CreateTicketTypeRequest;
+import com.devtiro.ticket_platform.domain.UpdateEventRequest;
+import com.devtiro.ticket_platform.domain.UpdateTicketTypeRequest;
+import com.devtiro.ticket_platform.domain.dtos.GetEventDetailsResponseDto;
+import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.domain.entities.EventStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.User;
+import com.devtiro.ticket_platform.services.EventService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class PublishedEventCacheTest {
+
+	@Autowired
+	private PublishedEventCache publishedEventCache;
+	@Autowired
+	private EventService eventService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void servesRepeatReadsFromCacheAndEvictsOnCommit() {
+		UUID organizerId = createOrganizer();
+		Event event = eventService.createEvent(organizerId, new CreateEventRequest(
+				"Original", null, null, "Hall", null, null, EventStatusEnum.PUBLISHED,
+				List.of(new CreateTicketTypeRequest("General", 10.0, null, 100))));
+
+		double hitsBefore = hits();
+		GetEventDetailsResponseDto first = publishedEventCache.getPublishedEvent(event.getId()).orElseThrow();
+		GetEventDetailsResponseDto second = publishedEventCache.getPublishedEvent(event.getId()).orElseThrow();
+		assertThat(second).isSameAs(first);
+		assertThat(hits()).isEqualTo(hitsBefore + 1);
+
+		UUID ticketTypeId = event.getTicketTypes().get(0).getId();
+		eventService.updateEventForOrganizer(organizerId, event.getId(), new UpdateEventRequest(
+				event.getId(), "Renamed", null, null, "Hall", null, null, EventStatusEnum.PUBLISHED,
+				List.of(new UpdateTicketTypeRequest(ticketTypeId, "General", 12.0, null, 100))));
+
+		assertThat(publishedEventCache.getPublishedEvent(event.getId()))
+				.get()
+				.extracting(GetEventDetailsResponseDto::getName)
+				.isEqualTo("Renamed");
+	}
+
+	@Test
+	void unpublishedEventsAreNotVisible() {
+		Event draft = eventService.createEvent(createOrganizer(), new CreateEventRequest(
+				"Draft", null, null, "Hall", null, null, EventStatusEnum.DRAFT,
+				List.of(new CreateTicketTypeRequest("General", 10.0, null, 100))));
+
+		assertThat(publishedEventCache.getPublishedEvent(draft.getId())).isEmpty();
+	}
+
+	private double hits() {
+		return meterRegistry.get("cache.gets")
+				.tag("cache", "published-events.details")
+				.tag("result", "hit")
+				.functionCounter()
+				.count();
+	}
+
+	private UUID createOrganizer() {
+		User organizer = new User();
+		organizer.setId(UUID.randomUUID());
+		organizer.setName("organizer");
+		organizer.setEmail("organizer@example.com");
+		return userRepository.save(organizer).getId();
+	}
+}
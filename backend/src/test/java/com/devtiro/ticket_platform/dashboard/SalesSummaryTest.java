@@ -0,0 +1,179 @@
+package com.devtiro.ticket_platform.dashboard;
+
+import com.devtiro.ticket_platform.TestFixtures;
+import com.devtiro.ticket_platform.domain.CreateTicketTypeRequest;
+import com.devtiro.ticket_platform.domain.EventSalesSummary;
+import com.devtiro.ticket_platform.domain.TicketTypeSalesSummary;
+import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.domain.entities.EventCheckinHour;
+import com.devtiro.ticket_platform.domain.entities.Ticket;
+import com.devtiro.ticket_platform.domain.entities.TicketValidation;
+import com.devtiro.ticket_platform.domain.entities.TicketValidationMethod;
+import com.devtiro.ticket_platform.domain.entities.TicketValidationStatusEnum;
+import com.devtiro.ticket_platform.exceptions.EventNotFoundException;
+import com.devtiro.ticket_platform.inventory.TicketHold;
+import com.devtiro.ticket_platform.services.SalesSummaryService;
+import com.devtiro.ticket_platform.services.TicketService;
+import com.devtiro.ticket_platform.services.TicketValidationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class SalesSummaryTest {
+
+	@Autowired
+	private SalesSummaryService salesSummaryService;
+	@Autowired
+	private SalesCounters salesCounters;
+	@Autowired
+	private TicketService ticketService;
+	@Autowired
+	private TicketValidationService ticketValidationService;
+	@Autowired
+	private ApplicationContext context;
+	private TestFixtures fixtures;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void createFixtures() {
+		fixtures = new TestFixtures(context);
+	}
+
+	@Test
+	void purchasesHoldsAndCheckInsKeepTheSummaryCurrent() throws Exception {
+		UUID organizerId = fixtures.user("organizer");
+		UUID buyerId = fixtures.user("buyer");
+		Event event = event(organizerId);
+		UUID general = ticketTypeId(event, "General");
+		UUID vip = ticketTypeId(event, "VIP");
+		List<Ticket> generalTickets = purchase(buyerId, event.getId(), general, 5);
+		List<Ticket> vipTickets = purchase(buyerId, event.getId(), vip, 2);
+		TicketHold hold = ticketService.holdTickets(buyerId, event.getId(), general, 3);
+		salesCounters.flushHeld();
+
+		EventSalesSummary summary = salesSummaryService.getSalesSummaryForOrganizer(organizerId, event.getId());
+		assertThat(ticketType(summary, general))
+				.isEqualTo(new TicketTypeSalesSummary(general, "General", 10.0, 100, 5L, 3L, 0L, 50.0));
+		assertThat(ticketType(summary, vip))
+				.isEqualTo(new TicketTypeSalesSummary(vip, "VIP", 50.0, 10, 2L, 0L, 0L, 100.0));
+		assertThat(summary.sold()).isEqualTo(7);
+		assertThat(summary.held()).isEqualTo(3);
+		assertThat(summary.grossRevenue()).isEqualTo(150.0);
+		assertThat(summary.checkinsPerHour()).isEmpty();
+
+		// Checked against the database while the gate is closed, in memory once it is open
+		assertThat(scan(organizerId, generalTickets.getFirst())).isEqualTo(TicketValidationStatusEnum.VALID);
+		assertThat(scan(organizerId, generalTickets.getFirst())).isEqualTo(TicketValidationStatusEnum.INVALID);
+		ticketValidationService.openGate(organizerId, event.getId());
+		TicketValidation checkIn = ticketValidationService.validateTicket(organizerId,
+				vipTickets.getFirst().getQrCodes().getFirst().getValue(), TicketValidationMethod.QR_SCAN);
+		assertThat(checkIn.getStatus()).isEqualTo(TicketValidationStatusEnum.VALID);
+		ticketService.releaseHold(buyerId, hold.getId());
+		salesCounters.flushHeld();
+
+		summary = awaitSummary(organizerId, event.getId(), current -> current.validated() == 2);
+		assertThat(ticketType(summary, general).validated()).isEqualTo(1);
+		assertThat(ticketType(summary, vip).validated()).isEqualTo(1);
+		assertThat(summary.held()).isZero();
+		assertThat(summary.checkinsPerHour().stream().mapToLong(EventCheckinHour::getCheckins).sum())
+				.isEqualTo(2);
+		assertThat(summary.checkinsPerHour()).extracting(EventCheckinHour::getHour)
+				.contains(checkIn.getCreatedAt().truncatedTo(ChronoUnit.HOURS));
+	}
+
+	@Test
+	void missingRowsStartFromWhatIsAlreadyStored() {
+		UUID organizerId = fixtures.user("organizer");
+		UUID buyerId = fixtures.user("buyer");
+		Event event = event(organizerId);
+		UUID general = ticketTypeId(event, "General");
+		List<Ticket> tickets = purchase(buyerId, event.getId(), general, 4);
+		scan(organizerId, tickets.getFirst());
+
+		// As if the tickets had been sold before the summary existed
+		jdbcTemplate.update("DELETE FROM ticket_type_sales WHERE event_id = ?", event.getId());
+		jdbcTemplate.update("DELETE FROM event_checkin_hours WHERE event_id = ?", event.getId());
+		salesCounters.forgetRows();
+
+		EventSalesSummary summary = salesSummaryService.getSalesSummaryForOrganizer(organizerId, event.getId());
+		assertThat(ticketType(summary, general))
+				.isEqualTo(new TicketTypeSalesSummary(general, "General", 10.0, 100, 4L, 0L, 1L, 40.0));
+		assertThat(ticketType(summary, ticketTypeId(event, "VIP")).sold()).isZero();
+
+		purchase(buyerId, event.getId(), general, 1);
+		scan(organizerId, tickets.getLast());
+		summary = salesSummaryService.getSalesSummaryForOrganizer(organizerId, event.getId());
+		assertThat(ticketType(summary, general))
+				.isEqualTo(new TicketTypeSalesSummary(general, "General", 10.0, 100, 5L, 0L, 2L, 50.0));
+		// Hours are not backfilled, only the totals are
+		assertThat(summary.checkinsPerHour()).extracting(EventCheckinHour::getCheckins).containsExactly(1L);
+	}
+
+	@Test
+	void otherOrganizersCannotReadTheSummary() {
+		Event event = event(fixtures.user("organizer"));
+
+		assertThatThrownBy(() -> salesSummaryService.getSalesSummaryForOrganizer(fixtures.user("other"), event.getId()))
+				.isInstanceOf(EventNotFoundException.class);
+	}
+
+	private List<Ticket> purchase(UUID buyerId, UUID eventId, UUID ticketTypeId, int quantity) {
+		List<Ticket> tickets = new ArrayList<>();
+		for (int i = 0; i < quantity; i++) {
+			tickets.add(ticketService.purchaseTicket(buyerId, eventId, ticketTypeId));
+		}
+		return tickets;
+	}
+
+	private TicketValidationStatusEnum scan(UUID organizerId, Ticket ticket) {
+		return ticketValidationService.validateTicket(organizerId,
+				ticket.getQrCodes().getFirst().getValue(), TicketValidationMethod.QR_SCAN).getStatus();
+	}
+
+	private EventSalesSummary awaitSummary(UUID organizerId, UUID eventId, Predicate<EventSalesSummary> done)
+			throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5_000;
+		EventSalesSummary summary = salesSummaryService.getSalesSummaryForOrganizer(organizerId, eventId);
+		while (!done.test(summary) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+			summary = salesSummaryService.getSalesSummaryForOrganizer(organizerId, eventId);
+		}
+		assertThat(summary).matches(done);
+		return summary;
+	}
+
+	private static TicketTypeSalesSummary ticketType(EventSalesSummary summary, UUID ticketTypeId) {
+		return summary.ticketTypes().stream()
+				.filter(ticketType -> ticketType.id().equals(ticketTypeId))
+				.findFirst()
+				.orElseThrow();
+	}
+
+	private static UUID ticketTypeId(Event event, String name) {
+		return event.getTicketTypes().stream()
+				.filter(ticketType -> ticketType.getName().equals(name))
+				.findFirst()
+				.orElseThrow()
+				.getId();
+	}
+
+	private Event event(UUID organizerId) {
+		return fixtures.event(organizerId, "Dashboard show",
+				new CreateTicketTypeRequest("General", 10.0, null, 100),
+				new CreateTicketTypeRequest("VIP", 50.0, null, 10));
+	}
+}
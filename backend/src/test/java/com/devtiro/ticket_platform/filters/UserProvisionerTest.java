@@ -0,0 +1,89 @@
+package com.devtiro.ticket_platform.filters;
+
+import com.devtiro.ticket_platform.Repositories.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class UserProvisionerTest {
+
+	@Autowired
+	private UserProvisioner userProvisioner;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void concurrentFirstRequestsCreateTheUserOnce() throws Exception {
+		UUID userId = UUID.randomUUID();
+		Jwt jwt = jwt(userId);
+		int threads = 16;
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<?>> requests = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				requests.add(executor.submit(() -> {
+					start.await();
+					userProvisioner.provision(jwt);
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> request : requests) {
+				request.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		assertThat(userRepository.findById(userId)).get()
+				.satisfies(user -> assertThat(user.getName()).isEqualTo("user-" + userId));
+	}
+
+	@Test
+	void knownUsersAreServedFromTheCache() {
+		UUID userId = UUID.randomUUID();
+		userProvisioner.provision(jwt(userId));
+		double missesBefore = gets("miss");
+		double hitsBefore = gets("hit");
+
+		for (int i = 0; i < 5; i++) {
+			userProvisioner.provision(jwt(userId));
+		}
+
+		assertThat(gets("miss")).isEqualTo(missesBefore);
+		assertThat(gets("hit")).isEqualTo(hitsBefore + 5);
+	}
+
+	private double gets(String result) {
+		return meterRegistry.get("cache.gets").tag("cache", "provisioned-users").tag("result", result)
+				.functionCounter().count();
+	}
+
+	private static Jwt jwt(UUID userId) {
+		return Jwt.withTokenValue("token")
+				.header("alg", "none")
+				.subject(userId.toString())
+				.claim("preferred_username", "user-" + userId)
+				.claim("email", userId + "@example.com")
+				.issuedAt(Instant.now())
+				.expiresAt(Instant.now().plusSeconds(60))
+				.build();
+	}
+}
@@ -0,0 +1,140 @@
+package com.devtiro.ticket_platform.idempotency;
+
+import com.devtiro.ticket_platform.Repositories.PurchaseIdempotencyKeyRepository;
+import com.devtiro.ticket_platform.Repositories.TicketRepository;
+import com.devtiro.ticket_platform.TestFixtures;
+import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.domain.entities.TicketStatusEnum;
+import com.devtiro.ticket_platform.exceptions.IdempotencyKeyMismatchException;
+import com.devtiro.ticket_platform.exceptions.InvalidIdempotencyKeyException;
+import com.devtiro.ticket_platform.exceptions.TicketsSoldOutException;
+import com.devtiro.ticket_platform.inventory.TicketInventory;
+import com.devtiro.ticket_platform.services.TicketService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class IdempotentPurchaseTest {
+	private static final int RETRIES = 50;
+
+	@Autowired
+	private TicketService ticketService;
+	@Autowired
+	private IdempotentPurchases idempotentPurchases;
+	@Autowired
+	private TicketInventory ticketInventory;
+	@Autowired
+	private TicketRepository ticketRepository;
+	@Autowired
+	private PurchaseIdempotencyKeyRepository purchaseIdempotencyKeyRepository;
+	@Autowired
+	private ApplicationContext context;
+	private TestFixtures fixtures;
+
+	@BeforeEach
+	void createFixtures() {
+		fixtures = new TestFixtures(context);
+	}
+
+	@Test
+	void concurrentRetriesOfOneKeyBuyOneTicket() throws Exception {
+		UUID buyerId = fixtures.user("buyer");
+		Event event = fixtures.event("Retried checkout", 10);
+		UUID eventId = event.getId();
+		UUID ticketTypeId = event.getTicketTypes().getFirst().getId();
+		AtomicInteger purchases = new AtomicInteger();
+
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<UUID>> results = new ArrayList<>();
+		try (ExecutorService pool = Executors.newFixedThreadPool(8)) {
+			for (int i = 0; i < RETRIES; i++) {
+				results.add(pool.submit(() -> {
+					start.await();
+					return idempotentPurchases.purchase(buyerId, "checkout-1", eventId, ticketTypeId, claimId -> {
+						purchases.incrementAndGet();
+						return ticketService.purchaseTicket(buyerId, eventId, ticketTypeId).getId();
+					});
+				}));
+			}
+			start.countDown();
+			Set<UUID> ticketIds = new HashSet<>();
+			for (Future<UUID> result : results) {
+				ticketIds.add(result.get());
+			}
+			assertThat(ticketIds).hasSize(1);
+		}
+
+		assertThat(purchases).hasValue(1);
+		assertThat(ticketRepository.countByTicketTypeIdAndStatus(ticketTypeId, TicketStatusEnum.PURCHASED)).isEqualTo(1);
+		assertThat(ticketInventory.remaining(eventId, ticketTypeId)).isEqualTo(9);
+	}
+
+	@Test
+	void keysOlderThanTheMemoryWindowAreAnsweredFromTheTable() {
+		UUID buyerId = fixtures.user("buyer");
+		Event event = fixtures.event("Retried checkout", 10);
+		UUID eventId = event.getId();
+		UUID ticketTypeId = event.getTicketTypes().getFirst().getId();
+
+		UUID ticketId = ticketService.purchaseTicketOnce(buyerId, eventId, ticketTypeId, "checkout-2");
+		idempotentPurchases.forgetRecent();
+
+		assertThat(ticketService.purchaseTicketOnce(buyerId, eventId, ticketTypeId, "checkout-2")).isEqualTo(ticketId);
+		assertThat(ticketRepository.countByTicketTypeIdAndStatus(ticketTypeId, TicketStatusEnum.PURCHASED)).isEqualTo(1);
+		assertThat(purchaseIdempotencyKeyRepository.findByUserIdAndIdempotencyKey(buyerId, "checkout-2"))
+				.hasValueSatisfying(key -> assertThat(key.getTicketId()).isEqualTo(ticketId));
+
+		// Keys belong to a buyer; someone else's same key is a new purchase
+		UUID otherTicketId = ticketService.purchaseTicketOnce(fixtures.user("other"), eventId, ticketTypeId, "checkout-2");
+		assertThat(otherTicketId).isNotEqualTo(ticketId);
+	}
+
+	@Test
+	void aKeyCannotBeReusedForAnotherTicketType() {
+		UUID buyerId = fixtures.user("buyer");
+		Event event = fixtures.event("Retried checkout", 10);
+		Event other = fixtures.event("Retried checkout", 10);
+		ticketService.purchaseTicketOnce(buyerId, event.getId(), event.getTicketTypes().getFirst().getId(), "checkout-3");
+
+		assertThatThrownBy(() -> ticketService.purchaseTicketOnce(
+				buyerId, other.getId(), other.getTicketTypes().getFirst().getId(), "checkout-3"))
+				.isInstanceOf(IdempotencyKeyMismatchException.class);
+		idempotentPurchases.forgetRecent();
+		assertThatThrownBy(() -> ticketService.purchaseTicketOnce(
+				buyerId, other.getId(), other.getTicketTypes().getFirst().getId(), "checkout-3"))
+				.isInstanceOf(IdempotencyKeyMismatchException.class);
+		assertThatThrownBy(() -> ticketService.purchaseTicketOnce(
+				buyerId, event.getId(), event.getTicketTypes().getFirst().getId(), " "))
+				.isInstanceOf(InvalidIdempotencyKeyException.class);
+	}
+
+	@Test
+	void failedPurchasesReleaseTheirKey() {
+		UUID buyerId = fixtures.user("buyer");
+		Event event = fixtures.event("Retried checkout", 0);
+		UUID ticketTypeId = event.getTicketTypes().getFirst().getId();
+
+		assertThatThrownBy(() -> ticketService.purchaseTicketOnce(buyerId, event.getId(), ticketTypeId, "checkout-4"))
+				.isInstanceOf(TicketsSoldOutException.class);
+		assertThat(purchaseIdempotencyKeyRepository.findByUserIdAndIdempotencyKey(buyerId, "checkout-4")).isEmpty();
+		assertThatThrownBy(() -> ticketService.purchaseTicketOnce(buyerId, event.getId(), ticketTypeId, "checkout-4"))
+				.isInstanceOf(TicketsSoldOutException.class);
+	}
+}
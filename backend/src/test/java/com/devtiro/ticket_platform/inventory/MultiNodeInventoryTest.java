@@ -0,0 +1,124 @@
+package com.devtiro.ticket_platform.inventory;
+
+import com.devtiro.ticket_platform.Repositories.TicketRepository;
+import com.devtiro.ticket_platform.Repositories.TicketTypeRepository;
+import com.devtiro.ticket_platform.TestFixtures;
+import com.devtiro.ticket_platform.TicketPlatformApplication;
+import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.domain.entities.TicketStatusEnum;
+import com.devtiro.ticket_platform.exceptions.TicketsSoldOutException;
+import com.devtiro.ticket_platform.services.TicketService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Several backends in one JVM, each its own application context with its own
+ * inventory, all selling from one shared database.
+ */
+class MultiNodeInventoryTest {
+	private static final int NODES = 3;
+	private static final int BUYERS_PER_NODE = 4;
+	private static final int STOCK = 2_000;
+	private static final int CHUNK_SIZE = 50;
+
+	private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+	@BeforeEach
+	void startNodes() {
+		String database = "jdbc:h2:mem:nodes-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL";
+		for (int i = 0; i < NODES; i++) {
+			nodes.add(new SpringApplicationBuilder(TicketPlatformApplication.class)
+					.run("--server.port=0",
+							"--spring.datasource.url=" + database,
+							// The first node creates the schema, the others find it in place
+							"--spring.jpa.hibernate.ddl-auto=update",
+							"--spring.jpa.show-sql=false",
+							"--app.inventory.lease.chunk-size=" + CHUNK_SIZE));
+		}
+	}
+
+	@AfterEach
+	void stopNodes() {
+		nodes.forEach(ConfigurableApplicationContext::close);
+	}
+
+	@Test
+	void nodesSellingTheSameTicketTypeNeverOversell() throws Exception {
+		TestFixtures fixtures = new TestFixtures(nodes.getFirst());
+		UUID buyerId = fixtures.user("buyer");
+		Event event = fixtures.event("Shared on-sale", STOCK);
+		UUID eventId = event.getId();
+		UUID ticketTypeId = event.getTicketTypes().getFirst().getId();
+
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Integer>> sales = new ArrayList<>();
+		try (ExecutorService pool = Executors.newFixedThreadPool(NODES * BUYERS_PER_NODE)) {
+			for (int i = 0; i < NODES * BUYERS_PER_NODE; i++) {
+				TicketService ticketService = nodes.get(i % NODES).getBean(TicketService.class);
+				sales.add(pool.submit(() -> {
+					start.await();
+					int sold = 0;
+					try {
+						while (true) {
+							ticketService.purchaseTicket(buyerId, eventId, ticketTypeId);
+							sold++;
+						}
+					} catch (TicketsSoldOutException soldOut) {
+						return sold;
+					}
+				}));
+			}
+			start.countDown();
+			int sold = 0;
+			for (Future<Integer> future : sales) {
+				sold += future.get();
+			}
+			assertThat(sold).isEqualTo(STOCK);
+		}
+
+		TicketRepository ticketRepository = nodes.getFirst().getBean(TicketRepository.class);
+		assertThat(ticketRepository.countByTicketTypeIdAndStatus(ticketTypeId, TicketStatusEnum.PURCHASED))
+				.isEqualTo(STOCK);
+		assertThat(nodes.getFirst().getBean(TicketTypeRepository.class).findUnallocatedById(ticketTypeId))
+				.isZero();
+		// One database write per chunk, not per ticket
+		double leases = nodes.stream()
+				.mapToDouble(node -> node.getBean(MeterRegistry.class).get("inventory.leases").counter().count())
+				.sum();
+		assertThat(leases).isLessThan(STOCK / 10.0);
+	}
+
+	@Test
+	void unsoldLeasesGoBackToThePoolOnShutdown() {
+		TestFixtures fixtures = new TestFixtures(nodes.getFirst());
+		UUID buyerId = fixtures.user("buyer");
+		Event event = fixtures.event("Shared on-sale", STOCK);
+		UUID eventId = event.getId();
+		UUID ticketTypeId = event.getTicketTypes().getFirst().getId();
+		TicketTypeRepository ticketTypeRepository = nodes.getLast().getBean(TicketTypeRepository.class);
+
+		nodes.getFirst().getBean(TicketService.class).purchaseTicket(buyerId, eventId, ticketTypeId);
+		assertThat(ticketTypeRepository.findUnallocatedById(ticketTypeId)).isEqualTo(STOCK - CHUNK_SIZE);
+		// The other nodes cannot see into the first one's lease
+		assertThat(nodes.getLast().getBean(TicketInventory.class).remaining(eventId, ticketTypeId))
+				.isEqualTo(STOCK - CHUNK_SIZE);
+
+		nodes.removeFirst().close();
+
+		assertThat(ticketTypeRepository.findUnallocatedById(ticketTypeId)).isEqualTo(STOCK - 1);
+	}
+}
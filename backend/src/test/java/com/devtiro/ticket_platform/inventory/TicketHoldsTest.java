@@ -0,0 +1,96 @@
+package com.devtiro.ticket_platform.inventory;
+
+import com.devtiro.ticket_platform.Repositories.TicketRepository;
+import com.devtiro.ticket_platform.TestFixtures;
+import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.domain.entities.Ticket;
+import com.devtiro.ticket_platform.domain.entities.TicketStatusEnum;
+import com.devtiro.ticket_platform.exceptions.TicketHoldNotFoundException;
+import com.devtiro.ticket_platform.exceptions.TicketsSoldOutException;
+import com.devtiro.ticket_platform.services.TicketService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {"app.holds.ttl=1s", "app.holds.tick=10ms"})
+class TicketHoldsTest {
+	private static final int STOCK = 5;
+
+	@Autowired
+	private TicketService ticketService;
+	@Autowired
+	private TicketInventory ticketInventory;
+	@Autowired
+	private TicketRepository ticketRepository;
+	@Autowired
+	private ApplicationContext context;
+	private TestFixtures fixtures;
+
+	@BeforeEach
+	void createFixtures() {
+		fixtures = new TestFixtures(context);
+	}
+
+	@Test
+	void heldTicketsGoBackOnSaleWhenTheHoldExpiresOrIsReleased() throws Exception {
+		UUID buyerId = fixtures.user("buyer");
+		Event event = fixtures.event("Checkout", STOCK);
+		UUID eventId = event.getId();
+		UUID ticketTypeId = event.getTicketTypes().getFirst().getId();
+
+		TicketHold expiring = ticketService.holdTickets(buyerId, eventId, ticketTypeId, 3);
+		assertThat(ticketInventory.remaining(eventId, ticketTypeId)).isEqualTo(2);
+
+		// All or nothing: a hold bigger than what is left takes nothing
+		assertThatThrownBy(() -> ticketService.holdTickets(buyerId, eventId, ticketTypeId, 3))
+				.isInstanceOf(TicketsSoldOutException.class);
+		assertThat(ticketInventory.remaining(eventId, ticketTypeId)).isEqualTo(2);
+
+		TicketHold released = ticketService.holdTickets(buyerId, eventId, ticketTypeId, 2);
+		assertThat(ticketInventory.remaining(eventId, ticketTypeId)).isZero();
+		ticketService.releaseHold(buyerId, released.getId());
+		assertThat(ticketInventory.remaining(eventId, ticketTypeId)).isEqualTo(2);
+
+		long deadline = System.currentTimeMillis() + 5_000;
+		while (expiring.getState() == TicketHold.State.HELD && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		assertThat(expiring.getState()).isEqualTo(TicketHold.State.EXPIRED);
+		assertThat(ticketInventory.remaining(eventId, ticketTypeId)).isEqualTo(STOCK);
+		assertThatThrownBy(() -> ticketService.confirmHold(buyerId, expiring.getId()))
+				.isInstanceOf(TicketHoldNotFoundException.class);
+		assertThatThrownBy(() -> ticketService.releaseHold(buyerId, released.getId()))
+				.isInstanceOf(TicketHoldNotFoundException.class);
+		assertThat(ticketRepository.countByTicketTypeIdAndStatus(ticketTypeId, TicketStatusEnum.PURCHASED)).isZero();
+	}
+
+	@Test
+	void confirmingAHoldIssuesItsTicketsOnce() {
+		UUID buyerId = fixtures.user("buyer");
+		UUID otherId = fixtures.user("other");
+		Event event = fixtures.event("Checkout", STOCK);
+		UUID eventId = event.getId();
+		UUID ticketTypeId = event.getTicketTypes().getFirst().getId();
+		TicketHold hold = ticketService.holdTickets(buyerId, eventId, ticketTypeId, 2);
+
+		assertThatThrownBy(() -> ticketService.confirmHold(otherId, hold.getId()))
+				.isInstanceOf(TicketHoldNotFoundException.class);
+		List<Ticket> tickets = ticketService.confirmHold(buyerId, hold.getId());
+
+		assertThat(tickets).hasSize(2);
+		assertThat(tickets).allSatisfy(ticket -> assertThat(ticket.getTicketType().getId()).isEqualTo(ticketTypeId));
+		assertThat(hold.getState()).isEqualTo(TicketHold.State.CONFIRMED);
+		assertThat(ticketRepository.countByTicketTypeIdAndStatus(ticketTypeId, TicketStatusEnum.PURCHASED)).isEqualTo(2);
+		assertThat(ticketInventory.remaining(eventId, ticketTypeId)).isEqualTo(STOCK - 2);
+		assertThatThrownBy(() -> ticketService.confirmHold(buyerId, hold.getId()))
+				.isInstanceOf(TicketHoldNotFoundException.class);
+	}
+}
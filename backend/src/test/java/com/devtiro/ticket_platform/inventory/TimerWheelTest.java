@@ -0,0 +1,128 @@
+package com.devtiro.ticket_platform.inventory;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimerWheelTest {
+	private static final int HOLDS = 2_000_000;
+	private static final int THREADS = 4;
+	private static final Duration TICK = Duration.ofMillis(10);
+
+	@Test
+	void everyTimerFiresOnItsOwnTickAcrossAllLevels() {
+		// One-nanosecond ticks, driven by hand, so each deadline maps to exactly one advance
+		List<Probe> fired = new ArrayList<>();
+		TimerWheel<Probe> wheel = new TimerWheel<>(Duration.ofNanos(1), 0, fired::add);
+		SplittableRandom random = new SplittableRandom(42);
+		int timers = 100_000;
+		long horizon = 1L << 25;
+		for (int i = 0; i < timers; i++) {
+			Probe probe = new Probe(random.nextLong(1, horizon));
+			wheel.schedule(probe, probe.deadline);
+		}
+		// Boundaries where a cascade and an expiry fall on the same tick
+		for (long deadline : new long[] {256, 257, 65_536, 65_537, 1L << 24}) {
+			wheel.schedule(new Probe(deadline), deadline);
+		}
+
+		for (long now = 0; now < horizon; now++) {
+			int before = fired.size();
+			wheel.advance(now);
+			for (int i = before; i < fired.size(); i++) {
+				assertThat(fired.get(i).deadline).isEqualTo(now);
+			}
+		}
+		assertThat(fired).hasSize(timers + 5);
+	}
+
+	@Test
+	void timersScheduledInThePastFireOnTheNextAdvance() {
+		List<Probe> fired = new ArrayList<>();
+		TimerWheel<Probe> wheel = new TimerWheel<>(Duration.ofNanos(1), 0, fired::add);
+		wheel.advance(1_000);
+
+		wheel.schedule(new Probe(10), 10);
+
+		assertThat(wheel.advance(1_000)).isEqualTo(1);
+		assertThat(fired).hasSize(1);
+	}
+
+	@Test
+	void millionsOfHoldsExpireOnTimeWithBoundedCpu() throws Exception {
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		AtomicLong expired = new AtomicLong();
+		long[] worstLateness = new long[1];
+		long[] earliest = {Long.MAX_VALUE};
+		CountDownLatch allExpired = new CountDownLatch(1);
+		TimerWheel<Probe> wheel = new TimerWheel<>(TICK, System.nanoTime(), probe -> {
+			// Runs on the wheel thread only
+			long lateness = System.nanoTime() - probe.deadline;
+			worstLateness[0] = Math.max(worstLateness[0], lateness);
+			earliest[0] = Math.min(earliest[0], lateness);
+			if (expired.incrementAndGet() == HOLDS) {
+				allExpired.countDown();
+			}
+		});
+		wheel.start("timer-wheel-test");
+		Thread wheelThread = Thread.getAllStackTraces().keySet().stream()
+				.filter(thread -> thread.getName().equals("timer-wheel-test"))
+				.findFirst().orElseThrow();
+		try {
+			// Holds taken in a burst, each lasting 2 to 4 seconds
+			List<Future<?>> futures = new ArrayList<>();
+			try (ExecutorService pool = Executors.newFixedThreadPool(THREADS)) {
+				for (int t = 0; t < THREADS; t++) {
+					long seed = t;
+					futures.add(pool.submit(() -> {
+						SplittableRandom random = new SplittableRandom(seed);
+						for (int i = 0; i < HOLDS / THREADS; i++) {
+							Probe probe = new Probe(System.nanoTime()
+									+ TimeUnit.MILLISECONDS.toNanos(random.nextLong(2_000, 4_000)));
+							wheel.schedule(probe, probe.deadline);
+						}
+					}));
+				}
+				for (Future<?> future : futures) {
+					future.get();
+				}
+			}
+
+			assertThat(allExpired.await(30, TimeUnit.SECONDS)).isTrue();
+			long busyCpu = threads.getThreadCpuTime(wheelThread.threadId());
+
+			assertThat(earliest[0]).isGreaterThanOrEqualTo(0);
+			// Up to a tick from rounding, plus scheduling noise on a shared machine
+			assertThat(worstLateness[0]).isLessThan(TICK.toNanos() + TimeUnit.MILLISECONDS.toNanos(250));
+			assertThat(busyCpu / HOLDS).isLessThan(1_000);
+
+			// Idle, with nothing pending, the wheel costs next to nothing
+			Thread.sleep(1_000);
+			long idleCpu = threads.getThreadCpuTime(wheelThread.threadId()) - busyCpu;
+			assertThat(idleCpu).isLessThan(TimeUnit.MILLISECONDS.toNanos(50));
+		} finally {
+			wheel.stop();
+		}
+	}
+
+	private static final class Probe extends TimerWheel.Timer {
+		private final long deadline;
+
+		private Probe(long deadline) {
+			this.deadline = deadline;
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package com.devtiro.ticket_platform.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Tests switch metrics export off unless asked
+@AutoConfigureObservability(tracing = false)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class HotPathMetricsTest {
+
+	@LocalServerPort
+	private int port;
+
+	@Test
+	void requestsServicesAndRepositoriesAreScrapedAsHistograms() throws Exception {
+		try (HttpClient client = HttpClient.newHttpClient()) {
+			assertThat(get(client, "/api/v1/events").statusCode()).isEqualTo(200);
+			assertThat(get(client, "/api/v1/events/" + UUID.randomUUID() + "/sales").statusCode()).isEqualTo(400);
+
+			HttpResponse<String> scrape = get(client, "/actuator/prometheus");
+			assertThat(scrape.statusCode()).isEqualTo(200);
+			List<String> lines = scrape.body().lines().toList();
+
+			assertThat(sample(lines, "http_server_requests_seconds_bucket{", "le=\"+Inf\"", "uri=\"/api/v1/events\""))
+					.isPositive();
+			assertThat(sample(lines, "service_invocations_seconds_bucket{", "le=\"+Inf\"",
+					"exception=\"none\"", "method=\"listEventsForOrganizer\"", "service=\"EventService\""))
+					.isPositive();
+			assertThat(sample(lines, "service_invocations_seconds_count{",
+					"exception=\"EventNotFoundException\"", "method=\"getSalesSummaryForOrganizer\""))
+					.isEqualTo(1);
+			assertThat(sample(lines, "spring_data_repository_invocations_seconds_bucket{", "le=\"+Inf\"",
+					"repository=\"EventRepository\""))
+					.isPositive();
+			assertThat(sample(lines, "hikaricp_connections_acquire_seconds_bucket{", "le=\"+Inf\"")).isPositive();
+			assertThat(sample(lines, "hikaricp_connections_pending{")).isNotNegative();
+			// The page of events and its count
+			assertThat(sample(lines, "hibernate_request_statements_sum{", "method=\"GET\"", "uri=\"/api/v1/events\""))
+					.isGreaterThanOrEqualTo(2);
+			assertThat(sample(lines, "hibernate_request_entity_loads_count{", "uri=\"/api/v1/events\""))
+					.isEqualTo(1);
+			assertThat(sample(lines, "cache_gets_total{", "result=\"hit\"")).isNotNegative();
+		}
+	}
+
+	private HttpResponse<String> get(HttpClient client, String path) throws Exception {
+		return client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build(),
+				HttpResponse.BodyHandlers.ofString());
+	}
+
+	/**
+	 * Value of the first sample of the metric carrying all the labels.
+	 */
+	private static double sample(List<String> lines, String metric, String... labels) {
+		return lines.stream()
+				.filter(line -> line.startsWith(metric))
+				.filter(line -> List.of(labels).stream().allMatch(line::contains))
+				.findFirst()
+				.map(line -> Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1)))
+				.orElseThrow(() -> new AssertionError("No " + metric + " sample with " + List.of(labels)));
+	}
+}
@@ -0,0 +1,196 @@
+package com.devtiro.ticket_platform.outbox;
+
+import com.devtiro.ticket_platform.domain.events.TicketPurchasedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class OutboxRelayTest {
+	private static final int PRODUCERS = 4;
+	private static final int EVENTS_PER_SECOND = 20_000;
+	private static final int SECONDS = 5;
+	private static final int PER_TRANSACTION = 100;
+
+	@TestConfiguration
+	static class Subscriber {
+		@Bean
+		RecordingSubscriber recordingSubscriber() {
+			return new RecordingSubscriber();
+		}
+	}
+
+	static class RecordingSubscriber implements OutboxSubscriber {
+		private final Map<UUID, Queue<Received>> received = new ConcurrentHashMap<>();
+
+		@Override
+		public void onOutboxMessages(List<OutboxMessage> messages) {
+			for (OutboxMessage message : messages) {
+				for (TicketPurchasedEvent purchase : message.events(TicketPurchasedEvent.class)) {
+					received.computeIfAbsent(purchase.purchaserId(), id -> new ConcurrentLinkedQueue<>())
+							.add(new Received(message, purchase));
+				}
+			}
+		}
+
+		List<Received> received(UUID run) {
+			return List.copyOf(received.getOrDefault(run, new ConcurrentLinkedQueue<>()));
+		}
+	}
+
+	record Received(OutboxMessage message, TicketPurchasedEvent purchase) {
+	}
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	@Autowired
+	private RecordingSubscriber subscriber;
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void relaysTwentyThousandEventsASecondInOrder() throws Exception {
+		// A first run warms up the JIT, so the second one measures the relay
+		UUID warmUp = UUID.randomUUID();
+		int warmUpEvents = produce(warmUp, 4);
+		awaitDelivery(warmUp, warmUpEvents);
+
+		UUID run = UUID.randomUUID();
+		long started = System.nanoTime();
+		int produced = produce(run, SECONDS);
+		double producedIn = (System.nanoTime() - started) / 1e9;
+		// Producers kept up with the target rate
+		assertThat(producedIn).isLessThan(SECONDS * 1.2);
+
+		awaitDelivery(run, produced);
+		double deliveredIn = (System.nanoTime() - started) / 1e9;
+		List<Received> received = subscriber.received(run);
+		assertThat(received.size()).isEqualTo(produced);
+		assertThat(produced / deliveredIn).isGreaterThan(EVENTS_PER_SECOND * 0.8);
+
+		Map<Integer, Long> lastIdByPartition = new HashMap<>();
+		Map<UUID, Integer> partitionByEvent = new HashMap<>();
+		Set<Long> entryIds = new HashSet<>();
+		for (Received purchase : received) {
+			OutboxMessage message = purchase.message();
+			Long last = lastIdByPartition.put(message.partition(), message.id());
+			assertThat(last == null || last <= message.id()).isTrue();
+			assertThat(partitionByEvent.computeIfAbsent(purchase.purchase().eventId(), id -> message.partition()))
+					.isEqualTo(message.partition());
+			assertThat(message.local()).isTrue();
+			entryIds.add(message.id());
+		}
+		assertThat(lastIdByPartition).hasSize(4);
+		// A transaction writes a row per partition, not per event
+		assertThat(entryIds.size()).isLessThanOrEqualTo(produced / PER_TRANSACTION * 4);
+		assertThat(meterRegistry.get("outbox.lag").timer().max(TimeUnit.MILLISECONDS)).isLessThan(2_000);
+	}
+
+	@Test
+	void rolledBackChangesAreNeverRelayed() throws Exception {
+		UUID run = UUID.randomUUID();
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		transaction.executeWithoutResult(status -> {
+			eventPublisher.publishEvent(purchase(run));
+			status.setRollbackOnly();
+		});
+		TicketPurchasedEvent committed = purchase(run);
+		transaction.executeWithoutResult(status -> eventPublisher.publishEvent(committed));
+
+		awaitDelivery(run, 1);
+		// Relayed in order, so the rolled back one would have come first
+		Thread.sleep(200);
+		assertThat(subscriber.received(run)).extracting(Received::purchase).containsExactly(committed);
+	}
+
+	@Test
+	void eventsOutsideATransactionAreRefused() {
+		assertThatThrownBy(() -> eventPublisher.publishEvent(purchase(UUID.randomUUID())))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	/**
+	 * Publishes purchases at {@code EVENTS_PER_SECOND} for {@code seconds},
+	 * a transaction of {@code PER_TRANSACTION} at a time, spread over a
+	 * thousand events and so over every partition. Runs are told apart by
+	 * purchaser.
+	 */
+	private int produce(UUID run, int seconds) throws Exception {
+		UUID ticketTypeId = UUID.randomUUID();
+		List<UUID> eventIds = new ArrayList<>();
+		for (int i = 0; i < 1_000; i++) {
+			eventIds.add(UUID.randomUUID());
+		}
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		int transactionsPerProducer = EVENTS_PER_SECOND * seconds / PER_TRANSACTION / PRODUCERS;
+		long intervalNanos = TimeUnit.SECONDS.toNanos(seconds) / transactionsPerProducer;
+
+		List<Future<?>> producers = new ArrayList<>();
+		try (ExecutorService pool = Executors.newFixedThreadPool(PRODUCERS)) {
+			for (int p = 0; p < PRODUCERS; p++) {
+				producers.add(pool.submit(() -> {
+					long next = System.nanoTime();
+					for (int t = 0; t < transactionsPerProducer; t++) {
+						LockSupport.parkNanos(next - System.nanoTime());
+						next += intervalNanos;
+						transaction.executeWithoutResult(status -> {
+							ThreadLocalRandom random = ThreadLocalRandom.current();
+							LocalDateTime now = LocalDateTime.now();
+							for (int i = 0; i < PER_TRANSACTION; i++) {
+								UUID eventId = eventIds.get(random.nextInt(eventIds.size()));
+								// Cheap ids, UUID.randomUUID() would have the producers queue on SecureRandom
+								eventPublisher.publishEvent(new TicketPurchasedEvent(
+										new UUID(random.nextLong(), random.nextLong()), eventId, ticketTypeId, run, now));
+							}
+						});
+					}
+					return null;
+				}));
+			}
+			for (Future<?> producer : producers) {
+				producer.get();
+			}
+		}
+		return transactionsPerProducer * PRODUCERS * PER_TRANSACTION;
+	}
+
+	private void awaitDelivery(UUID run, int count) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (subscriber.received(run).size() < count && System.nanoTime() < deadline) {
+			Thread.sleep(20);
+		}
+	}
+
+	private static TicketPurchasedEvent purchase(UUID run) {
+		return new TicketPurchasedEvent(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), run, LocalDateTime.now());
+	}
+}
@@ -0,0 +1,120 @@
+package com.devtiro.ticket_platform.push;
+
+import com.devtiro.ticket_platform.Repositories.UserRepository;
+import com.devtiro.ticket_platform.domain.CreateEventRequest;
+import com.devtiro.ticket_platform.domain.CreateTicketTypeRequest;
+import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.domain.entities.EventStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.User;
+import com.devtiro.ticket_platform.services.EventService;
+import com.devtiro.ticket_platform.services.TicketService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// One snapshot a second, so a burst of purchases reliably lands in one or two ticks
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = "app.inventory.push.updates-per-second=1")
+class AvailabilityStreamTest {
+
+	@LocalServerPort
+	private int port;
+	@Autowired
+	private EventService eventService;
+	@Autowired
+	private TicketService ticketService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	@Timeout(30)
+	void streamsCurrentStockThenCoalescedChanges() throws Exception {
+		User buyer = user();
+		Event event = eventService.createEvent(buyer.getId(), new CreateEventRequest(
+				"Live", null, null, "Hall", null, null, EventStatusEnum.PUBLISHED,
+				List.of(new CreateTicketTypeRequest("General", 10.0, null, 100))));
+		UUID ticketTypeId = event.getTicketTypes().get(0).getId();
+
+		try (HttpClient client = HttpClient.newHttpClient()) {
+			HttpResponse<Stream<String>> response = client.send(
+					HttpRequest.newBuilder(availability(event.getId())).build(),
+					HttpResponse.BodyHandlers.ofLines());
+			assertThat(response.statusCode()).isEqualTo(200);
+			assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+					contentType -> assertThat(contentType).startsWith("text/event-stream"));
+
+			// Closing the lines cancels the stream, which never ends on its own
+			try (Stream<String> body = response.body()) {
+				Iterator<String> lines = body.iterator();
+				JsonNode first = nextSnapshot(lines);
+				assertThat(first.path("eventId").asText()).isEqualTo(event.getId().toString());
+				assertThat(first.path("ticketTypes").path(0).path("id").asText()).isEqualTo(ticketTypeId.toString());
+				assertThat(remaining(first)).isEqualTo(100);
+
+				for (int i = 0; i < 5; i++) {
+					ticketService.purchaseTicket(buyer.getId(), event.getId(), ticketTypeId);
+				}
+				int messages = 0;
+				long remaining;
+				do {
+					remaining = remaining(nextSnapshot(lines));
+					messages++;
+				} while (remaining > 95);
+				assertThat(remaining).isEqualTo(95);
+				assertThat(messages).isLessThanOrEqualTo(2);
+			}
+		}
+	}
+
+	@Test
+	void unknownEventIsNotFound() throws Exception {
+		try (HttpClient client = HttpClient.newHttpClient()) {
+			HttpResponse<Void> response = client.send(
+					HttpRequest.newBuilder(availability(UUID.randomUUID())).build(),
+					HttpResponse.BodyHandlers.discarding());
+			assertThat(response.statusCode()).isEqualTo(404);
+		}
+	}
+
+	private URI availability(UUID eventId) {
+		return URI.create("http://localhost:" + port + "/api/v1/published-events/" + eventId + "/availability");
+	}
+
+	private JsonNode nextSnapshot(Iterator<String> lines) throws Exception {
+		while (true) {
+			String line = lines.next();
+			if (line.startsWith("data: ")) {
+				return objectMapper.readTree(line.substring("data: ".length()));
+			}
+		}
+	}
+
+	private static long remaining(JsonNode snapshot) {
+		return snapshot.path("ticketTypes").path(0).path("remaining").asLong();
+	}
+
+	private User user() {
+		User user = new User();
+		user.setId(UUID.randomUUID());
+		user.setName("watcher");
+		user.setEmail("watcher@example.com");
+		return userRepository.save(user);
+	}
+}
@@ -0,0 +1,85 @@
+package com.devtiro.ticket_platform.qrcode;
+
+import com.google.zxing.BinaryBitmap;
+import com.google.zxing.RGBLuminanceSource;
+import com.google.zxing.common.HybridBinarizer;
+import com.google.zxing.qrcode.QRCodeReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QrCodeImageStoreTest {
+	@TempDir
+	Path directory;
+
+	private QrCodeImageStore store;
+
+	@BeforeEach
+	void setUp() {
+		store = new QrCodeImageStore(directory, 300, 1, 16);
+	}
+
+	@AfterEach
+	void tearDown() {
+		store.close();
+	}
+
+	@Test
+	void imageDecodesBackToTheValue() throws Exception {
+		QrCodeImage image = store.get("ticket-value-1");
+
+		assertThat(image.path()).startsWith(directory).hasExtension("png");
+		assertThat(image.length()).isEqualTo(Files.size(image.path()));
+		assertThat(decode(image.path())).isEqualTo("ticket-value-1");
+	}
+
+	@Test
+	void sameValueMapsToTheSameFile() {
+		QrCodeImage first = store.get("ticket-value-2");
+		QrCodeImage second = store.get("ticket-value-2");
+		QrCodeImage other = store.get("ticket-value-3");
+
+		assertThat(second).isEqualTo(first);
+		assertThat(other.etag()).isNotEqualTo(first.etag());
+		assertThat(other.path()).isNotEqualTo(first.path());
+	}
+
+	@Test
+	void prerenderWritesTheImageAheadOfTheFirstFetch() throws Exception {
+		store.prerender("ticket-value-4");
+
+		Instant deadline = Instant.now().plus(Duration.ofSeconds(5));
+		List<Path> rendered = pngFiles();
+		while (rendered.isEmpty() && Instant.now().isBefore(deadline)) {
+			Thread.sleep(10);
+			rendered = pngFiles();
+		}
+
+		assertThat(rendered).containsExactly(store.get("ticket-value-4").path());
+	}
+
+	private List<Path> pngFiles() throws Exception {
+		try (Stream<Path> files = Files.walk(directory)) {
+			return files.filter(file -> file.toString().endsWith(".png")).toList();
+		}
+	}
+
+	private static String decode(Path path) throws Exception {
+		BufferedImage image = ImageIO.read(path.toFile());
+		int[] pixels = image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+		RGBLuminanceSource source = new RGBLuminanceSource(image.getWidth(), image.getHeight(), pixels);
+		return new QRCodeReader().decode(new BinaryBitmap(new HybridBinarizer(source))).getText();
+	}
+}
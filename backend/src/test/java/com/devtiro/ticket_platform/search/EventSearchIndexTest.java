@@ -0,0 +1,102 @@
+package com.devtiro.ticket_platform.search;
+
+import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.domain.entities.TicketType;
+import com.devtiro.ticket_platform.exceptions.InvalidSearchPageException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventSearchIndexTest {
+	private final EventSearchIndex index = new EventSearchIndex();
+
+	@AfterEach
+	void close() throws IOException {
+		index.close();
+	}
+
+	@Test
+	void ranksNameMatchesAboveTicketTypeMatches() {
+		Event byTicketType = event("Summer Festival", "Riverside Park", "Jazz Lounge pass");
+		Event byName = event("Jazz Night", "Blue Room", "General");
+		index.index(byTicketType);
+		index.index(byName);
+		index.refresh();
+
+		Page<UUID> results = index.search("jazz", PageRequest.of(0, 10));
+
+		assertThat(results.getContent()).containsExactly(byName.getId(), byTicketType.getId());
+		assertThat(results.getTotalElements()).isEqualTo(2);
+	}
+
+	@Test
+	void appliesUpdatesAndRemovalsIncrementally() {
+		Event event = event("Rock Concert", "Stadium", "Floor");
+		index.index(event);
+		index.refresh();
+
+		event.setName("Opera Gala");
+		index.index(event);
+		index.refresh();
+		assertThat(index.search("rock", PageRequest.of(0, 10))).isEmpty();
+		assertThat(index.search("opera", PageRequest.of(0, 10)).getContent()).containsExactly(event.getId());
+
+		index.remove(event.getId());
+		index.refresh();
+		assertThat(index.search("opera", PageRequest.of(0, 10))).isEmpty();
+	}
+
+	@Test
+	void paginatesResults() {
+		for (int i = 0; i < 25; i++) {
+			index.index(event("Comedy Show " + i, "Club", "Seat"));
+		}
+		index.refresh();
+
+		Page<UUID> lastPage = index.search("comedy", PageRequest.of(2, 10));
+
+		assertThat(lastPage.getContent()).hasSize(5);
+		assertThat(lastPage.getTotalElements()).isEqualTo(25);
+	}
+
+	@Test
+	void rejectsPagesPastTheResultWindow() {
+		index.index(event("Comedy Show", "Club", "Seat"));
+		index.refresh();
+
+		assertThat(index.search("comedy", PageRequest.of(499, 20))).isEmpty();
+		assertThatThrownBy(() -> index.search("comedy", PageRequest.of(500, 20)))
+				.isInstanceOf(InvalidSearchPageException.class);
+		// Far enough that the offset no longer fits in an int
+		assertThatThrownBy(() -> index.search("comedy", PageRequest.of(Integer.MAX_VALUE / 10, 20)))
+				.isInstanceOf(InvalidSearchPageException.class);
+	}
+
+	@Test
+	void treatsQuerySyntaxAsPlainText() {
+		index.index(event("AC/DC Tribute", "Hall", "General"));
+		index.refresh();
+
+		assertThat(index.search("AC/DC (tribute", PageRequest.of(0, 10))).hasSize(1);
+	}
+
+	private static Event event(String name, String venue, String ticketTypeName) {
+		Event event = new Event();
+		event.setId(UUID.randomUUID());
+		event.setName(name);
+		event.setVenue(venue);
+		TicketType ticketType = new TicketType();
+		ticketType.setName(ticketTypeName);
+		event.setTicketTypes(new ArrayList<>(List.of(ticketType)));
+		return event;
+	}
+}
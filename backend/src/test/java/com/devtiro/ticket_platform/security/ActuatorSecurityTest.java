@@ -0,0 +1,58 @@
+package com.devtiro.ticket_platform.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Security on, as outside dev; the issuer is never contacted as no request carries a token
+@AutoConfigureObservability(tracing = false)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"app.dev.disable-security=false",
+		"spring.security.oauth2.resourceserver.jwt.issuer-uri=http://127.0.0.1:1/realms/none",
+		"app.metrics.scrape.username=scraper",
+		"app.metrics.scrape.password=scrape-secret"})
+class ActuatorSecurityTest {
+
+	@LocalServerPort
+	private int port;
+
+	@Test
+	void healthIsOpenAndPrometheusTakesOnlyTheScrapeCredentials() throws Exception {
+		try (HttpClient client = HttpClient.newHttpClient()) {
+			assertThat(get(client, "/actuator/health", null).statusCode()).isEqualTo(200);
+
+			assertThat(get(client, "/actuator/prometheus", null).statusCode()).isEqualTo(401);
+			assertThat(get(client, "/actuator/prometheus", basic("scraper", "wrong")).statusCode()).isEqualTo(401);
+			HttpResponse<String> scrape = get(client, "/actuator/prometheus", basic("scraper", "scrape-secret"));
+			assertThat(scrape.statusCode()).isEqualTo(200);
+			assertThat(scrape.body()).contains("jvm_memory_used_bytes");
+
+			// The scrape credentials open nothing else
+			assertThat(get(client, "/actuator/metrics", basic("scraper", "scrape-secret")).statusCode()).isEqualTo(401);
+			assertThat(get(client, "/api/v1/events", basic("scraper", "scrape-secret")).statusCode()).isEqualTo(401);
+		}
+	}
+
+	private HttpResponse<String> get(HttpClient client, String path, String authorization) throws Exception {
+		HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+		if (authorization != null) {
+			request.header("Authorization", authorization);
+		}
+		return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+	}
+
+	private static String basic(String username, String password) {
+		return "Basic " + Base64.getEncoder().encodeToString(
+				(username + ":" + password).getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,106 @@
+package com.devtiro.ticket_platform.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingJwtDecoderTest {
+	private final TestClock clock = new TestClock();
+	private final AtomicInteger verifications = new AtomicInteger();
+
+	@Test
+	void repeatedTokenIsVerifiedOnce() {
+		JwtDecoder decoder = decoder(token -> jwt(token, Duration.ofMinutes(2)), Duration.ofMinutes(5));
+
+		Jwt first = decoder.decode("token-a");
+		Jwt second = decoder.decode("token-a");
+		decoder.decode("token-b");
+
+		assertThat(second).isSameAs(first);
+		assertThat(verifications).hasValue(2);
+	}
+
+	@Test
+	void entryLastsUntilTheTokenExpiresOrMaxTtl() {
+		JwtDecoder decoder = decoder(token -> jwt(token, Duration.ofMinutes(token.equals("short") ? 2 : 60)),
+				Duration.ofMinutes(5));
+		decoder.decode("short");
+		decoder.decode("long");
+
+		clock.advance(Duration.ofSeconds(119));
+		decoder.decode("short");
+		decoder.decode("long");
+		assertThat(verifications).hasValue(2);
+
+		clock.advance(Duration.ofSeconds(2));
+		decoder.decode("short");
+		assertThat(verifications).hasValue(3);
+
+		clock.advance(Duration.ofMinutes(3));
+		decoder.decode("long");
+		assertThat(verifications).hasValue(4);
+	}
+
+	@Test
+	void rejectedTokensAreNotCached() {
+		JwtDecoder decoder = decoder(token -> {
+			throw new BadJwtException("bad signature");
+		}, Duration.ofMinutes(5));
+
+		for (int i = 0; i < 2; i++) {
+			assertThatThrownBy(() -> decoder.decode("forged")).isInstanceOf(BadJwtException.class);
+		}
+		assertThat(verifications).hasValue(2);
+	}
+
+	private JwtDecoder decoder(JwtDecoder verifying, Duration maxTtl) {
+		JwtDecoder counting = token -> {
+			verifications.incrementAndGet();
+			return verifying.decode(token);
+		};
+		return new CachingJwtDecoder(counting, 100, maxTtl, () -> clock.millis() * 1_000_000, clock);
+	}
+
+	private Jwt jwt(String token, Duration ttl) {
+		return Jwt.withTokenValue(token)
+				.header("alg", "RS256")
+				.subject("11111111-1111-1111-1111-111111111111")
+				.issuedAt(clock.instant())
+				.expiresAt(clock.instant().plus(ttl))
+				.build();
+	}
+
+	private static final class TestClock extends Clock {
+		private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package com.devtiro.ticket_platform.services;
+
+import com.devtiro.ticket_platform.Repositories.EventRepository;
+import com.devtiro.ticket_platform.Repositories.UserRepository;
+import com.devtiro.ticket_platform.domain.AttendeeExportFormatEnum;
+import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.domain.entities.EventStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.TicketType;
+import com.devtiro.ticket_platform.domain.entities.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Own database, dropped with the context afterwards; deleting a million rows takes longer than inserting them
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:attendee-export;DB_CLOSE_DELAY=-1")
+@DirtiesContext
+class AttendeeExportMemoryTest {
+	private static final int TICKETS = 1_000_000;
+
+	@Autowired
+	private AttendeeExportService attendeeExportService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private EventRepository eventRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void aMillionTicketsExportInConstantMemory() throws Exception {
+		User organizer = new User();
+		organizer.setId(UUID.randomUUID());
+		organizer.setName("Stadium organizer");
+		organizer.setEmail("stadium-organizer@example.com");
+		userRepository.save(organizer);
+		Event event = event(organizer);
+		jdbcTemplate.update("INSERT INTO tickets (id, status, ticket_type_id, purchaser_id, created_at, updated_at)"
+				+ " SELECT RANDOM_UUID(), 'PURCHASED', ?, ?, LOCALTIMESTAMP, LOCALTIMESTAMP FROM SYSTEM_RANGE(1, ?)",
+				event.getTicketTypes().get(0).getId(), organizer.getId(), TICKETS);
+
+		HeapSampler output = new HeapSampler(TICKETS / 4, 3 * TICKETS / 4);
+		long rows = attendeeExportService.exportAttendees(
+				organizer.getId(), event.getId(), AttendeeExportFormatEnum.CSV, () -> output);
+
+		assertThat(rows).isEqualTo(TICKETS);
+		assertThat(output.lines).isEqualTo(TICKETS + 1);
+		// Holding on to the half million rows in between would take well over 100MB
+		assertThat(output.heapGrowth).isLessThan(16L * 1024 * 1024);
+	}
+
+	private Event event(User organizer) {
+		Event event = new Event();
+		event.setName("Stadium show");
+		event.setVenue("Stadium");
+		event.setStatus(EventStatusEnum.PUBLISHED);
+		event.setOrganizer(organizer);
+		TicketType ticketType = new TicketType();
+		ticketType.setName("General");
+		ticketType.setPrice(10.0);
+		ticketType.setTotalAvailable(TICKETS);
+		ticketType.setEvent(event);
+		event.setTicketTypes(new ArrayList<>(List.of(ticketType)));
+		return eventRepository.save(event);
+	}
+
+	/**
+	 * Discards the export, measuring live heap after a full GC when line
+	 * {@code from} goes by and again at line {@code to}.
+	 */
+	private static class HeapSampler extends OutputStream {
+		private final long from;
+		private final long to;
+		private long lines;
+		private long heapAtFrom;
+		private long heapGrowth;
+
+		HeapSampler(long from, long to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		public void write(int b) {
+			write(new byte[] {(byte) b}, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) {
+			for (int i = offset; i < offset + length; i++) {
+				if (bytes[i] != '\n') {
+					continue;
+				}
+				if (++lines == from) {
+					heapAtFrom = liveHeap();
+				} else if (lines == to) {
+					heapGrowth = liveHeap() - heapAtFrom;
+				}
+			}
+		}
+
+		private static long liveHeap() {
+			System.gc();
+			return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+		}
+	}
+}
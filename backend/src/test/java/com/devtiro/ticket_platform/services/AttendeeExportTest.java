@@ -0,0 +1,105 @@
+package com.devtiro.ticket_platform.services;
+
+import com.devtiro.ticket_platform.Repositories.EventRepository;
+import com.devtiro.ticket_platform.Repositories.UserRepository;
+import com.devtiro.ticket_platform.domain.AttendeeExportFormatEnum;
+import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.domain.entities.EventStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.Ticket;
+import com.devtiro.ticket_platform.domain.entities.TicketType;
+import com.devtiro.ticket_platform.domain.entities.TicketValidationMethod;
+import com.devtiro.ticket_platform.domain.entities.User;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class AttendeeExportTest {
+	@Autowired
+	private AttendeeExportService attendeeExportService;
+	@Autowired
+	private TicketService ticketService;
+	@Autowired
+	private TicketValidationService ticketValidationService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private EventRepository eventRepository;
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void csvHasOneQuotedRowPerTicketWithItsCheckIn() throws Exception {
+		User organizer = user("Export organizer", "export-organizer@example.com");
+		Event event = event(organizer);
+		UUID ticketTypeId = event.getTicketTypes().get(0).getId();
+		Ticket checkedIn = ticketService.purchaseTicket(
+				user("Doe, \"JD\"", "jd@example.com").getId(), event.getId(), ticketTypeId);
+		ticketService.purchaseTicket(user("=1+1", "formula@example.com").getId(), event.getId(), ticketTypeId);
+		ticketValidationService.validateTicket(organizer.getId(), checkedIn.getId().toString(), TicketValidationMethod.MANUAL);
+
+		ByteArrayOutputStream csv = new ByteArrayOutputStream();
+		long rows = attendeeExportService.exportAttendees(
+				organizer.getId(), event.getId(), AttendeeExportFormatEnum.CSV, () -> csv);
+
+		assertThat(rows).isEqualTo(2);
+		String[] lines = csv.toString(StandardCharsets.UTF_8).split("\r\n");
+		assertThat(lines).hasSize(3);
+		assertThat(lines[0]).startsWith("ticket_id,status,ticket_type,price,purchaser_id,purchaser_name,");
+		assertThat(lines).anySatisfy(line -> assertThat(line)
+				.startsWith(checkedIn.getId() + ",PURCHASED,General,10.0,")
+				.contains(",\"Doe, \"\"JD\"\"\",jd@example.com,")
+				.doesNotEndWith(","));
+		assertThat(lines).anySatisfy(line -> assertThat(line).contains(",'=1+1,formula@example.com,").endsWith(","));
+	}
+
+	@Test
+	void ndjsonHasOneObjectPerTicket() throws Exception {
+		User organizer = user("Ndjson organizer", "ndjson-organizer@example.com");
+		Event event = event(organizer);
+		Ticket ticket = ticketService.purchaseTicket(
+				organizer.getId(), event.getId(), event.getTicketTypes().get(0).getId());
+
+		ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+		attendeeExportService.exportAttendees(
+				organizer.getId(), event.getId(), AttendeeExportFormatEnum.NDJSON, () -> ndjson);
+
+		JsonNode row = objectMapper.readTree(ndjson.toString(StandardCharsets.UTF_8).strip());
+		assertThat(row.get("ticketId").asText()).isEqualTo(ticket.getId().toString());
+		assertThat(row.get("purchaserEmail").asText()).isEqualTo("ndjson-organizer@example.com");
+		assertThat(row.get("checkedInAt").isNull()).isTrue();
+	}
+
+	private User user(String name, String email) {
+		User user = new User();
+		user.setId(UUID.randomUUID());
+		user.setName(name);
+		user.setEmail(email);
+		return userRepository.save(user);
+	}
+
+	private Event event(User organizer) {
+		Event event = new Event();
+		event.setName("Stadium show");
+		event.setVenue("Stadium");
+		event.setStatus(EventStatusEnum.PUBLISHED);
+		event.setOrganizer(organizer);
+		TicketType ticketType = new TicketType();
+		ticketType.setName("General");
+		ticketType.setPrice(10.0);
+		ticketType.setTotalAvailable(100);
+		ticketType.setEvent(event);
+		event.setTicketTypes(new ArrayList<>(List.of(ticketType)));
+		return eventRepository.save(event);
+	}
+}
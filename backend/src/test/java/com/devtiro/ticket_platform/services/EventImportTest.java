@@ -0,0 +1,126 @@
+package com.devtiro.ticket_platform.services;
+
+import com.devtiro.ticket_platform.Repositories.UserRepository;
+import com.devtiro.ticket_platform.domain.EventImportStatusEnum;
+import com.devtiro.ticket_platform.domain.dtos.EventImportResultDto;
+import com.devtiro.ticket_platform.domain.entities.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class EventImportTest {
+	private static final String EVENT = "{\"name\":\"Festival %d\",\"venue\":\"Field\",\"status\":\"DRAFT\","
+			+ "\"ticketTypes\":[{\"name\":\"Weekend\",\"price\":150.0,\"totalAvailable\":5000}]}";
+
+	@Autowired
+	private EventImportService eventImportService;
+	@Autowired
+	private EventService eventService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private UUID organizerId;
+
+	@BeforeEach
+	void createOrganizer() {
+		User organizer = new User();
+		organizer.setId(UUID.randomUUID());
+		organizer.setName("partner");
+		organizer.setEmail("partner@example.com");
+		userRepository.save(organizer);
+		organizerId = organizer.getId();
+	}
+
+	@Test
+	void ndjsonIsSavedInChunksOfBatchedInserts() throws Exception {
+		StringBuilder ndjson = new StringBuilder();
+		for (int i = 0; i < 1100; i++) {
+			ndjson.append(EVENT.formatted(i)).append('\n');
+		}
+		List<Integer> chunkSizes = new ArrayList<>();
+		List<EventImportResultDto> results = new ArrayList<>();
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+		try {
+			eventImportService.importEvents(organizerId, stream(ndjson.toString()), chunk -> {
+				chunkSizes.add(chunk.size());
+				results.addAll(chunk);
+			});
+			// Organizer check, then per chunk one batch each for events and ticket types
+			// and the search indexer's single reload after commit
+			assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1 + 3 * 3);
+		} finally {
+			statistics.setStatisticsEnabled(false);
+		}
+
+		assertThat(chunkSizes).containsExactly(500, 500, 100);
+		assertThat(results).extracting(EventImportResultDto::getIndex)
+				.containsExactlyElementsOf(IntStream.range(0, 1100).boxed().toList());
+		assertThat(results).allSatisfy(result -> {
+			assertThat(result.getStatus()).isEqualTo(EventImportStatusEnum.CREATED);
+			assertThat(result.getId()).isNotNull();
+		});
+		assertThat(eventService.listEventsForOrganizer(organizerId, PageRequest.of(0, 1)).getTotalElements())
+				.isEqualTo(1100);
+	}
+
+	@Test
+	void invalidRecordsAreRejectedAndTheRestSaved() throws Exception {
+		String array = "[" + EVENT.formatted(0) + ","
+				+ "{\"venue\":\"Field\",\"status\":\"DRAFT\",\"ticketTypes\":[{\"name\":\"Day\",\"price\":50}]},"
+				+ "{\"name\":\"Bad price\",\"venue\":\"Field\",\"status\":\"DRAFT\",\"ticketTypes\":[{\"name\":\"Day\",\"price\":\"free\"}]},"
+				+ EVENT.formatted(3) + "]";
+
+		List<EventImportResultDto> results = importAll(array);
+
+		assertThat(results).extracting(EventImportResultDto::getStatus).containsExactly(
+				EventImportStatusEnum.CREATED, EventImportStatusEnum.REJECTED,
+				EventImportStatusEnum.REJECTED, EventImportStatusEnum.CREATED);
+		assertThat(results.get(1).getError()).isEqualTo("name: Event name is required");
+		assertThat(results.get(2).getError()).startsWith("Unreadable event");
+		assertThat(eventService.listEventsForOrganizer(organizerId, PageRequest.of(0, 1)).getTotalElements())
+				.isEqualTo(2);
+	}
+
+	@Test
+	void malformedJsonStopsTheImportAfterSavingWhatWasRead() throws Exception {
+		String ndjson = EVENT.formatted(0) + "\n" + EVENT.formatted(1) + "\n{\"name\": \"Cut off\n";
+
+		List<EventImportResultDto> results = importAll(ndjson);
+
+		assertThat(results).extracting(EventImportResultDto::getStatus).containsExactly(
+				EventImportStatusEnum.CREATED, EventImportStatusEnum.CREATED, EventImportStatusEnum.ABORTED);
+		assertThat(results.get(2).getIndex()).isEqualTo(2);
+		assertThat(eventService.listEventsForOrganizer(organizerId, PageRequest.of(0, 1)).getTotalElements())
+				.isEqualTo(2);
+	}
+
+	private List<EventImportResultDto> importAll(String body) throws Exception {
+		List<EventImportResultDto> results = new ArrayList<>();
+		eventImportService.importEvents(organizerId, stream(body), results::addAll);
+		return results;
+	}
+
+	private static ByteArrayInputStream stream(String body) {
+		return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+	}
+}
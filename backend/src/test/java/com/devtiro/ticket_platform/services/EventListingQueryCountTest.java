@@ -0,0 +1,77 @@
+package com.devtiro.ticket_platform.services;
+
+import com.devtiro.ticket_platform.Repositories.UserRepository;
+import com.devtiro.ticket_platform.domain.CreateEventRequest;
+import com.devtiro.ticket_platform.domain.CreateTicketTypeRequest;
+import com.devtiro.ticket_platform.domain.dtos.ListEventResponseDto;
+import com.devtiro.ticket_platform.domain.entities.EventStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.User;
+import com.devtiro.ticket_platform.mappers.EventMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class EventListingQueryCountTest {
+
+	@Autowired
+	private EventService eventService;
+	@Autowired
+	private EventMapper eventMapper;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	void organizerListingUsesSameNumberOfStatementsForAnyPageSize() {
+		User organizer = new User();
+		organizer.setId(UUID.randomUUID());
+		organizer.setName("organizer");
+		organizer.setEmail("organizer@example.com");
+		userRepository.save(organizer);
+		for (int i = 0; i < 60; i++) {
+			eventService.createEvent(organizer.getId(), new CreateEventRequest(
+					"Event " + i, null, null, "Venue", null, null, EventStatusEnum.DRAFT,
+					List.of(new CreateTicketTypeRequest("General", 10.0, null, 100),
+							new CreateTicketTypeRequest("VIP", 50.0, null, 10))));
+		}
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		try {
+			long statementsForFive = statementsToList(statistics, organizer.getId(), 5);
+			long statementsForFifty = statementsToList(statistics, organizer.getId(), 50);
+
+			assertThat(statementsForFive).isEqualTo(statementsForFifty);
+			// ID page, count, events with ticket types
+			assertThat(statementsForFifty).isLessThanOrEqualTo(3);
+		} finally {
+			statistics.setStatisticsEnabled(false);
+		}
+	}
+
+	private long statementsToList(Statistics statistics, UUID organizerId, int pageSize) {
+		statistics.clear();
+		Page<ListEventResponseDto> page = transactionTemplate.execute(status -> eventService
+				.listEventsForOrganizer(organizerId, PageRequest.of(0, pageSize, Sort.by("name")))
+				.map(eventMapper::toListEventResponseDto));
+		assertThat(page.getContent()).hasSize(pageSize)
+				.allSatisfy(event -> assertThat(event.getTicketTypes()).hasSize(2));
+		return statistics.getPrepareStatementCount();
+	}
+}
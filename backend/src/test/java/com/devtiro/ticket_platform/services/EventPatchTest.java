@@ -0,0 +1,129 @@
+package com.devtiro.ticket_platform.services;
+
+import com.devtiro.ticket_platform.Repositories.UserRepository;
+import com.devtiro.ticket_platform.domain.CreateEventRequest;
+import com.devtiro.ticket_platform.domain.CreateTicketTypeRequest;
+import com.devtiro.ticket_platform.domain.PatchEventRequest;
+import com.devtiro.ticket_platform.domain.PatchTicketTypeRequest;
+import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.domain.entities.EventStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.TicketType;
+import com.devtiro.ticket_platform.domain.entities.User;
+import com.devtiro.ticket_platform.exceptions.EventVersionConflictException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class EventPatchTest {
+
+	@Autowired
+	private EventService eventService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	private UUID organizerId;
+
+	@BeforeEach
+	void createOrganizer() {
+		User organizer = new User();
+		organizer.setId(UUID.randomUUID());
+		organizer.setName("organizer");
+		organizer.setEmail("organizer@example.com");
+		userRepository.save(organizer);
+		organizerId = organizer.getId();
+	}
+
+	@Test
+	void changingOnePriceLoadsAndWritesOnlyThatTicketType() {
+		Event event = createEvent(200);
+		TicketType tier = event.getTicketTypes().get(100);
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+		try {
+			eventService.patchEventForOrganizer(organizerId, event.getId(), patch(event.getVersion(),
+					new PatchTicketTypeRequest(tier.getId(), null, 99.0, null, null)));
+
+			// The event and the one ticket type, then one UPDATE each
+			assertThat(statistics.getEntityLoadCount()).isEqualTo(2);
+			assertThat(statistics.getEntityUpdateCount()).isEqualTo(2);
+		} finally {
+			statistics.setStatisticsEnabled(false);
+		}
+
+		Event patched = reload(event.getId());
+		assertThat(patched.getVersion()).isEqualTo(event.getVersion() + 1);
+		assertThat(patched.getName()).isEqualTo(event.getName());
+		assertThat(patched.getTicketTypes()).hasSize(200).allSatisfy(ticketType -> assertThat(ticketType.getPrice())
+				.isEqualTo(ticketType.getId().equals(tier.getId()) ? 99.0 : 10.0));
+	}
+
+	@Test
+	void staleVersionIsRejected() {
+		Event event = createEvent(1);
+		PatchEventRequest rename = patch(event.getVersion());
+		rename.setName("Renamed");
+
+		eventService.patchEventForOrganizer(organizerId, event.getId(), rename);
+
+		assertThatThrownBy(() -> eventService.patchEventForOrganizer(organizerId, event.getId(), rename))
+				.isInstanceOf(EventVersionConflictException.class);
+		assertThat(reload(event.getId()).getVersion()).isEqualTo(event.getVersion() + 1);
+	}
+
+	@Test
+	void ticketTypesCanBeAddedAndRemoved() {
+		Event event = createEvent(3);
+		PatchEventRequest patch = patch(event.getVersion(), new PatchTicketTypeRequest(null, "Backstage", 120.0, null, 5));
+		patch.setRemovedTicketTypeIds(List.of(event.getTicketTypes().get(0).getId()));
+
+		eventService.patchEventForOrganizer(organizerId, event.getId(), patch);
+
+		assertThat(reload(event.getId()).getTicketTypes())
+				.extracting(TicketType::getName)
+				.containsExactlyInAnyOrder("Tier 1", "Tier 2", "Backstage");
+	}
+
+	private Event createEvent(int ticketTypes) {
+		List<CreateTicketTypeRequest> tiers = new ArrayList<>();
+		for (int i = 0; i < ticketTypes; i++) {
+			tiers.add(new CreateTicketTypeRequest("Tier " + i, 10.0, null, 100));
+		}
+		Event created = eventService.createEvent(organizerId, new CreateEventRequest(
+				"Festival", null, null, "Venue", null, null, EventStatusEnum.DRAFT, tiers));
+		return reload(created.getId());
+	}
+
+	private Event reload(UUID eventId) {
+		return transactionTemplate.execute(status -> {
+			Event event = eventService.getEventForOrganizer(organizerId, eventId).orElseThrow();
+			event.getTicketTypes().size();
+			return event;
+		});
+	}
+
+	private static PatchEventRequest patch(Long version, PatchTicketTypeRequest... ticketTypes) {
+		PatchEventRequest patch = new PatchEventRequest();
+		patch.setVersion(version);
+		patch.setTicketTypes(List.of(ticketTypes));
+		return patch;
+	}
+}
@@ -0,0 +1,68 @@
+package com.devtiro.ticket_platform.services;
+
+import com.devtiro.ticket_platform.Repositories.UserRepository;
+import com.devtiro.ticket_platform.domain.CreateEventRequest;
+import com.devtiro.ticket_platform.domain.CreateTicketTypeRequest;
+import com.devtiro.ticket_platform.domain.PageCursor;
+import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.domain.entities.EventStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class EventScrollTest {
+
+	@Autowired
+	private EventService eventService;
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void scrollingVisitsEveryEventOnceNewestFirst() {
+		User organizer = new User();
+		organizer.setId(UUID.randomUUID());
+		organizer.setName("scroll organizer");
+		organizer.setEmail("scroll-organizer@example.com");
+		userRepository.save(organizer);
+		List<UUID> created = new ArrayList<>();
+		for (int i = 0; i < 25; i++) {
+			created.add(eventService.createEvent(organizer.getId(), new CreateEventRequest(
+					"Event " + i, null, null, "Venue", null, null, EventStatusEnum.DRAFT,
+					List.of(new CreateTicketTypeRequest("General", 10.0, null, 100)))).getId());
+		}
+
+		List<Event> visited = new ArrayList<>();
+		String cursor = null;
+		int slices = 0;
+		do {
+			Slice<Event> slice = eventService.scrollEventsForOrganizer(organizer.getId(), PageCursor.decode(cursor), 7);
+			visited.addAll(slice.getContent());
+			cursor = PageCursor.next(slice, event -> new PageCursor(event.getCreatedAt(), event.getId()));
+			slices++;
+		} while (cursor != null);
+
+		assertThat(slices).isEqualTo(4);
+		assertThat(visited).extracting(Event::getId).containsExactlyInAnyOrderElementsOf(created);
+		assertThat(visited).isSortedAccordingTo(Comparator
+				.comparing(Event::getCreatedAt, Comparator.reverseOrder())
+				.thenComparing(Event::getId, Comparator.reverseOrder()));
+	}
+
+	@Test
+	void cursorRoundTripsThroughItsToken() {
+		PageCursor cursor = new PageCursor(LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_000), UUID.randomUUID());
+
+		assertThat(PageCursor.decode(cursor.encode())).isEqualTo(cursor);
+	}
+}
@@ -0,0 +1,92 @@
+package com.devtiro.ticket_platform.services;
+
+import com.devtiro.ticket_platform.Repositories.EventRepository;
+import com.devtiro.ticket_platform.Repositories.TicketRepository;
+import com.devtiro.ticket_platform.Repositories.UserRepository;
+import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.domain.entities.EventStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.TicketStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.TicketType;
+import com.devtiro.ticket_platform.domain.entities.User;
+import com.devtiro.ticket_platform.exceptions.TicketsSoldOutException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class TicketPurchaseConcurrencyTest {
+	private static final int STOCK = 1_000;
+	private static final int PURCHASES = 12_000;
+
+	@Autowired
+	private TicketService ticketService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private EventRepository eventRepository;
+	@Autowired
+	private TicketRepository ticketRepository;
+
+	@Test
+	void parallelPurchasesNeverOversell() throws Exception {
+		User buyer = new User();
+		buyer.setId(UUID.randomUUID());
+		buyer.setName("buyer");
+		buyer.setEmail("buyer@example.com");
+		userRepository.save(buyer);
+
+		Event event = new Event();
+		event.setName("On-sale spike");
+		event.setVenue("Arena");
+		event.setStatus(EventStatusEnum.PUBLISHED);
+		event.setOrganizer(buyer);
+		TicketType ticketType = new TicketType();
+		ticketType.setName("General");
+		ticketType.setPrice(10.0);
+		ticketType.setTotalAvailable(STOCK);
+		ticketType.setEvent(event);
+		event.setTicketTypes(new ArrayList<>(List.of(ticketType)));
+		Event saved = eventRepository.save(event);
+		UUID eventId = saved.getId();
+		UUID ticketTypeId = saved.getTicketTypes().get(0).getId();
+
+		AtomicInteger sold = new AtomicInteger();
+		AtomicInteger soldOut = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		try (ExecutorService pool = Executors.newFixedThreadPool(64)) {
+			for (int i = 0; i < PURCHASES; i++) {
+				futures.add(pool.submit(() -> {
+					start.await();
+					try {
+						ticketService.purchaseTicket(buyer.getId(), eventId, ticketTypeId);
+						sold.incrementAndGet();
+					} catch (TicketsSoldOutException ex) {
+						soldOut.incrementAndGet();
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+
+		assertThat(sold.get()).isEqualTo(STOCK);
+		assertThat(soldOut.get()).isEqualTo(PURCHASES - STOCK);
+		assertThat(ticketRepository.countByTicketTypeIdAndStatus(ticketTypeId, TicketStatusEnum.PURCHASED))
+				.isEqualTo(STOCK);
+	}
+}
@@ -0,0 +1,77 @@
+package com.devtiro.ticket_platform.services;
+
+import com.devtiro.ticket_platform.Repositories.TicketRepository;
+import com.devtiro.ticket_platform.TestFixtures;
+import com.devtiro.ticket_platform.domain.CreateEventRequest;
+import com.devtiro.ticket_platform.domain.CreateTicketTypeRequest;
+import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.domain.entities.EventStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.TicketStatusEnum;
+import com.devtiro.ticket_platform.exceptions.TicketSalesClosedException;
+import com.devtiro.ticket_platform.inventory.TicketInventory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class TicketSalesWindowTest {
+	private static final int STOCK = 5;
+
+	@Autowired
+	private TicketService ticketService;
+	@Autowired
+	private EventService eventService;
+	@Autowired
+	private TicketInventory ticketInventory;
+	@Autowired
+	private TicketRepository ticketRepository;
+	@Autowired
+	private ApplicationContext context;
+	private TestFixtures fixtures;
+
+	@BeforeEach
+	void createFixtures() {
+		fixtures = new TestFixtures(context);
+	}
+
+	@Test
+	void ticketsAreOnlySoldForPublishedEventsInsideTheirSalesWindow() {
+		UUID buyerId = fixtures.user("buyer");
+		LocalDateTime now = LocalDateTime.now();
+
+		assertNotOnSale(buyerId, event(EventStatusEnum.DRAFT, null, null));
+		assertNotOnSale(buyerId, event(EventStatusEnum.PUBLISHED, now.plusDays(1), null));
+		assertNotOnSale(buyerId, event(EventStatusEnum.PUBLISHED, now.minusDays(2), now.minusDays(1)));
+
+		Event onSale = event(EventStatusEnum.PUBLISHED, now.minusDays(1), now.plusDays(1));
+		UUID ticketTypeId = onSale.getTicketTypes().getFirst().getId();
+		ticketService.purchaseTicket(buyerId, onSale.getId(), ticketTypeId);
+		ticketService.holdTickets(buyerId, onSale.getId(), ticketTypeId, 2);
+		assertThat(ticketInventory.remaining(onSale.getId(), ticketTypeId)).isEqualTo(STOCK - 3);
+	}
+
+	private void assertNotOnSale(UUID buyerId, Event event) {
+		UUID ticketTypeId = event.getTicketTypes().getFirst().getId();
+		assertThatThrownBy(() -> ticketService.purchaseTicket(buyerId, event.getId(), ticketTypeId))
+				.isInstanceOf(TicketSalesClosedException.class);
+		assertThatThrownBy(() -> ticketService.holdTickets(buyerId, event.getId(), ticketTypeId, 1))
+				.isInstanceOf(TicketSalesClosedException.class);
+		assertThat(ticketInventory.remaining(event.getId(), ticketTypeId)).isEqualTo(STOCK);
+		assertThat(ticketRepository.countByTicketTypeIdAndStatus(ticketTypeId, TicketStatusEnum.PURCHASED)).isZero();
+	}
+
+	private Event event(EventStatusEnum status, LocalDateTime salesStart, LocalDateTime salesEnd) {
+		return eventService.createEvent(fixtures.user("organizer"), new CreateEventRequest(
+				"Sales window", null, null, "Arena", salesStart, salesEnd, status,
+				List.of(new CreateTicketTypeRequest("General", 10.0, null, STOCK))));
+	}
+}
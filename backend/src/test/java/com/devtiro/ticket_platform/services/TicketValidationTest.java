@@ -0,0 +1,204 @@
+package com.devtiro.ticket_platform.services;
+
+import com.devtiro.ticket_platform.Repositories.EventRepository;
+import com.devtiro.ticket_platform.Repositories.TicketValidationRepository;
+import com.devtiro.ticket_platform.Repositories.UserRepository;
+import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.domain.entities.EventStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.Ticket;
+import com.devtiro.ticket_platform.domain.entities.TicketType;
+import com.devtiro.ticket_platform.domain.entities.TicketValidationMethod;
+import com.devtiro.ticket_platform.domain.entities.TicketValidationStatusEnum;
+import com.devtiro.ticket_platform.domain.entities.User;
+import com.devtiro.ticket_platform.exceptions.EventNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Scans wait long enough in the writer to still be queued when a gate reopens
+@SpringBootTest(properties = "app.validations.write-behind.max-delay-ms=500")
+class TicketValidationTest {
+
+	@Autowired
+	private TicketValidationService ticketValidationService;
+	@Autowired
+	private TicketService ticketService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private EventRepository eventRepository;
+	@Autowired
+	private TicketValidationRepository ticketValidationRepository;
+
+	@Test
+	void concurrentScansOfOneCodeAdmitExactlyOnce() throws Exception {
+		User organizer = organizer("gate-organizer@example.com");
+		Event event = event(organizer);
+		UUID ticketTypeId = event.getTicketTypes().get(0).getId();
+		Ticket ticket = ticketService.purchaseTicket(organizer.getId(), event.getId(), ticketTypeId);
+		ticketService.purchaseTicket(organizer.getId(), event.getId(), ticketTypeId);
+		String qrValue = ticket.getQrCodes().get(0).getValue();
+
+		assertThat(ticketValidationService.openGate(organizer.getId(), event.getId())).isEqualTo(2);
+
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<TicketValidationStatusEnum>> scans = new ArrayList<>();
+		try (ExecutorService pool = Executors.newFixedThreadPool(16)) {
+			for (int i = 0; i < 32; i++) {
+				scans.add(pool.submit(() -> {
+					start.await();
+					return ticketValidationService.validateTicket(organizer.getId(), qrValue, TicketValidationMethod.QR_SCAN).getStatus();
+				}));
+			}
+			start.countDown();
+		}
+		List<TicketValidationStatusEnum> results = new ArrayList<>();
+		for (Future<TicketValidationStatusEnum> scan : scans) {
+			results.add(scan.get());
+		}
+
+		assertThat(results).filteredOn(status -> status == TicketValidationStatusEnum.VALID).hasSize(1);
+		assertThat(results).filteredOn(status -> status == TicketValidationStatusEnum.INVALID).hasSize(31);
+		awaitValidations(ticket.getId(), 32);
+
+		// A reopened gate remembers who is already inside
+		ticketValidationService.closeGate(organizer.getId(), event.getId());
+		ticketValidationService.openGate(organizer.getId(), event.getId());
+		assertThat(ticketValidationService.validateTicket(organizer.getId(), ticket.getId().toString(), TicketValidationMethod.MANUAL)
+				.getStatus()).isEqualTo(TicketValidationStatusEnum.INVALID);
+	}
+
+	@Test
+	void signedCodesIssuedAfterGateOpensAreAdmittedInMemory() throws Exception {
+		User organizer = organizer("late-organizer@example.com");
+		Event event = event(organizer);
+		ticketValidationService.openGate(organizer.getId(), event.getId());
+		Ticket late = ticketService.purchaseTicket(
+				organizer.getId(), event.getId(), event.getTicketTypes().get(0).getId());
+		String qrValue = late.getQrCodes().get(0).getValue();
+
+		assertThat(ticketValidationService.validateTicket(organizer.getId(), qrValue, TicketValidationMethod.QR_SCAN).getStatus())
+				.isEqualTo(TicketValidationStatusEnum.VALID);
+		assertThat(ticketValidationService.validateTicket(organizer.getId(), qrValue, TicketValidationMethod.QR_SCAN).getStatus())
+				.isEqualTo(TicketValidationStatusEnum.INVALID);
+		awaitValidations(late.getId(), 2);
+	}
+
+	@Test
+	void reopenedGatesRememberScansNotYetWritten() {
+		User organizer = organizer("reopen-organizer@example.com");
+		Event event = event(organizer);
+		Ticket ticket = ticketService.purchaseTicket(
+				organizer.getId(), event.getId(), event.getTicketTypes().get(0).getId());
+		String qrValue = ticket.getQrCodes().get(0).getValue();
+		ticketValidationService.openGate(organizer.getId(), event.getId());
+
+		assertThat(ticketValidationService.validateTicket(organizer.getId(), qrValue, TicketValidationMethod.QR_SCAN).getStatus())
+				.isEqualTo(TicketValidationStatusEnum.VALID);
+		// Straight away, while the writer is still holding the scan back for a batch
+		ticketValidationService.closeGate(organizer.getId(), event.getId());
+		ticketValidationService.openGate(organizer.getId(), event.getId());
+
+		assertThat(ticketValidationService.validateTicket(organizer.getId(), qrValue, TicketValidationMethod.QR_SCAN).getStatus())
+				.isEqualTo(TicketValidationStatusEnum.INVALID);
+	}
+
+	@Test
+	void closedGatesFallBackToTheDatabase() {
+		User organizer = organizer("closed-organizer@example.com");
+		Event event = event(organizer);
+		Ticket ticket = ticketService.purchaseTicket(
+				organizer.getId(), event.getId(), event.getTicketTypes().get(0).getId());
+		String qrValue = ticket.getQrCodes().get(0).getValue();
+
+		assertThat(ticketValidationService.validateTicket(organizer.getId(), qrValue, TicketValidationMethod.QR_SCAN).getStatus())
+				.isEqualTo(TicketValidationStatusEnum.VALID);
+		assertThat(ticketValidationService.validateTicket(organizer.getId(), qrValue, TicketValidationMethod.QR_SCAN).getStatus())
+				.isEqualTo(TicketValidationStatusEnum.INVALID);
+		assertThat(ticketValidationRepository.countByTicketId(ticket.getId())).isEqualTo(2);
+	}
+
+	@Test
+	void forgedAndUnknownCodesAreInvalid() {
+		User organizer = organizer("forged-organizer@example.com");
+		Event event = event(organizer);
+		ticketValidationService.openGate(organizer.getId(), event.getId());
+		String qrValue = ticketService.purchaseTicket(
+				organizer.getId(), event.getId(), event.getTicketTypes().get(0).getId())
+				.getQrCodes().get(0).getValue();
+		char last = qrValue.charAt(qrValue.length() - 1);
+		String forged = qrValue.substring(0, qrValue.length() - 1) + (last == 'A' ? 'B' : 'A');
+
+		assertThat(ticketValidationService.validateTicket(organizer.getId(), forged, TicketValidationMethod.QR_SCAN).getStatus())
+				.isEqualTo(TicketValidationStatusEnum.INVALID);
+		assertThat(ticketValidationService.validateTicket(organizer.getId(), "not-a-ticket", TicketValidationMethod.QR_SCAN).getStatus())
+				.isEqualTo(TicketValidationStatusEnum.INVALID);
+	}
+
+	@Test
+	void onlyTheOrganizerAndStaffOfAnEventLetItsTicketsIn() {
+		User organizer = organizer("door-organizer@example.com");
+		Event event = event(organizer);
+		Ticket ticket = ticketService.purchaseTicket(
+				organizer.getId(), event.getId(), event.getTicketTypes().get(0).getId());
+		String qrValue = ticket.getQrCodes().get(0).getValue();
+		UUID outsiderId = organizer("door-outsider@example.com").getId();
+		User staff = organizer("door-staff@example.com");
+		staff.getStaffingEvents().add(event);
+		userRepository.save(staff);
+
+		// Turned away both by the database and by an open gate
+		assertThatThrownBy(() -> ticketValidationService.validateTicket(outsiderId, qrValue, TicketValidationMethod.QR_SCAN))
+				.isInstanceOf(EventNotFoundException.class);
+		ticketValidationService.openGate(organizer.getId(), event.getId());
+		assertThatThrownBy(() -> ticketValidationService.validateTicket(
+				outsiderId, ticket.getId().toString(), TicketValidationMethod.MANUAL))
+				.isInstanceOf(EventNotFoundException.class);
+		assertThat(ticketValidationRepository.countByTicketId(ticket.getId())).isZero();
+
+		assertThat(ticketValidationService.validateTicket(staff.getId(), qrValue, TicketValidationMethod.QR_SCAN).getStatus())
+				.isEqualTo(TicketValidationStatusEnum.VALID);
+	}
+
+	private void awaitValidations(UUID ticketId, long expected) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5_000;
+		while (ticketValidationRepository.countByTicketId(ticketId) < expected && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		assertThat(ticketValidationRepository.countByTicketId(ticketId)).isEqualTo(expected);
+	}
+
+	private User organizer(String email) {
+		User organizer = new User();
+		organizer.setId(UUID.randomUUID());
+		organizer.setName("organizer");
+		organizer.setEmail(email);
+		return userRepository.save(organizer);
+	}
+
+	private Event event(User organizer) {
+		Event event = new Event();
+		event.setName("Stadium show");
+		event.setVenue("Stadium");
+		event.setStatus(EventStatusEnum.PUBLISHED);
+		event.setOrganizer(organizer);
+		TicketType ticketType = new TicketType();
+		ticketType.setName("General");
+		ticketType.setPrice(10.0);
+		ticketType.setTotalAvailable(100);
+		ticketType.setEvent(event);
+		event.setTicketTypes(new ArrayList<>(List.of(ticketType)));
+		return eventRepository.save(event);
+	}
+}
@@ -0,0 +1,198 @@
+package com.devtiro.ticket_platform.services.impl;
+
+import com.devtiro.ticket_platform.Repositories.PurchaseIdempotencyKeyRepository;
+import com.devtiro.ticket_platform.Repositories.TicketRepository;
+import com.devtiro.ticket_platform.TestFixtures;
+import com.devtiro.ticket_platform.domain.entities.Event;
+import com.devtiro.ticket_platform.domain.entities.PurchaseIdempotencyKey;
+import com.devtiro.ticket_platform.exceptions.TicketWriteBacklogException;
+import com.devtiro.ticket_platform.services.impl.TicketWriteBehindBuffer.PendingTicket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class TicketWriteBehindBufferTest {
+
+	@Autowired
+	private TicketRepository ticketRepository;
+	@Autowired
+	private PurchaseIdempotencyKeyRepository purchaseIdempotencyKeyRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	@Autowired
+	private ApplicationContext context;
+
+	private final AtomicInteger commits = new AtomicInteger();
+	private UUID buyerId;
+	private UUID eventId;
+	private UUID ticketTypeId;
+
+	@BeforeEach
+	void createEvent() {
+		TestFixtures fixtures = new TestFixtures(context);
+		buyerId = fixtures.user("buyer");
+		Event event = fixtures.event("Write-behind", 100);
+		eventId = event.getId();
+		ticketTypeId = event.getTicketTypes().getFirst().getId();
+	}
+
+	@Test
+	void queuedTicketsAreWrittenInBatches() throws Exception {
+		// Queued before the flusher starts, so it finds them all waiting
+		TicketWriteBehindBuffer writer = writer(10, 5, 1_000);
+		List<PendingTicket> tickets = List.of(
+				ticket(ticketTypeId), ticket(ticketTypeId), ticket(ticketTypeId),
+				ticket(ticketTypeId), ticket(ticketTypeId), ticket(ticketTypeId), ticket(ticketTypeId));
+		tickets.forEach(writer::submit);
+		try {
+			writer.start();
+			tickets.forEach(ticket -> ticket.written().join());
+		} finally {
+			writer.stop();
+		}
+
+		assertThat(commits).hasValue(2);
+		assertThat(tickets).allSatisfy(ticket -> assertThat(ticketRepository.existsById(ticket.ticketId())).isTrue());
+	}
+
+	@Test
+	void producersAreTurnedAwayWhileTheBacklogIsFull() throws Exception {
+		TicketWriteBehindBuffer writer = writer(1, 5, 50);
+		PendingTicket queued = ticket(ticketTypeId);
+		writer.submit(queued);
+		try {
+			assertThatThrownBy(() -> writer.submit(ticket(ticketTypeId)))
+					.isInstanceOf(TicketWriteBacklogException.class);
+			writer.start();
+			queued.written().join();
+		} finally {
+			writer.stop();
+		}
+
+		assertThat(ticketRepository.existsById(queued.ticketId())).isTrue();
+	}
+
+	@Test
+	void aFailedBatchIsRetriedOneTicketAtATime() throws Exception {
+		TicketWriteBehindBuffer writer = writer(10, 3, 1_000);
+		PendingTicket first = ticket(ticketTypeId);
+		// No such ticket type, so this row breaks whatever batch it is in
+		PendingTicket bad = ticket(UUID.randomUUID());
+		PendingTicket last = ticket(ticketTypeId);
+		List.of(first, bad, last).forEach(writer::submit);
+		try {
+			writer.start();
+			assertThatThrownBy(() -> bad.written().join()).isInstanceOf(RuntimeException.class);
+			first.written().join();
+			last.written().join();
+		} finally {
+			writer.stop();
+		}
+
+		assertThat(commits).hasValue(2);
+		assertThat(ticketRepository.existsById(first.ticketId())).isTrue();
+		assertThat(ticketRepository.existsById(bad.ticketId())).isFalse();
+		assertThat(ticketRepository.existsById(last.ticketId())).isTrue();
+	}
+
+	@Test
+	void ticketsSubmittedTogetherAreStoredOrFailedTogether() throws Exception {
+		TicketWriteBehindBuffer writer = writer(10, 5, 1_000);
+		PendingTicket good = ticket(ticketTypeId);
+		PendingTicket bad = ticket(UUID.randomUUID());
+		CompletableFuture<Void> group = writer.submitAll(List.of(good, bad));
+		PendingTicket alone = ticket(ticketTypeId);
+		CompletableFuture<Void> single = writer.submit(alone);
+		try {
+			writer.start();
+			assertThatThrownBy(group::join).isInstanceOf(RuntimeException.class);
+			single.join();
+		} finally {
+			writer.stop();
+		}
+
+		assertThat(good.written()).isCompletedExceptionally();
+		assertThat(ticketRepository.existsById(good.ticketId())).isFalse();
+		assertThat(ticketRepository.existsById(alone.ticketId())).isTrue();
+	}
+
+	@Test
+	void ticketsBoughtUnderAnIdempotencyKeyAreStoredWithTheirClaim() throws Exception {
+		PurchaseIdempotencyKey claim = purchaseIdempotencyKeyRepository.save(PurchaseIdempotencyKey.builder()
+				.userId(buyerId)
+				.idempotencyKey("checkout-1")
+				.eventId(eventId)
+				.ticketTypeId(ticketTypeId)
+				.createdAt(LocalDateTime.now())
+				.build());
+		TicketWriteBehindBuffer writer = writer(10, 5, 1_000);
+		PendingTicket claimed = ticket(ticketTypeId, claim.getId());
+		// A claim deleted as abandoned takes its ticket down with it
+		PendingTicket released = ticket(ticketTypeId, UUID.randomUUID());
+		writer.submit(claimed);
+		writer.submit(released);
+		try {
+			writer.start();
+			claimed.written().join();
+			assertThatThrownBy(() -> released.written().join()).isInstanceOf(RuntimeException.class);
+		} finally {
+			writer.stop();
+		}
+
+		assertThat(purchaseIdempotencyKeyRepository.findById(claim.getId()))
+				.hasValueSatisfying(key -> assertThat(key.getTicketId()).isEqualTo(claimed.ticketId()));
+		assertThat(ticketRepository.existsById(released.ticketId())).isFalse();
+	}
+
+	/**
+	 * A writer of its own that is not started yet, counting the transactions
+	 * it commits.
+	 */
+	private TicketWriteBehindBuffer writer(int capacity, int batchSize, long enqueueTimeoutMillis) {
+		PlatformTransactionManager counting = new PlatformTransactionManager() {
+			@Override
+			public TransactionStatus getTransaction(TransactionDefinition definition) {
+				return transactionManager.getTransaction(definition);
+			}
+
+			@Override
+			public void commit(TransactionStatus status) {
+				transactionManager.commit(status);
+				commits.incrementAndGet();
+			}
+
+			@Override
+			public void rollback(TransactionStatus status) {
+				transactionManager.rollback(status);
+			}
+		};
+		return new TicketWriteBehindBuffer(jdbcTemplate, context, counting, capacity, batchSize, 100, enqueueTimeoutMillis);
+	}
+
+	private PendingTicket ticket(UUID ticketTypeId) {
+		return ticket(ticketTypeId, null);
+	}
+
+	private PendingTicket ticket(UUID ticketTypeId, UUID idempotencyKeyId) {
+		return new PendingTicket(UUID.randomUUID(), eventId, ticketTypeId, buyerId, UUID.randomUUID(),
+				UUID.randomUUID().toString(), LocalDateTime.now(), idempotencyKeyId, new CompletableFuture<>());
+	}
+}
@@ -0,0 +1,68 @@
+package com.devtiro.ticket_platform.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QrCodeSignerTest {
+	private static final String OLD_KEY = "1:" + key(1);
+	private static final String NEW_KEY = "2:" + key(2);
+
+	@Test
+	void signedTokenRoundTrips() {
+		QrCodeSigner signer = new QrCodeSigner(OLD_KEY, 1, Duration.ofDays(1));
+		QrCodeToken token = signer.issue(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+		String value = signer.sign(token);
+
+		assertThat(QrCodeSigner.isSigned(value)).isTrue();
+		assertThat(signer.verify(value)).contains(new QrCodeToken(
+				token.ticketId(), token.eventId(), token.ticketTypeId(),
+				Instant.ofEpochSecond(token.expiresAt().getEpochSecond())));
+	}
+
+	@Test
+	void anyChangedCharacterIsRejected() {
+		QrCodeSigner signer = new QrCodeSigner(OLD_KEY, 1, Duration.ofDays(1));
+		String value = signer.sign(signer.issue(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()));
+
+		for (int i = 0; i < value.length(); i++) {
+			char replacement = value.charAt(i) == 'A' ? 'B' : 'A';
+			String tampered = value.substring(0, i) + replacement + value.substring(i + 1);
+			assertThat(signer.verify(tampered)).as("position %d", i).isEmpty();
+		}
+	}
+
+	@Test
+	void rotationKeepsOldCodesValidUntilTheirKeyIsDropped() {
+		QrCodeSigner before = new QrCodeSigner(OLD_KEY, 1, Duration.ofDays(1));
+		QrCodeSigner during = new QrCodeSigner(OLD_KEY + "," + NEW_KEY, 2, Duration.ofDays(1));
+		QrCodeSigner after = new QrCodeSigner(NEW_KEY, 2, Duration.ofDays(1));
+		String oldCode = before.sign(before.issue(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()));
+		String newCode = during.sign(during.issue(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()));
+
+		assertThat(during.verify(oldCode)).isPresent();
+		assertThat(before.verify(newCode)).isEmpty();
+		assertThat(after.verify(newCode)).isPresent();
+		assertThat(after.verify(oldCode)).isEmpty();
+	}
+
+	@Test
+	void shortKeysAreRefused() {
+		assertThatThrownBy(() -> new QrCodeSigner("1:" + Base64.getEncoder().encodeToString(new byte[16]), 1, Duration.ofDays(1)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static String key(int seed) {
+		byte[] secret = new byte[32];
+		Arrays.fill(secret, (byte) seed);
+		return Base64.getEncoder().encodeToString(secret);
+	}
+}